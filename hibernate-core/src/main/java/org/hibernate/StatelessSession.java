@@ -9,6 +9,8 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.hibernate.query.NativeQuery;
 
@@ -34,6 +36,18 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	void close();
 
+	/**
+	 * Execute the pending inserts, updates and deletes.
+	 * <p/>
+	 * When JDBC batching is enabled, these are collected into batches of
+	 * {@link org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE} rows per entity type, and only executed once
+	 * a batch is full, before any other operation of the stateless session, or before the transaction completes.
+	 *
+	 * @since 5.5
+	 */
+	default void flushBatch() {
+	}
+
 	/**
 	 * Insert a row.
 	 *
@@ -53,6 +67,45 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Serializable insert(String entityName, Object entity);
 
+	/**
+	 * Insert many rows of a single entity type, through the bulk load facility of the database where the
+	 * {@link org.hibernate.dialect.Dialect} and the JDBC driver provide one, such as the {@code COPY} command of
+	 * PostgreSQL.  The identifiers of the entities are generated and set as by {@link #insert(Object)}.
+	 * <p/>
+	 * Entity types which cannot be bulk loaded, for example because their identifiers are generated by the
+	 * database or their rows span several tables, are inserted one at a time, in JDBC batches.
+	 *
+	 * @param entities new transient instances, all of the same entity type
+	 *
+	 * @return The number of inserted rows
+	 *
+	 * @since 5.5
+	 */
+	default long bulkInsert(Stream<?> entities) {
+		return bulkInsert( null, entities );
+	}
+
+	/**
+	 * Insert many rows of a single entity type.
+	 *
+	 * @param entityName The entityName for the entities to be inserted
+	 * @param entities new transient instances, all of the same entity type
+	 *
+	 * @return The number of inserted rows
+	 *
+	 * @see #bulkInsert(Stream)
+	 * @since 5.5
+	 */
+	default long bulkInsert(String entityName, Stream<?> entities) {
+		long count = 0;
+		final Iterator<?> iterator = entities.iterator();
+		while ( iterator.hasNext() ) {
+			insert( entityName, iterator.next() );
+			count++;
+		}
+		return count;
+	}
+
 	/**
 	 * Update a row.
 	 *
@@ -144,4 +144,18 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * Hint to detach the entities of a scrolled or streamed query once they have been passed downstream.
+	 * A value of {@code true} keeps only the entities of the current row in the persistence context: the entities
+	 * read for the previous row, and those loaded while it was processed, such as lazy associations, are detached
+	 * before the next row is read, so that scrolling through a large result needs a bounded amount of memory.
+	 * Detaching does not cascade, and modifications of the detached entities are not flushed.
+	 *
+	 * @see org.hibernate.query.Query#stream()
+	 * @see org.hibernate.query.Query#scroll()
+	 *
+	 * @since 5.5
+	 */
+	public static final String DETACH_SCROLLED_ENTITIES = "hibernate.query.detachScrolledEntities";
+
 }
@@ -52,7 +52,9 @@ import org.hibernate.internal.log.DeprecationLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
+import org.hibernate.loader.AdaptiveBatchLoadSizingStrategy;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.BatchLoadSizingStrategy;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.LiteralHandlingMode;
@@ -73,6 +75,7 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_LOAD_SIZING_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -90,19 +93,24 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.INCREMENTAL_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
+import static org.hibernate.cfg.AvailableSettings.MAX_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
+import static org.hibernate.cfg.AvailableSettings.ORDER_DELETES;
+import static org.hibernate.cfg.AvailableSettings.ORDER_DYNAMIC_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
@@ -111,11 +119,16 @@ import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
+import static org.hibernate.cfg.AvailableSettings.SESSION_MEMORY_BUDGET;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SLOW_STATEMENTS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SLOW_STATEMENTS_STACK_TRACE_SAMPLING;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -192,12 +205,18 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private BatchLoadSizingStrategy batchLoadSizingStrategy;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean orderDynamicUpdatesEnabled;
+	private boolean orderDeletesEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
+	private boolean incrementalFlushEnabled;
+	private int parallelDirtyCheckingThreshold;
+	private long sessionMemoryBudget;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
@@ -233,6 +252,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int preparedStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -252,6 +272,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
+	private int slowStatementsMaxSize;
+	private int slowStatementsStackTraceSampling;
+	private int nPlusOneThreshold;
 
 
 	@SuppressWarnings({"WeakerAccess", "deprecation"})
@@ -343,6 +366,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.batchLoadSizingStrategy = determineBatchLoadSizingStrategy(
+				configurationSettings,
+				strategySelector,
+				jdbcServices.getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy()
+		);
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -350,7 +378,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+		this.orderDynamicUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_DYNAMIC_UPDATES, configurationSettings );
+		this.orderDeletesEnabled = ConfigurationHelper.getBoolean( ORDER_DELETES, configurationSettings );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
+		this.incrementalFlushEnabled = ConfigurationHelper.getBoolean( INCREMENTAL_FLUSH, configurationSettings );
+		this.parallelDirtyCheckingThreshold = ConfigurationHelper.getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
+		this.sessionMemoryBudget = ConfigurationHelper.getLong( SESSION_MEMORY_BUDGET, configurationSettings, 0 );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -443,6 +476,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.preparedStatementCacheSize = ConfigurationHelper.getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -529,6 +563,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+		this.slowStatementsMaxSize = ConfigurationHelper.getInt(
+				SLOW_STATEMENTS_MAX_SIZE,
+				configurationSettings,
+				Statistics.DEFAULT_SLOW_STATEMENTS_MAX_SIZE
+		);
+		this.slowStatementsStackTraceSampling = ConfigurationHelper.getInt(
+				SLOW_STATEMENTS_STACK_TRACE_SAMPLING,
+				configurationSettings,
+				0
+		);
+		this.nPlusOneThreshold = ConfigurationHelper.getInt(
+				N_PLUS_ONE_THRESHOLD,
+				configurationSettings,
+				0
+		);
 
 		if ( context.isJpaBootstrap() && nativeExceptionHandling51Compliance ) {
 			log.nativeExceptionHandling51ComplianceJpaBootstrapping();
@@ -536,6 +585,25 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 	}
 
+	private static BatchLoadSizingStrategy determineBatchLoadSizingStrategy(
+			Map configurationSettings,
+			StrategySelector strategySelector,
+			BatchLoadSizingStrategy dialectStrategy) {
+		final Object setting = configurationSettings.get( BATCH_LOAD_SIZING_STRATEGY );
+		if ( setting instanceof String
+				&& AdaptiveBatchLoadSizingStrategy.SHORT_NAME.equalsIgnoreCase( ( (String) setting ).trim() ) ) {
+			return new AdaptiveBatchLoadSizingStrategy(
+					ConfigurationHelper.getInt(
+							MAX_BATCH_FETCH_SIZE,
+							configurationSettings,
+							AdaptiveBatchLoadSizingStrategy.DEFAULT_MAX_BATCH_FETCH_SIZE
+					),
+					dialectStrategy
+			);
+		}
+		return strategySelector.resolveDefaultableStrategy( BatchLoadSizingStrategy.class, setting, dialectStrategy );
+	}
+
 	@SuppressWarnings("deprecation")
 	private static Interceptor determineInterceptor(Map configurationSettings, StrategySelector strategySelector) {
 		Object setting = configurationSettings.get( INTERCEPTOR );
@@ -822,6 +890,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public BatchLoadSizingStrategy getBatchLoadSizingStrategy() {
+		return batchLoadSizingStrategy;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -957,6 +1030,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1057,6 +1135,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getSlowStatementsMaxSize() {
+		return slowStatementsMaxSize;
+	}
+
+	@Override
+	public int getSlowStatementsStackTraceSampling() {
+		return slowStatementsStackTraceSampling;
+	}
+
+	@Override
+	public int getNPlusOneThreshold() {
+		return nPlusOneThreshold;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -1067,6 +1160,31 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return enhancementAsProxyEnabled;
 	}
 
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public long getSessionMemoryBudget() {
+		return sessionMemoryBudget;
+	}
+
+	@Override
+	public boolean isOrderDynamicUpdatesEnabled() {
+		return orderDynamicUpdatesEnabled;
+	}
+
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return orderDeletesEnabled;
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return omitJoinOfSuperclassTablesEnabled;
@@ -28,6 +28,7 @@ import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.BatchLoadSizingStrategy;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.LiteralHandlingMode;
@@ -438,6 +439,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getSlowStatementsMaxSize() {
+		return delegate.getSlowStatementsMaxSize();
+	}
+
+	@Override
+	public int getSlowStatementsStackTraceSampling() {
+		return delegate.getSlowStatementsStackTraceSampling();
+	}
+
+	@Override
+	public int getNPlusOneThreshold() {
+		return delegate.getNPlusOneThreshold();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -448,6 +464,41 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isEnhancementAsProxyEnabled();
 	}
 
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public long getSessionMemoryBudget() {
+		return delegate.getSessionMemoryBudget();
+	}
+
+	@Override
+	public boolean isOrderDynamicUpdatesEnabled() {
+		return delegate.isOrderDynamicUpdatesEnabled();
+	}
+
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return delegate.isOrderDeletesEnabled();
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
+	@Override
+	public BatchLoadSizingStrategy getBatchLoadSizingStrategy() {
+		return delegate.getBatchLoadSizingStrategy();
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
@@ -30,6 +30,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.BatchLoadSizingStrategy;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.LiteralHandlingMode;
@@ -296,6 +297,34 @@ public interface SessionFactoryOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * The number of the most recent slow statements kept by the statistics.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_STATEMENTS_MAX_SIZE
+	 */
+	default int getSlowStatementsMaxSize() {
+		return Statistics.DEFAULT_SLOW_STATEMENTS_MAX_SIZE;
+	}
+
+	/**
+	 * One in how many slow statements get their stack trace captured, or {@code 0} for none.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_STATEMENTS_STACK_TRACE_SAMPLING
+	 */
+	default int getSlowStatementsStackTraceSampling() {
+		return 0;
+	}
+
+	/**
+	 * The number of selects of the same role in a session from which it is reported to perform N+1 selects,
+	 * or {@code 0} if they are not detected.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	default int getNPlusOneThreshold() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
@@ -315,5 +344,71 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	/**
+	 * Should flushes skip dirty checking entities which were not handed out since the previous flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of entities a flush must dirty check for the comparisons to be run in parallel,
+	 * or {@code 0} if they are never run in parallel.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The approximate number of bytes the persistence context of a Session may retain before
+	 * evicting read-only entities, or {@code 0} if there is no such budget.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MEMORY_BUDGET
+	 */
+	default long getSessionMemoryBudget() {
+		return 0;
+	}
+
+	/**
+	 * Should the updates of dynamic-update entities be grouped by the set of properties they update?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_DYNAMIC_UPDATES
+	 */
+	default boolean isOrderDynamicUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the deletes be ordered by entity type?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_DELETES
+	 */
+	default boolean isOrderDeletesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of idle PreparedStatements cached per session, or {@code 0} if they are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * The strategy sizing the batch fetches and the multi-loads, or {@code null} for the
+	 * {@link org.hibernate.dialect.Dialect#getDefaultBatchLoadSizingStrategy() strategy of the Dialect}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_LOAD_SIZING_STRATEGY
+	 */
+	default BatchLoadSizingStrategy getBatchLoadSizingStrategy() {
+		return null;
+	}
+
 	boolean isOmitJoinOfSuperclassTablesEnabled();
 }
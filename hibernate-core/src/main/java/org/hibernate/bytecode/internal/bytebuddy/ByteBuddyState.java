@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
@@ -69,12 +70,14 @@ public final class ByteBuddyState {
 	 */
 	private final TypeCache<TypeCache.SimpleKey> proxyCache;
 	private final TypeCache<TypeCache.SimpleKey> basicProxyCache;
+	private final TypeCache<List<String>> projectionInstantiatorCache;
 
 	ByteBuddyState() {
 		this.byteBuddy = new ByteBuddy().with( TypeValidation.DISABLED );
 
 		this.proxyCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
 		this.basicProxyCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
+		this.projectionInstantiatorCache = new TypeCache.WithInlineExpunction<List<String>>( TypeCache.Sort.WEAK );
 
 		if ( System.getSecurityManager() != null ) {
 			this.classRewriter = new SecurityManagerClassRewriter();
@@ -112,6 +115,22 @@ public final class ByteBuddyState {
 		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
 	}
 
+	/**
+	 * Load a projection instantiator as generated by the {@link BytecodeProviderImpl}.
+	 * <p>
+	 * The cache key is a list of names rather than a {@link TypeCache.SimpleKey}, as the order of the constructor
+	 * parameters, or of the setters, matters.
+	 *
+	 * @param referenceClass The class to instantiate.
+	 * @param cacheKey The cache key.
+	 * @param makeInstantiatorFunction A function building the instantiator.
+	 * @return The loaded instantiator class.
+	 */
+	Class<?> loadProjectionInstantiator(Class<?> referenceClass, List<String> cacheKey,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeInstantiatorFunction) {
+		return load( referenceClass, projectionInstantiatorCache, cacheKey, makeInstantiatorFunction );
+	}
+
 	/**
 	 * Load a class generated by ByteBuddy.
 	 *
@@ -168,10 +187,11 @@ public final class ByteBuddyState {
 	void clearState() {
 		proxyCache.clear();
 		basicProxyCache.clear();
+		projectionInstantiatorCache.clear();
 	}
 
-	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
-			TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+	private <K> Class<?> load(Class<?> referenceClass, TypeCache<K> cache,
+			K cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return cache.findOrInsert(
 				referenceClass.getClassLoader(),
 				cacheKey,
@@ -9,20 +9,28 @@ package org.hibernate.bytecode.internal.bytebuddy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ProjectionInstantiator;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -38,8 +46,12 @@ import net.bytebuddy.matcher.ElementMatchers;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
 
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BytecodeProviderImpl.class );
+
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String PROJECTION_INSTANTIATOR_NAMING_SUFFIX = "HibernateProjectionInstantiator";
+	private static final ElementMatcher.Junction instantiateMethodName = ElementMatchers.named( "instantiate" );
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
@@ -109,6 +121,113 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ProjectionInstantiator getProjectionInstantiator(Constructor<?> constructor) {
+		final Class<?> clazz = constructor.getDeclaringClass();
+		if ( !isInstantiable( clazz ) || Modifier.isPrivate( constructor.getModifiers() ) ) {
+			return null;
+		}
+
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final List<String> cacheKey = new ArrayList<>( parameterTypes.length + 2 );
+		cacheKey.add( "new" );
+		cacheKey.add( clazz.getName() );
+		for ( Class<?> parameterType : parameterTypes ) {
+			cacheKey.add( parameterType.getName() );
+		}
+
+		return loadProjectionInstantiator( clazz, cacheKey, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( PROJECTION_INSTANTIATOR_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ProjectionInstantiator.class )
+				.method( instantiateMethodName )
+						.intercept( parameterTypes.length == 0
+								? MethodCall.construct( constructor )
+								: MethodCall.construct( constructor )
+										.withArgumentArrayElements( 0, parameterTypes.length )
+										.withAssigner( Assigner.DEFAULT, Assigner.Typing.DYNAMIC ) )
+		);
+	}
+
+	@Override
+	public ProjectionInstantiator getProjectionInstantiator(Class<?> clazz, Method[] setters) {
+		if ( !isInstantiable( clazz ) ) {
+			return null;
+		}
+		final Constructor<?> constructor;
+		try {
+			constructor = clazz.getDeclaredConstructor();
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+		if ( Modifier.isPrivate( constructor.getModifiers() ) ) {
+			return null;
+		}
+
+		final List<String> cacheKey = new ArrayList<>( setters.length + 2 );
+		cacheKey.add( "set" );
+		cacheKey.add( clazz.getName() );
+		for ( Method setter : setters ) {
+			if ( setter == null ) {
+				cacheKey.add( "" );
+			}
+			else if ( isAccessibleSetter( clazz, setter ) ) {
+				cacheKey.add( setter.getName() + '(' + setter.getParameterTypes()[0].getName() + ')' );
+			}
+			else {
+				return null;
+			}
+		}
+
+		return loadProjectionInstantiator( clazz, cacheKey, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( PROJECTION_INSTANTIATOR_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ProjectionInstantiator.class )
+				.method( instantiateMethodName )
+						.intercept( new Implementation.Simple( new InstantiateAndSetPropertyValues( clazz, setters ) ) )
+		);
+	}
+
+	private ProjectionInstantiator loadProjectionInstantiator(
+			Class<?> clazz,
+			List<String> cacheKey,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeInstantiatorFunction) {
+		// the instantiator is defined in the package of the class, and needs its class loader
+		if ( clazz.getClassLoader() == null ) {
+			return null;
+		}
+		try {
+			return (ProjectionInstantiator) byteBuddyState.loadProjectionInstantiator(
+					clazz,
+					cacheKey,
+					makeInstantiatorFunction
+			).newInstance();
+		}
+		catch (Exception | LinkageError e) {
+			LOG.debugf(
+					e,
+					"Unable to generate a projection instantiator for %s, it will be instantiated reflectively",
+					clazz.getName()
+			);
+			return null;
+		}
+	}
+
+	private static boolean isInstantiable(Class<?> clazz) {
+		return !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) && !clazz.isArray() && !clazz.isPrimitive();
+	}
+
+	private static boolean isAccessibleSetter(Class<?> clazz, Method setter) {
+		final int modifiers = setter.getModifiers();
+		if ( Modifier.isStatic( modifiers ) || setter.getParameterCount() != 1 ) {
+			return false;
+		}
+		// the instantiator shares the package of the class, not necessarily the one of its superclasses
+		return Modifier.isPublic( modifiers )
+				|| setter.getDeclaringClass() == clazz && !Modifier.isPrivate( modifiers );
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -208,6 +327,73 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static class InstantiateAndSetPropertyValues implements ByteCodeAppender {
+
+		private final Class clazz;
+
+		private final Method[] setters;
+
+		public InstantiateAndSetPropertyValues(Class clazz, Method[] setters) {
+			this.clazz = clazz;
+			this.setters = setters;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitTypeInsn( Opcodes.NEW, Type.getInternalName( clazz ) );
+			methodVisitor.visitInsn( Opcodes.DUP );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESPECIAL,
+					Type.getInternalName( clazz ),
+					"<init>",
+					"()V",
+					false
+			);
+			for ( int index = 0; index < setters.length; index++ ) {
+				final Method setter = setters[index];
+				if ( setter == null ) {
+					continue;
+				}
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				if ( setter.getParameterTypes()[0].isPrimitive() ) {
+					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+							.assignUnboxedTo(
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( setter.getParameterTypes()[0] ),
+									ReferenceTypeAwareAssigner.INSTANCE,
+									Assigner.Typing.DYNAMIC
+							)
+							.apply( methodVisitor, implementationContext );
+				}
+				else {
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( setter.getParameterTypes()[0] ) );
+				}
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEVIRTUAL,
+						Type.getInternalName( clazz ),
+						setter.getName(),
+						Type.getMethodDescriptor( setter ),
+						false
+				);
+				// fluent setters return a value, which is discarded
+				final Class<?> returnType = setter.getReturnType();
+				if ( returnType == long.class || returnType == double.class ) {
+					methodVisitor.visitInsn( Opcodes.POP2 );
+				}
+				else if ( returnType != void.class ) {
+					methodVisitor.visitInsn( Opcodes.POP );
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
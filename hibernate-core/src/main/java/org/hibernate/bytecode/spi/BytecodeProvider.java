@@ -6,6 +6,9 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.service.Service;
@@ -16,6 +19,7 @@ import org.hibernate.service.Service;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>projection instantiation {@link #getProjectionInstantiator}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -41,6 +45,37 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve an instantiator calling the given constructor with the values of a row as arguments, as for an
+	 * HQL {@code select new} expression.
+	 *
+	 * @param constructor The constructor to call.
+	 *
+	 * @return The instantiator, or {@code null} if this provider does not generate instantiators, or cannot generate
+	 * one calling this constructor; the constructor should then be called reflectively.
+	 *
+	 * @since 5.5
+	 */
+	default ProjectionInstantiator getProjectionInstantiator(Constructor<?> constructor) {
+		return null;
+	}
+
+	/**
+	 * Retrieve an instantiator calling the no-argument constructor of the given class, then passing the values of a
+	 * row to the given setters, as for an {@link org.hibernate.transform.AliasToBeanResultTransformer}.
+	 *
+	 * @param clazz The class to instantiate.
+	 * @param setters The setter of each value of a row, or {@code null} for the values to ignore.
+	 *
+	 * @return The instantiator, or {@code null} if this provider does not generate instantiators, or cannot generate
+	 * one for this class; the class should then be instantiated and populated reflectively.
+	 *
+	 * @since 5.5
+	 */
+	default ProjectionInstantiator getProjectionInstantiator(Class<?> clazz, Method[] setters) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Represents optimized instantiation of the result class of a projection, such as the class of an HQL
+ * {@code select new} expression or the bean of an {@link org.hibernate.transform.AliasToBeanResultTransformer},
+ * from the values of a row, without reflection.
+ *
+ * @see BytecodeProvider#getProjectionInstantiator(java.lang.reflect.Constructor)
+ * @see BytecodeProvider#getProjectionInstantiator(Class, java.lang.reflect.Method[])
+ *
+ * @since 5.5
+ */
+public interface ProjectionInstantiator {
+	/**
+	 * Instantiate the result class from the values of a row.
+	 *
+	 * @param values The values of the row, in the order of the constructor parameters, or of the setters
+	 *
+	 * @return The new instance.
+	 */
+	Object instantiate(Object[] values);
+}
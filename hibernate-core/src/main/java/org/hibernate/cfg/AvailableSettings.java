@@ -742,6 +742,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String FORMAT_SQL ="hibernate.format_sql";
 
+	/**
+	 * The capacity of the buffer through which the SQL statements enabled by {@link #SHOW_SQL}, or by the
+	 * {@code org.hibernate.SQL} debug log, are handed over to a background thread, which formats and logs them.
+	 * Statements are dropped, and counted, rather than waited for, while the buffer is full.
+	 * <p/>
+	 * Default is 0, meaning the statements are formatted and logged by the thread executing them.
+	 *
+	 * @since 5.5
+	 */
+	String LOG_SQL_ASYNC_BUFFER_SIZE = "hibernate.log_sql_async_buffer_size";
+
 	/**
 	 * Add comments to the generated SQL
 	 */
@@ -757,6 +768,31 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Names the {@link org.hibernate.loader.BatchLoadSizingStrategy} which sizes the batch fetches, and the
+	 * multi-loads.  Can specify {@code adaptive}, for the
+	 * {@link org.hibernate.loader.AdaptiveBatchLoadSizingStrategy}, or a
+	 * {@link org.hibernate.loader.BatchLoadSizingStrategy} instance, {@link Class} or class name.
+	 * <p/>
+	 * Default is the {@link org.hibernate.dialect.Dialect#getDefaultBatchLoadSizingStrategy() strategy of the Dialect},
+	 * which batch-fetches up to the batch size of the entity or collection.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_LOAD_SIZING_STRATEGY = "hibernate.batch_load_sizing_strategy";
+
+	/**
+	 * The largest number of keys the {@link org.hibernate.loader.AdaptiveBatchLoadSizingStrategy} lets a batch fetch
+	 * grow to, beyond the batch size of the entity or collection, when the batch fetch style is
+	 * {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC}.  It is further bounded by the
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit() limit} of the Dialect, if any.
+	 * <p/>
+	 * Default is {@value org.hibernate.loader.AdaptiveBatchLoadSizingStrategy#DEFAULT_MAX_BATCH_FETCH_SIZE}
+	 *
+	 * @since 5.5
+	 */
+	String MAX_BATCH_FETCH_SIZE = "hibernate.max_batch_fetch_size";
+
 	/**
 	 * Use <tt>java.io</tt> streams to read / write binary data from / to JDBC
 	 */
@@ -795,6 +831,32 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should batched inserts be executed as multi-row {@code insert ... values (...), (...)} statements,
+	 * of up to {@link #STATEMENT_BATCH_SIZE} rows each, rather than as JDBC batches of single-row statements?
+	 * Only applies if the {@link org.hibernate.dialect.Dialect#supportsMultiRowInsert() Dialect supports it},
+	 * and keeps the number of bind parameters of each statement under the
+	 * {@link org.hibernate.dialect.Dialect#getBindParameterCountLimit() limit of the Dialect}.
+	 * <p/>
+	 * Default value is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String STATEMENT_MULTI_ROW_INSERTS = "hibernate.jdbc.multi_row_inserts";
+
+	/**
+	 * The maximum number of idle PreparedStatements kept open, per session, for reuse by the later executions of
+	 * the same SQL, rather than closed and prepared again.  The cached statements are closed at the latest when the
+	 * transaction completes.  Has no effect when the JDBC connection is released after each statement or before
+	 * transaction completion, see {@link #CONNECTION_HANDLING}.
+	 * <p/>
+	 * Default value is {@code 0}, which disables the cache and relies on the statement caching of the
+	 * connection pool or JDBC driver, if any
+	 *
+	 * @since 5.5
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -926,7 +988,8 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 
 	/**
 	 * Enable wrapping of JDBC result sets in order to speed up column name lookups for
-	 * broken JDBC drivers
+	 * broken JDBC drivers.  The wrapped result sets read their columns by position, the
+	 * position of each column alias being resolved once per loader rather than for each row.
 	 */
 	String WRAP_RESULT_SETS = "hibernate.jdbc.wrap_result_sets";
 
@@ -952,6 +1015,90 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable grouping of the update statements of {@link org.hibernate.annotations.DynamicUpdate dynamic-update}
+	 * entities by the set of properties they update, for the purpose of more efficient JDBC batching.  Combined
+	 * with {@link #ORDER_UPDATES}, the updates of each group are ordered by primary key value.
+	 * <p/>
+	 * Default value is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String ORDER_DYNAMIC_UPDATES = "hibernate.order_dynamic_updates";
+
+	/**
+	 * Enable ordering of delete statements by entity type, children before the parents they reference, for the
+	 * purpose of more efficient JDBC batching.  The deletes are left in their cascade order if the entity types
+	 * reference each other.
+	 * <p/>
+	 * Default value is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String ORDER_DELETES = "hibernate.order_deletes";
+
+	/**
+	 * Enable incremental flushing: automatic flushes, such as those executed before a query, only dirty
+	 * check the entities which were found clean by a previous flush once they have been handed out to the
+	 * application by the Session again (loaded, returned by a query, accessed through a proxy or an
+	 * accessed collection), or reported dirty by bytecode enhancement.  The cost of an automatic flush
+	 * then scales with the working set rather than with the size of the persistence context.
+	 * <p/>
+	 * Explicit flushes, and the flush of a commit, still dirty check every entity.  So a change made,
+	 * after a flush, to an instance obtained before that flush is always written by the commit, but a
+	 * query executed in the meantime may not see it.
+	 * <p/>
+	 * Values are {@code true} or {@code false}.
+	 * Default value is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
+	/**
+	 * The number of entities a flush must dirty check before comparing their current and loaded state
+	 * is spread over the {@link java.util.concurrent.ForkJoinPool#commonPool() common ForkJoinPool}.
+	 * Only the comparison of properties not involving associations is parallelized: everything
+	 * interacting with the Session, such as interceptors and action scheduling, stays on the flushing
+	 * thread.
+	 * <p/>
+	 * Requires the property getters and {@link org.hibernate.usertype.UserType#equals} implementations
+	 * to be safe for concurrent use.
+	 * <p/>
+	 * Default value is {@code 0}, which disables parallel dirty checking.
+	 *
+	 * @since 5.5
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * The number of bytes the persistence context of a Session may approximately retain before
+	 * read-only entities which were not modified and are not referenced by other entities of the
+	 * persistence context get evicted, oldest first, as by {@link org.hibernate.Session#evict}.
+	 * This is checked between operations of the Session and after a flush, never evicting the entities
+	 * of the operation which just completed.
+	 * <p/>
+	 * The retained size is estimated from the number of entities, collections and snapshots, see
+	 * {@link org.hibernate.stat.SessionStatistics#getEstimatedRetainedSize()}.
+	 * <p/>
+	 * Default value is {@code 0}, which disables the budget.
+	 *
+	 * @since 5.5
+	 */
+	String SESSION_MEMORY_BUDGET = "hibernate.session.memory_budget";
+
+	/**
+	 * As a property of a Session or EntityManager, set to {@code true} to obtain its connections for reading only,
+	 * so that a {@link org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider} routes them to a read
+	 * replica.  Sessions which are {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only by default}
+	 * are routed the same way.
+	 * <p/>
+	 * Takes effect the next time the Session obtains a connection, that is, as its next transaction begins.
+	 *
+	 * @since 5.5
+	 */
+	String CONNECTION_READ_ONLY = "hibernate.connection.read_only";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -2045,6 +2192,42 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * The number of the most recent {@link org.hibernate.stat.SlowStatement} entries kept by the
+	 * {@link org.hibernate.stat.Statistics} object.  While statistics are enabled, the executions of SQL
+	 * statements slower than {@link #LOG_SLOW_QUERY} are recorded, along with their parameter values and
+	 * the query, entity or collection they were executed for.
+	 * </p>
+	 * The default value is given by the {@link org.hibernate.stat.Statistics#DEFAULT_SLOW_STATEMENTS_MAX_SIZE}
+	 * constant value.
+	 *
+	 * @since 5.5
+	 */
+	String SLOW_STATEMENTS_MAX_SIZE = "hibernate.statistics.slow_statements_max_size";
+
+	/**
+	 * Capture the stack trace of one in this number of the recorded {@link org.hibernate.stat.SlowStatement}
+	 * entries, to find the code which executed them.  Capturing a stack trace is expensive, so it is sampled.
+	 * <p/>
+	 * The default value is {@code 0}, meaning that no stack trace is captured.
+	 *
+	 * @since 5.5
+	 */
+	String SLOW_STATEMENTS_STACK_TRACE_SAMPLING = "hibernate.statistics.slow_statements_stack_trace_sampling";
+
+	/**
+	 * The number of selects of the same entity, by identifier, or of the same collection role, from which a
+	 * session is reported to perform N+1 selects.  While statistics are enabled, each session counts the entities
+	 * and collections it loads one select at a time, such as when initializing proxies and lazy collections in a
+	 * loop, and reports the roles crossing this threshold to the {@link org.hibernate.stat.Statistics} object,
+	 * as {@link org.hibernate.stat.NPlusOneStatistics}.
+	 * <p/>
+	 * The default value is {@code 0}, meaning that N+1 selects are not detected.
+	 *
+	 * @since 5.5
+	 */
+	String N_PLUS_ONE_THRESHOLD = "hibernate.statistics.n_plus_one_threshold";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used when
 	 * Hibernate detects a mismatch between a sequence configuration in an entity mapping
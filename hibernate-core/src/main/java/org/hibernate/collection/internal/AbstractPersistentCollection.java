@@ -147,6 +147,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 */
 	protected final void read() {
 		initialize( false );
+		touch();
 	}
 
 	/**
@@ -408,6 +409,16 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	protected final void write() {
 		initialize( true );
 		dirty();
+		touch();
+	}
+
+	/**
+	 * Let an incremental flush know that the elements of this collection were handed out.
+	 */
+	private void touch() {
+		if ( session != null ) {
+			session.getPersistenceContextInternal().touchCollection( this );
+		}
 	}
 
 	/**
@@ -43,6 +43,8 @@ import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupportImpl;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -808,6 +810,18 @@ public abstract class Dialect implements ConversionContext {
 		return new IdentityColumnSupportImpl();
 	}
 
+	// BULK INSERT support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Get the appropriate {@link BulkInsertSupport}
+	 *
+	 * @return the BulkInsertSupport
+	 * @since 5.5
+	 */
+	public BulkInsertSupport getBulkInsertSupport() {
+		return new BulkInsertSupportImpl();
+	}
+
 	// SEQUENCE support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -1793,6 +1807,28 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single INSERT statement, as in
+	 * {@code insert into t (a, b) values (?, ?), (?, ?)}?
+	 *
+	 * @return {@code true} if multi-row INSERT statements are supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_MULTI_ROW_INSERTS
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database or driver places on the number of bind parameters of a statement.
+	 * If there is no such limit, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getBindParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * The name of the SQL function that transforms a string to
 	 * lowercase
@@ -2430,6 +2466,71 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support binding an array of values to a single parameter, to match the values of a column
+	 * against them with {@link #getArrayParameterRestriction}?
+	 *
+	 * @return True if array parameters are supported; false otherwise.
+	 *
+	 * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+	 * @since 5.5
+	 */
+	public boolean supportsArrayParameters() {
+		return false;
+	}
+
+	/**
+	 * The restriction matching the values of a column against the elements of an array bound to a single parameter,
+	 * by default "{@code column = any(?)}".
+	 *
+	 * @param columnName The (qualified) name of the column
+	 * @param sqlType The {@link Types JDBC type code} of the column, and of the elements of the array
+	 *
+	 * @return The restriction
+	 *
+	 * @since 5.5
+	 */
+	public String getArrayParameterRestriction(String columnName, int sqlType) {
+		return columnName + " = any(?)";
+	}
+
+	/**
+	 * Bind an array of values to the parameter of a restriction from {@link #getArrayParameterRestriction}, by
+	 * default as a JDBC {@link java.sql.Array} of the {@link #getArrayElementTypeName type of the elements}.
+	 *
+	 * @param statement The statement
+	 * @param index The index of the parameter
+	 * @param values The values, of the Java type corresponding to {@code sqlType}
+	 * @param sqlType The {@link Types JDBC type code} of the elements of the array
+	 *
+	 * @throws SQLException Indicates problems binding the array
+	 *
+	 * @since 5.5
+	 */
+	public void bindArrayParameter(PreparedStatement statement, int index, Object[] values, int sqlType)
+			throws SQLException {
+		statement.setArray(
+				index,
+				statement.getConnection().createArrayOf( getArrayElementTypeName( sqlType ), values )
+		);
+	}
+
+	/**
+	 * The name of the SQL type of the elements of an array parameter, that is, the name of the type without its
+	 * length, precision or scale.
+	 *
+	 * @param sqlType The {@link Types JDBC type code} of the elements
+	 *
+	 * @return The type name
+	 *
+	 * @since 5.5
+	 */
+	protected String getArrayElementTypeName(int sqlType) {
+		final String typeName = getTypeName( sqlType );
+		final int parenthesis = typeName.indexOf( '(' );
+		return parenthesis < 0 ? typeName : typeName.substring( 0, parenthesis ).trim();
+	}
+
 	/**
 	 * Should LOBs (both BLOB and CLOB) be bound using stream operations (i.e.
 	 * {@link PreparedStatement#setBinaryStream}).
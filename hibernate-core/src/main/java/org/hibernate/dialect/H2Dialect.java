@@ -408,6 +408,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 
 	// Overridden informational metadata ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -432,6 +437,17 @@ public class H2Dialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int sqlType) {
+		// H2 1.4 knows neither "= any(?)" nor unnest(), but can select from a table function over an array
+		return columnName + " in (select x from table(x " + getArrayElementTypeName( sqlType ) + " = ?))";
+	}
+
 	// Do not drop constraints explicitly, just do this by cascading instead.
 	@Override
 	public boolean dropConstraints() {
@@ -647,6 +647,16 @@ public class HSQLDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsArrayParameters() {
+		return hsqldbVersion >= 200;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int sqlType) {
+		return columnName + " in (unnest(?))";
+	}
+
 	@Override
 	public boolean requiresCastingOfParametersInSelectClause() {
 		return true;
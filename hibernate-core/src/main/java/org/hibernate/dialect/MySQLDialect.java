@@ -517,6 +517,17 @@ public class MySQLDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// the prepared statement protocol uses a 16-bit parameter count
+		return 65535;
+	}
+
 	@Override
 	public boolean supportsLockTimeouts() {
 		// yes, we do handle "lock timeout" conditions in the exception conversion delegate,
@@ -19,6 +19,8 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.PessimisticLockException;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLBulkInsertSupport;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.PositionSubstringFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -591,6 +593,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
 	@Override
 	public String getForUpdateNowaitString() {
 		return getForUpdateString() + " nowait ";
@@ -629,6 +636,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return new PostgreSQL81IdentityColumnSupport();
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return new PostgreSQLBulkInsertSupport();
+	}
+
 	@Override
 	public boolean supportsNationalizedTypes() {
 		return false;
@@ -62,6 +62,17 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// the wire protocol uses a 16-bit parameter count
+		return Short.MAX_VALUE;
+	}
+
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
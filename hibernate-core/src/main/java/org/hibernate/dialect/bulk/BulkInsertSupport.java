@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Dialect-level delegate in charge of loading many rows into a table through a database-specific
+ * bulk load facility, bypassing the parsing and planning of an INSERT statement per row.
+ *
+ * @see org.hibernate.StatelessSession#bulkInsert
+ */
+public interface BulkInsertSupport {
+	/**
+	 * Can rows be bulk loaded through the given connection?  This typically depends on the JDBC driver
+	 * exposing the bulk load facility.
+	 *
+	 * @param connection The JDBC connection
+	 *
+	 * @return {@code true} if {@link #bulkInsert} may be called with this connection
+	 */
+	boolean supportsBulkInsert(Connection connection);
+
+	/**
+	 * Load the given rows into a table.  Only called if {@link #supportsBulkInsert} returned {@code true} for the
+	 * connection.
+	 * <p/>
+	 * The values of a row are those which would be bound to the parameters of a single-row INSERT of the given
+	 * columns, as passed to the {@code PreparedStatement} setters: {@code null}, {@code String}, {@code Boolean},
+	 * the {@code Number} subclasses, {@code byte[]}, {@code java.sql.Date}, {@code java.sql.Time},
+	 * {@code java.sql.Timestamp}, or any other object passed to {@code setObject()}.
+	 *
+	 * @param connection The JDBC connection
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns
+	 * @param rows The rows to load, which are consumed as they are streamed to the database
+	 *
+	 * @return The number of rows loaded
+	 *
+	 * @throws SQLException Indicates a problem loading the rows
+	 */
+	long bulkInsert(Connection connection, String tableName, String[] columnNames, Iterator<Object[]> rows)
+			throws SQLException;
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.util.Iterator;
+
+import org.hibernate.HibernateException;
+
+/**
+ * The BulkInsertSupport of Dialects without a bulk load facility, which never support bulk inserts, so that
+ * the entities are inserted one at a time instead.
+ */
+public class BulkInsertSupportImpl implements BulkInsertSupport {
+
+	@Override
+	public boolean supportsBulkInsert(Connection connection) {
+		return false;
+	}
+
+	@Override
+	public long bulkInsert(Connection connection, String tableName, String[] columnNames, Iterator<Object[]> rows) {
+		// never called, as bulk inserts are not supported
+		throw new HibernateException( getClass().getName() + " does not support bulk inserts" );
+	}
+}
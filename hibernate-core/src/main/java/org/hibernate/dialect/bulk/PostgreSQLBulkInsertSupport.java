@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import org.hibernate.HibernateException;
+import org.hibernate.internal.util.ReflectHelper;
+
+/**
+ * Loads rows through the {@code COPY ... FROM STDIN} command of PostgreSQL, in its text format, using the
+ * {@code CopyManager} of the PostgreSQL JDBC driver.  The driver is accessed reflectively, so that it is
+ * not required unless bulk inserts are used.
+ */
+public class PostgreSQLBulkInsertSupport implements BulkInsertSupport {
+	private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+
+	@Override
+	public boolean supportsBulkInsert(Connection connection) {
+		try {
+			return connection.isWrapperFor( pgConnectionClass( connection ) );
+		}
+		catch (ClassNotFoundException | SQLException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public long bulkInsert(Connection connection, String tableName, String[] columnNames, Iterator<Object[]> rows)
+			throws SQLException {
+		final String sql = "copy " + tableName + " (" + String.join( ", ", columnNames ) + ") from stdin";
+		return copyIn( connection, sql, new CopyTextReader( rows ) );
+	}
+
+	/**
+	 * Execute a {@code COPY ... FROM STDIN} command.
+	 *
+	 * @param connection The JDBC connection
+	 * @param sql The command
+	 * @param reader The rows, in the text format of the command
+	 *
+	 * @return The number of rows loaded
+	 *
+	 * @throws SQLException Indicates a problem executing the command
+	 */
+	protected long copyIn(Connection connection, String sql, Reader reader) throws SQLException {
+		try {
+			final Class<?> pgConnectionClass = pgConnectionClass( connection );
+			final Object pgConnection = connection.unwrap( pgConnectionClass );
+			final Object copyManager = pgConnectionClass.getMethod( "getCopyAPI" ).invoke( pgConnection );
+			final Object rowCount = copyManager.getClass()
+					.getMethod( "copyIn", String.class, Reader.class )
+					.invoke( copyManager, sql, reader );
+			return ( (Number) rowCount ).longValue();
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Could not execute COPY command", e.getCause() );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException( "Could not access the CopyManager of the PostgreSQL JDBC driver", e );
+		}
+	}
+
+	private static Class<?> pgConnectionClass(Connection connection) throws ClassNotFoundException {
+		return ReflectHelper.classForName( PG_CONNECTION, connection.getClass() );
+	}
+
+	/**
+	 * Encode a value in the text format of the {@code COPY} command.
+	 */
+	static void appendValue(StringBuilder buffer, Object value) {
+		if ( value == null ) {
+			buffer.append( "\\N" );
+		}
+		else if ( value instanceof Boolean ) {
+			buffer.append( (Boolean) value ? 't' : 'f' );
+		}
+		else if ( value instanceof BigDecimal ) {
+			buffer.append( ( (BigDecimal) value ).toPlainString() );
+		}
+		else if ( value instanceof byte[] ) {
+			// the bytea hex format, with its backslash escaped
+			buffer.append( "\\\\x" );
+			for ( byte b : (byte[]) value ) {
+				buffer.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+			}
+		}
+		else {
+			final String string = value.toString();
+			for ( int i = 0; i < string.length(); i++ ) {
+				final char c = string.charAt( i );
+				switch ( c ) {
+					case '\\':
+						buffer.append( "\\\\" );
+						break;
+					case '\t':
+						buffer.append( "\\t" );
+						break;
+					case '\n':
+						buffer.append( "\\n" );
+						break;
+					case '\r':
+						buffer.append( "\\r" );
+						break;
+					default:
+						buffer.append( c );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Streams rows in the text format of the {@code COPY} command, encoding each row when it is read.
+	 */
+	static class CopyTextReader extends Reader {
+		private final Iterator<Object[]> rows;
+		private final StringBuilder buffer = new StringBuilder();
+		private int position;
+
+		CopyTextReader(Iterator<Object[]> rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public int read(char[] chars, int offset, int length) {
+			if ( length == 0 ) {
+				return 0;
+			}
+			while ( position == buffer.length() ) {
+				if ( !rows.hasNext() ) {
+					return -1;
+				}
+				buffer.setLength( 0 );
+				position = 0;
+				final Object[] row = rows.next();
+				for ( int i = 0; i < row.length; i++ ) {
+					if ( i > 0 ) {
+						buffer.append( '\t' );
+					}
+					appendValue( buffer, row[i] );
+				}
+				buffer.append( '\n' );
+			}
+			final int count = Math.min( length, buffer.length() - position );
+			buffer.getChars( position, position + count, chars, offset );
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -192,6 +192,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		if ( currentStatus != status ) {
 			setCompressedValue( EnumState.PREVIOUS_STATUS, currentStatus );
 			setCompressedValue( EnumState.STATUS, status );
+			setCompressedValue( BooleanState.UNTOUCHED_SINCE_FLUSH, false );
 		}
 	}
 
@@ -425,6 +426,16 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		}
 	}
 
+	@Override
+	public boolean isUntouchedSinceFlush() {
+		return getCompressedValue( BooleanState.UNTOUCHED_SINCE_FLUSH );
+	}
+
+	@Override
+	public void setUntouchedSinceFlush(boolean untouched) {
+		setCompressedValue( BooleanState.UNTOUCHED_SINCE_FLUSH, untouched );
+	}
+
 	@Override
 	public String toString() {
 		return "EntityEntry" +
@@ -609,7 +620,8 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	protected enum BooleanState {
 
 		EXISTS_IN_DATABASE(13),
-		IS_BEING_REPLICATED(14);
+		IS_BEING_REPLICATED(14),
+		UNTOUCHED_SINCE_FLUSH(15);
 
 		private final int offset;
 		private final int mask;
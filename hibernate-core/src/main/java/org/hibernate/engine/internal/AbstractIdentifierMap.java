@@ -0,0 +1,237 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Base for the maps used by {@link StatefulPersistenceContext} to hold state by
+ * {@link org.hibernate.engine.spi.EntityKey} or {@link org.hibernate.engine.spi.CollectionKey}.
+ * <p/>
+ * Keys are never retained: they are split into a partition name (the root entity name, or the
+ * collection role) and an identifier, and each partition is an {@link IdentifierTable}.  Lookups
+ * therefore allocate nothing, and key instances are only re-created when the map is iterated.
+ * <p/>
+ * Mutation through the {@link #entrySet()}, {@link #keySet()} and {@link #values()} views is not
+ * supported.  Not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+abstract class AbstractIdentifierMap<K, V> extends AbstractMap<K, V> {
+	private final HashMap<String, IdentifierTable> tablesByPartition = new HashMap<>();
+
+	// one-element cache: consecutive operations very often target the same entity type
+	private String lastPartition;
+	private IdentifierTable lastTable;
+
+	private int size;
+	private int modCount;
+
+	private Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Does this object have the key type managed by this map?
+	 */
+	protected abstract boolean isKey(Object candidate);
+
+	protected abstract String partitionName(K key);
+
+	protected abstract Serializable identifier(K key);
+
+	/**
+	 * The owner to retain for the given key, see {@link IdentifierTable#getOwner}.
+	 */
+	protected abstract Object owner(K key);
+
+	protected abstract IdentifierTable createTable(K key);
+
+	/**
+	 * Re-create the key instance for an entry while iterating.
+	 */
+	protected abstract K createKey(String partitionName, Object owner, Serializable identifier);
+
+	private IdentifierTable locateTable(String partition) {
+		if ( partition == lastPartition ) {
+			return lastTable;
+		}
+		final IdentifierTable table = tablesByPartition.get( partition );
+		if ( table != null ) {
+			lastPartition = partition;
+			lastTable = table;
+		}
+		return table;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( !isKey( key ) ) {
+			return null;
+		}
+		final K typedKey = (K) key;
+		final IdentifierTable table = locateTable( partitionName( typedKey ) );
+		return table == null ? null : (V) table.get( identifier( typedKey ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean containsKey(Object key) {
+		if ( !isKey( key ) ) {
+			return false;
+		}
+		final K typedKey = (K) key;
+		final IdentifierTable table = locateTable( partitionName( typedKey ) );
+		return table != null && table.containsKey( identifier( typedKey ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		final String partition = partitionName( key );
+		IdentifierTable table = locateTable( partition );
+		if ( table == null ) {
+			table = createTable( key );
+			tablesByPartition.put( partition, table );
+			lastPartition = partition;
+			lastTable = table;
+		}
+		final Serializable id = identifier( key );
+		if ( !table.accepts( id ) ) {
+			table = table.generalize();
+			tablesByPartition.put( partition, table );
+			lastTable = table;
+		}
+		final int previousSize = table.size();
+		final V previous = (V) table.put( id, owner( key ), value );
+		if ( table.size() != previousSize ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( !isKey( key ) ) {
+			return null;
+		}
+		final K typedKey = (K) key;
+		final IdentifierTable table = locateTable( partitionName( typedKey ) );
+		if ( table == null ) {
+			return null;
+		}
+		final int previousSize = table.size();
+		final V previous = (V) table.remove( identifier( typedKey ) );
+		if ( table.size() != previousSize ) {
+			size--;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		tablesByPartition.clear();
+		lastPartition = null;
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+		private final Iterator<Map.Entry<String, IdentifierTable>> tables = tablesByPartition.entrySet().iterator();
+		private final int expectedModCount = modCount;
+
+		private String partition;
+		private IdentifierTable table;
+		private int index = -1;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( true ) {
+				if ( table != null ) {
+					while ( ++index < table.capacity() ) {
+						if ( table.isOccupied( index ) ) {
+							return;
+						}
+					}
+				}
+				if ( !tables.hasNext() ) {
+					table = null;
+					return;
+				}
+				final Map.Entry<String, IdentifierTable> next = tables.next();
+				partition = next.getKey();
+				table = next.getValue();
+				index = -1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return table != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Map.Entry<K, V> next() {
+			if ( table == null ) {
+				throw new NoSuchElementException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final K key = createKey( partition, table.getOwner( index ), table.getIdentifier( index ) );
+			final Map.Entry<K, V> entry = new SimpleImmutableEntry<>( key, (V) table.getValue( index ) );
+			advance();
+			return entry;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * A map keyed by {@link CollectionKey}, partitioned by collection role and keyed by the raw
+ * collection key value within each partition.
+ *
+ * @param <V> The value type
+ */
+final class CollectionKeyMap<V> extends AbstractIdentifierMap<CollectionKey, V> {
+	private final SessionFactoryImplementor factory;
+
+	CollectionKeyMap(SessionFactoryImplementor factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	protected boolean isKey(Object candidate) {
+		return candidate instanceof CollectionKey;
+	}
+
+	@Override
+	protected String partitionName(CollectionKey key) {
+		return key.getRole();
+	}
+
+	@Override
+	protected Serializable identifier(CollectionKey key) {
+		return key.getKey();
+	}
+
+	@Override
+	protected Object owner(CollectionKey key) {
+		return null;
+	}
+
+	@Override
+	protected IdentifierTable createTable(CollectionKey key) {
+		return IdentifierTable.create( persister( key.getRole() ).getKeyType(), factory );
+	}
+
+	@Override
+	protected CollectionKey createKey(String partitionName, Object owner, Serializable identifier) {
+		return new CollectionKey( persister( partitionName ), identifier );
+	}
+
+	private CollectionPersister persister(String role) {
+		return factory.getMetamodel().collectionPersister( role );
+	}
+}
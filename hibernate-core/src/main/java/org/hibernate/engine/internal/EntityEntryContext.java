@@ -48,6 +48,7 @@ public class EntityEntryContext {
 	private transient ManagedEntity head;
 	private transient ManagedEntity tail;
 	private transient int count;
+	private transient long estimatedRetainedSize;
 
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
@@ -147,6 +148,7 @@ public class EntityEntryContext {
 			tail = managedEntity;
 			count++;
 		}
+		estimatedRetainedSize += PersistenceContextMemoryBudget.estimateEntitySize( entityEntry.getPersister() );
 	}
 
 	private ManagedEntity getAssociatedManagedEntity(Object entity) {
@@ -297,6 +299,7 @@ public class EntityEntryContext {
 		// finally clean out the ManagedEntity and return the associated EntityEntry
 		final EntityEntry theEntityEntry = managedEntity.$$_hibernate_getEntityEntry();
 		managedEntity.$$_hibernate_setEntityEntry( null );
+		estimatedRetainedSize -= PersistenceContextMemoryBudget.estimateEntitySize( theEntityEntry.getPersister() );
 		return theEntityEntry;
 	}
 
@@ -354,6 +357,7 @@ public class EntityEntryContext {
 		head = null;
 		tail = null;
 		count = 0;
+		estimatedRetainedSize = 0;
 
 		reentrantSafeEntries = null;
 	}
@@ -467,6 +471,7 @@ public class EntityEntryContext {
 				context.nonEnhancedEntityXref.put( entity, managedEntity );
 			}
 			managedEntity.$$_hibernate_setEntityEntry( entry );
+			context.estimatedRetainedSize += PersistenceContextMemoryBudget.estimateEntitySize( entry.getPersister() );
 
 			if ( previous == null ) {
 				context.head = managedEntity;
@@ -512,6 +517,13 @@ public class EntityEntryContext {
 		return count;
 	}
 
+	/**
+	 * The approximate number of bytes retained by the managed entities and their entries.
+	 */
+	public long getEstimatedRetainedSize() {
+		return estimatedRetainedSize;
+	}
+
 	/**
 	 * The wrapper for entity classes which do not implement ManagedEntity
 	 */
@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A map keyed by {@link EntityKey}, partitioned by entity hierarchy and keyed by the raw
+ * identifier within each partition.  The persister of each key is retained so that the keys
+ * handed out on iteration report the same entity name as the ones originally added.
+ *
+ * @param <V> The value type
+ */
+final class EntityKeyMap<V> extends AbstractIdentifierMap<EntityKey, V> {
+	@Override
+	protected boolean isKey(Object candidate) {
+		return candidate instanceof EntityKey;
+	}
+
+	@Override
+	protected String partitionName(EntityKey key) {
+		return key.getPersister().getRootEntityName();
+	}
+
+	@Override
+	protected Serializable identifier(EntityKey key) {
+		return key.getIdentifier();
+	}
+
+	@Override
+	protected Object owner(EntityKey key) {
+		return key.getPersister();
+	}
+
+	@Override
+	protected IdentifierTable createTable(EntityKey key) {
+		final EntityPersister persister = key.getPersister();
+		return IdentifierTable.create( persister.getIdentifierType(), persister.getFactory() );
+	}
+
+	@Override
+	protected EntityKey createKey(String partitionName, Object owner, Serializable identifier) {
+		return new EntityKey( identifier, (EntityPersister) owner );
+	}
+}
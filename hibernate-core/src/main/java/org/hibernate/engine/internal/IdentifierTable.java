@@ -0,0 +1,492 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.Type;
+
+/**
+ * An open-addressing (linear probing) hash table mapping identifier values to values, used
+ * to hold the state of one "partition" (an entity hierarchy or a collection role) of an
+ * {@link AbstractIdentifierMap}.
+ * <p/>
+ * Compared to a {@link java.util.HashMap} keyed by {@link org.hibernate.engine.spi.EntityKey}
+ * this avoids retaining one key instance plus one node instance per entry: the identifiers
+ * and values are stored in flat parallel arrays.  Numeric identifiers are additionally
+ * stored unboxed, see {@link LongIdentifierTable}.
+ * <p/>
+ * Each entry may carry an "owner" (the entity persister for entity keys); the owner array is
+ * only allocated once an entry is added with an owner other than the first one seen.
+ * <p/>
+ * Removal uses backward-shift deletion, so no tombstones are ever left behind.
+ */
+abstract class IdentifierTable {
+	private static final int MIN_CAPACITY = 4;
+	private static final Object NULL_VALUE = new Object();
+
+	protected Object[] values;
+	private Object[] owners;
+	private Object defaultOwner;
+	private int size;
+	private int resizeThreshold;
+
+	/**
+	 * Creates the most specialized table for the given identifier type.
+	 *
+	 * @param identifierType The identifier type, used for hashing and equality
+	 * @param factory The SessionFactory
+	 *
+	 * @return The table
+	 */
+	static IdentifierTable create(Type identifierType, SessionFactoryImplementor factory) {
+		if ( identifierType instanceof LongType
+				|| identifierType instanceof IntegerType
+				|| identifierType instanceof ShortType ) {
+			return new LongIdentifierTable( identifierType, factory );
+		}
+		return new ObjectIdentifierTable( identifierType, factory );
+	}
+
+	IdentifierTable() {
+		allocate( MIN_CAPACITY );
+	}
+
+	/**
+	 * Can this table hold the given identifier?
+	 */
+	boolean accepts(Serializable id) {
+		return true;
+	}
+
+	/**
+	 * A table able to hold any identifier of the type, holding the entries of this one.
+	 */
+	IdentifierTable generalize() {
+		return this;
+	}
+
+	/**
+	 * Find the slot holding the given identifier.
+	 *
+	 * @return The slot index, or {@code -1} if the identifier is not contained
+	 */
+	protected abstract int indexOf(Serializable id);
+
+	/**
+	 * Find the slot to insert the given identifier into, which is either the slot already
+	 * holding it or the first free slot of its probe sequence.
+	 */
+	protected abstract int insertionIndexOf(Serializable id);
+
+	protected abstract void storeIdentifier(int index, Serializable id);
+
+	protected abstract void moveIdentifier(int from, int to);
+
+	protected abstract void clearIdentifier(int index);
+
+	/**
+	 * The "home" slot of the identifier stored at the given index.
+	 */
+	protected abstract int idealIndexOf(int index);
+
+	protected abstract void allocateIdentifiers(int capacity);
+
+	protected abstract Serializable identifierAt(int index);
+
+	/**
+	 * Hand out the current identifier storage so that it can be re-inserted after
+	 * {@link #allocateIdentifiers} replaced it.
+	 */
+	protected abstract Object detachIdentifiers();
+
+	/**
+	 * Re-insert the identifier found at the given index of the detached storage,
+	 * returning the slot it now occupies.
+	 */
+	protected abstract int reinsertIdentifier(Object detachedIdentifiers, int index);
+
+	final int size() {
+		return size;
+	}
+
+	final int capacity() {
+		return values.length;
+	}
+
+	final boolean isOccupied(int index) {
+		return values[index] != null;
+	}
+
+	final Serializable getIdentifier(int index) {
+		return identifierAt( index );
+	}
+
+	final Object getValue(int index) {
+		return unmask( values[index] );
+	}
+
+	final Object getOwner(int index) {
+		return owners == null ? defaultOwner : owners[index];
+	}
+
+	final Object get(Serializable id) {
+		final int index = indexOf( id );
+		return index < 0 ? null : unmask( values[index] );
+	}
+
+	final boolean containsKey(Serializable id) {
+		return indexOf( id ) >= 0;
+	}
+
+	/**
+	 * Associates the value with the identifier.  As with {@link java.util.Map#put}, the owner of an
+	 * existing entry is retained and only its value is replaced.
+	 *
+	 * @return The previous value, or {@code null}
+	 */
+	final Object put(Serializable id, Object owner, Object value) {
+		final int index = insertionIndexOf( id );
+		final Object previous = values[index];
+		if ( previous != null ) {
+			values[index] = mask( value );
+			return unmask( previous );
+		}
+		storeIdentifier( index, id );
+		values[index] = mask( value );
+		storeOwner( index, owner );
+		if ( ++size > resizeThreshold ) {
+			resize( values.length << 1 );
+		}
+		return null;
+	}
+
+	final Object remove(Serializable id) {
+		final int index = indexOf( id );
+		if ( index < 0 ) {
+			return null;
+		}
+		final Object previous = unmask( values[index] );
+		removeAt( index );
+		return previous;
+	}
+
+	private void storeOwner(int index, Object owner) {
+		if ( owners != null ) {
+			owners[index] = owner;
+		}
+		else if ( size == 0 || defaultOwner == null ) {
+			defaultOwner = owner;
+		}
+		else if ( owner != defaultOwner ) {
+			owners = new Object[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					owners[i] = defaultOwner;
+				}
+			}
+			owners[index] = owner;
+		}
+	}
+
+	private void removeAt(int index) {
+		final int mask = values.length - 1;
+		int hole = index;
+		int current = index;
+		while ( true ) {
+			current = ( current + 1 ) & mask;
+			if ( values[current] == null ) {
+				break;
+			}
+			final int ideal = idealIndexOf( current );
+			// the entry may only be shifted back if the hole lies (cyclically) between its home slot and its current slot
+			final boolean canShift = hole <= current
+					? ( ideal <= hole || ideal > current )
+					: ( ideal <= hole && ideal > current );
+			if ( canShift ) {
+				moveIdentifier( current, hole );
+				values[hole] = values[current];
+				if ( owners != null ) {
+					owners[hole] = owners[current];
+				}
+				hole = current;
+			}
+		}
+		clearIdentifier( hole );
+		values[hole] = null;
+		if ( owners != null ) {
+			owners[hole] = null;
+		}
+		size--;
+	}
+
+	private void allocate(int capacity) {
+		values = new Object[capacity];
+		allocateIdentifiers( capacity );
+		// keep the load factor at 2/3: linear probing degrades quickly beyond that
+		resizeThreshold = ( capacity << 1 ) / 3;
+	}
+
+	private void resize(int capacity) {
+		final Object[] previousValues = values;
+		final Object[] previousOwners = owners;
+		final Object previousIdentifiers = detachIdentifiers();
+		allocate( capacity );
+		if ( previousOwners != null ) {
+			owners = new Object[capacity];
+		}
+		for ( int i = 0; i < previousValues.length; i++ ) {
+			if ( previousValues[i] != null ) {
+				final int index = reinsertIdentifier( previousIdentifiers, i );
+				values[index] = previousValues[i];
+				if ( previousOwners != null ) {
+					owners[index] = previousOwners[i];
+				}
+			}
+		}
+	}
+
+	private static Object mask(Object value) {
+		return value == null ? NULL_VALUE : value;
+	}
+
+	private static Object unmask(Object value) {
+		return value == NULL_VALUE ? null : value;
+	}
+
+	/**
+	 * Spreads the bits of the hash code and reduces it to an index within a table of the given
+	 * (power of two) capacity.
+	 */
+	static int index(long hash, int capacity) {
+		final long mixed = hash * 0x9E3779B97F4A7C15L;
+		return (int) ( mixed ^ ( mixed >>> 32 ) ) & ( capacity - 1 );
+	}
+
+	/**
+	 * Table for identifiers of type {@code long}, {@code int} or {@code short} which are
+	 * stored unboxed and only re-boxed on iteration.
+	 * <p/>
+	 * Identifiers which are not numbers, such as the
+	 * {@link org.hibernate.action.internal.DelayedPostInsertIdentifier} of an entity awaiting its
+	 * generated identifier, are not accepted: the table must be {@link #generalize generalized} first.
+	 */
+	static final class LongIdentifierTable extends IdentifierTable {
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+		private final Class<?> identifierClass;
+		private long[] keys;
+
+		LongIdentifierTable(Type identifierType, SessionFactoryImplementor factory) {
+			this.identifierType = identifierType;
+			this.factory = factory;
+			this.identifierClass = identifierType.getReturnedClass();
+		}
+
+		@Override
+		boolean accepts(Serializable id) {
+			return id instanceof Number;
+		}
+
+		@Override
+		IdentifierTable generalize() {
+			final IdentifierTable table = new ObjectIdentifierTable( identifierType, factory );
+			for ( int i = 0; i < capacity(); i++ ) {
+				if ( isOccupied( i ) ) {
+					table.put( getIdentifier( i ), getOwner( i ), getValue( i ) );
+				}
+			}
+			return table;
+		}
+
+		@Override
+		protected int indexOf(Serializable id) {
+			if ( !( id instanceof Number ) ) {
+				return -1;
+			}
+			final long key = ( (Number) id ).longValue();
+			final long[] keys = this.keys;
+			final Object[] values = this.values;
+			final int mask = keys.length - 1;
+			int index = index( key, keys.length );
+			while ( values[index] != null ) {
+				if ( keys[index] == key ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@Override
+		protected int insertionIndexOf(Serializable id) {
+			final long key = ( (Number) id ).longValue();
+			final int mask = keys.length - 1;
+			int index = index( key, keys.length );
+			while ( values[index] != null && keys[index] != key ) {
+				index = ( index + 1 ) & mask;
+			}
+			return index;
+		}
+
+		@Override
+		protected void storeIdentifier(int index, Serializable id) {
+			keys[index] = ( (Number) id ).longValue();
+		}
+
+		@Override
+		protected void moveIdentifier(int from, int to) {
+			keys[to] = keys[from];
+		}
+
+		@Override
+		protected void clearIdentifier(int index) {
+			keys[index] = 0L;
+		}
+
+		@Override
+		protected int idealIndexOf(int index) {
+			return index( keys[index], keys.length );
+		}
+
+		@Override
+		protected void allocateIdentifiers(int capacity) {
+			keys = new long[capacity];
+		}
+
+		@Override
+		protected Serializable identifierAt(int index) {
+			final long key = keys[index];
+			if ( identifierClass == Integer.class ) {
+				return (int) key;
+			}
+			else if ( identifierClass == Short.class ) {
+				return (short) key;
+			}
+			return key;
+		}
+
+		@Override
+		protected Object detachIdentifiers() {
+			return keys;
+		}
+
+		@Override
+		protected int reinsertIdentifier(Object detachedIdentifiers, int index) {
+			final long key = ( (long[]) detachedIdentifiers )[index];
+			final int mask = keys.length - 1;
+			int target = index( key, keys.length );
+			while ( values[target] != null ) {
+				target = ( target + 1 ) & mask;
+			}
+			keys[target] = key;
+			return target;
+		}
+	}
+
+	/**
+	 * Table for any other kind of identifier, hashed and compared through its Hibernate
+	 * {@link Type} exactly like {@link org.hibernate.engine.spi.EntityKey} does.
+	 */
+	static final class ObjectIdentifierTable extends IdentifierTable {
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+		private Serializable[] keys;
+		private int[] hashes;
+
+		ObjectIdentifierTable(Type identifierType, SessionFactoryImplementor factory) {
+			this.identifierType = identifierType;
+			this.factory = factory;
+		}
+
+		@Override
+		protected int indexOf(Serializable id) {
+			final int hash = identifierType.getHashCode( id, factory );
+			final Serializable[] keys = this.keys;
+			final int mask = keys.length - 1;
+			int index = index( hash, keys.length );
+			while ( values[index] != null ) {
+				if ( hashes[index] == hash && identifierType.isEqual( keys[index], id, factory ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@Override
+		protected int insertionIndexOf(Serializable id) {
+			final int hash = identifierType.getHashCode( id, factory );
+			final int mask = keys.length - 1;
+			int index = index( hash, keys.length );
+			while ( values[index] != null ) {
+				if ( hashes[index] == hash && identifierType.isEqual( keys[index], id, factory ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return index;
+		}
+
+		@Override
+		protected void storeIdentifier(int index, Serializable id) {
+			keys[index] = id;
+			hashes[index] = identifierType.getHashCode( id, factory );
+		}
+
+		@Override
+		protected void moveIdentifier(int from, int to) {
+			keys[to] = keys[from];
+			hashes[to] = hashes[from];
+		}
+
+		@Override
+		protected void clearIdentifier(int index) {
+			keys[index] = null;
+			hashes[index] = 0;
+		}
+
+		@Override
+		protected int idealIndexOf(int index) {
+			return index( hashes[index], keys.length );
+		}
+
+		@Override
+		protected void allocateIdentifiers(int capacity) {
+			keys = new Serializable[capacity];
+			hashes = new int[capacity];
+		}
+
+		@Override
+		protected Serializable identifierAt(int index) {
+			return keys[index];
+		}
+
+		@Override
+		protected Object detachIdentifiers() {
+			return new Object[] { keys, hashes };
+		}
+
+		@Override
+		protected int reinsertIdentifier(Object detachedIdentifiers, int index) {
+			final Serializable key = ( (Serializable[]) ( (Object[]) detachedIdentifiers )[0] )[index];
+			final int hash = ( (int[]) ( (Object[]) detachedIdentifiers )[1] )[index];
+			final int mask = keys.length - 1;
+			int target = index( hash, keys.length );
+			while ( values[target] != null ) {
+				target = ( target + 1 ) & mask;
+			}
+			keys[target] = key;
+			hashes[target] = hash;
+			return target;
+		}
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.EvictEvent;
+import org.hibernate.event.spi.EvictEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Keeps the approximate retained size of a {@link StatefulPersistenceContext} under a budget, by
+ * evicting read-only entities which are not referenced by any other entity of the persistence context.
+ * <p/>
+ * Sizes are estimated from a simple model of a 64-bit JVM with compressed references, counting for each
+ * entity its instance, its entry, its loaded state and its bookkeeping in the persistence context maps,
+ * but not the values of its properties beyond a fixed allowance.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SESSION_MEMORY_BUDGET
+ */
+final class PersistenceContextMemoryBudget {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PersistenceContextMemoryBudget.class );
+
+	private static final long ENTITY_SIZE = 168;
+	private static final long ENTITY_PROPERTY_SIZE = 28;
+	static final long COLLECTION_SIZE = 160;
+	static final long SNAPSHOT_SIZE = 96;
+	static final long PROXY_SIZE = 64;
+
+	private final StatefulPersistenceContext persistenceContext;
+	private final long budget;
+
+	// not enforcing again before the estimate grew past this, so that a persistence context holding
+	// nothing to evict is not scanned on every load
+	private long nextEnforcementSize;
+
+	// the entities added since the last enforcement are the last ones of the persistence context,
+	// and belong to the operation which just completed
+	private int addedEntityCount;
+
+	PersistenceContextMemoryBudget(StatefulPersistenceContext persistenceContext, long budget) {
+		this.persistenceContext = persistenceContext;
+		this.budget = budget;
+		this.nextEnforcementSize = budget;
+	}
+
+	/**
+	 * The approximate number of bytes retained by an entity of the given persister.
+	 */
+	static long estimateEntitySize(EntityPersister persister) {
+		return ENTITY_SIZE + ENTITY_PROPERTY_SIZE * persister.getPropertyTypes().length;
+	}
+
+	/**
+	 * The approximate number of bytes retained by the loaded state of the given entity, not counting
+	 * values shared with the entity instance itself, such as those of immutable types.
+	 */
+	static long estimateLoadedStateSize(Object entity, EntityEntry entry) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			return 0;
+		}
+		final Object[] currentState = entry.getPersister().getPropertyValues( entity );
+		long size = align( 16 + 4L * loadedState.length );
+		for ( int i = 0; i < loadedState.length; i++ ) {
+			final Object value = loadedState[i];
+			if ( value != null && value != currentState[i] ) {
+				size += estimateValueSize( value );
+			}
+		}
+		return size;
+	}
+
+	private static long estimateValueSize(Object value) {
+		if ( value instanceof Boolean || value instanceof Byte ) {
+			// cached instances
+			return 0;
+		}
+		if ( value instanceof Long || value instanceof Double ) {
+			return 24;
+		}
+		if ( value instanceof Number || value instanceof Character ) {
+			return 16;
+		}
+		if ( value instanceof String ) {
+			return 24 + align( 16 + ( (String) value ).length() );
+		}
+		if ( value instanceof byte[] ) {
+			return align( 16 + ( (byte[]) value ).length );
+		}
+		if ( value instanceof char[] ) {
+			return align( 16 + 2L * ( (char[]) value ).length );
+		}
+		if ( value instanceof Date ) {
+			return 24;
+		}
+		return 16;
+	}
+
+	private static long align(long size) {
+		return ( size + 7 ) & ~7L;
+	}
+
+	void entityAdded() {
+		addedEntityCount++;
+	}
+
+	void clear() {
+		addedEntityCount = 0;
+		nextEnforcementSize = budget;
+	}
+
+	/**
+	 * Evict entities if the persistence context grew past the budget, except those added since
+	 * the last enforcement.
+	 */
+	void enforce() {
+		final int candidateCount = persistenceContext.getNumberOfManagedEntities() - addedEntityCount;
+		addedEntityCount = 0;
+		final long estimate = persistenceContext.getEstimatedRetainedSize();
+		if ( estimate <= nextEnforcementSize || candidateCount <= 0 ) {
+			return;
+		}
+		if ( !( persistenceContext.getSession() instanceof EventSource ) ) {
+			return;
+		}
+
+		// evict down to three quarters of the budget, to not do it again on the next load
+		final long target = budget - budget / 4;
+		final EventSource session = (EventSource) persistenceContext.getSession();
+		final Set<Object> referenced = collectReferencedEntities( session );
+		final Map<EntityPersister, Boolean> evictable = new HashMap<>();
+		final EventListenerGroup<EvictEventListener> evictListeners = session.getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.EVICT );
+
+		int evicted = 0;
+		int candidates = candidateCount;
+		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			if ( candidates-- == 0 || persistenceContext.getEstimatedRetainedSize() <= target ) {
+				break;
+			}
+			final Object entity = me.getKey();
+			final EntityEntry entry = me.getValue();
+			if ( entry.getStatus() == Status.READ_ONLY
+					&& !referenced.contains( entity )
+					&& persistenceContext.getProxy( entry.getEntityKey() ) == null
+					&& evictable.computeIfAbsent( entry.getPersister(), PersistenceContextMemoryBudget::isEvictable ) ) {
+				evictListeners.fireEventOnEachListener( new EvictEvent( entity, session ), EvictEventListener::onEvict );
+				evicted++;
+			}
+		}
+
+		final long remaining = persistenceContext.getEstimatedRetainedSize();
+		nextEnforcementSize = Math.max( budget, remaining + budget / 4 );
+		LOG.debugf(
+				"Persistence context exceeded its memory budget of %s bytes with %s bytes: evicted %s entities, %s bytes remain",
+				budget,
+				estimate,
+				evicted,
+				remaining
+		);
+	}
+
+	/**
+	 * Evicting cascades: only evict entities which do not cascade eviction to others.
+	 */
+	private static boolean isEvictable(EntityPersister persister) {
+		for ( CascadeStyle cascadeStyle : persister.getPropertyCascadeStyles() ) {
+			if ( cascadeStyle.doCascade( CascadingActions.EVICT ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Set<Object> collectReferencedEntities(EventSource session) {
+		final Set<Object> referenced = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityPersister persister = me.getValue().getPersister();
+			collectReferencedEntities(
+					persister.getPropertyValues( me.getKey() ),
+					persister.getPropertyTypes(),
+					referenced,
+					session
+			);
+		}
+		persistenceContext.forEachCollectionEntry(
+				(collection, entry) -> collectReferencedEntities( collection, entry, referenced ),
+				false
+		);
+		return referenced;
+	}
+
+	private static void collectReferencedEntities(
+			Object[] values,
+			Type[] types,
+			Set<Object> referenced,
+			EventSource session) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() || types[i].isAnyType() ) {
+				referenced.add( value );
+			}
+			else if ( types[i].isComponentType() ) {
+				final CompositeType componentType = (CompositeType) types[i];
+				collectReferencedEntities(
+						componentType.getPropertyValues( value, session ),
+						componentType.getSubtypes(),
+						referenced,
+						session
+				);
+			}
+		}
+	}
+
+	private static void collectReferencedEntities(
+			PersistentCollection collection,
+			CollectionEntry entry,
+			Set<Object> referenced) {
+		final CollectionPersister persister = entry.getLoadedPersister() == null
+				? entry.getCurrentPersister()
+				: entry.getLoadedPersister();
+		if ( persister == null || !collection.wasInitialized() ) {
+			return;
+		}
+		final boolean entityElements = persister.getElementType().isEntityType();
+		final boolean entityIndexes = persister.hasIndex() && persister.getIndexType().isEntityType();
+		if ( entityElements || entityIndexes ) {
+			final Iterator<?> entries = collection.entries( persister );
+			int i = 0;
+			while ( entries.hasNext() ) {
+				final Object element = entries.next();
+				if ( entityElements ) {
+					referenced.add( collection.getElement( element ) );
+				}
+				if ( entityIndexes ) {
+					referenced.add( collection.getIndex( element, i, persister ) );
+				}
+				i++;
+			}
+		}
+	}
+}
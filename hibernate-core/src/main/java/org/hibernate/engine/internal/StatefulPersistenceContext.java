@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -99,6 +100,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean incrementalFlushEnabled;
+	private final PersistenceContextMemoryBudget memoryBudget;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -109,7 +112,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private EntityKeyMap<Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -119,7 +122,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private EntityKeyMap<Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -128,7 +131,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
+	private CollectionKeyMap<PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -159,6 +162,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// Collections accessed by the application since the last flush, only tracked for incremental flushing
+	private Set<PersistentCollection> touchedCollections;
+
+	private long flushExaminedEntityCount;
+	private long flushSkippedEntityCount;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -167,6 +176,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.incrementalFlushEnabled = session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
+		final long memoryBudget = session.getFactory().getSessionFactoryOptions().getSessionMemoryBudget();
+		this.memoryBudget = memoryBudget > 0 ? new PersistenceContextMemoryBudget( this, memoryBudget ) : null;
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -259,6 +271,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		unownedCollections = null;
 		proxiesByKey = null;
 		nullifiableEntityKeys = null;
+		touchedCollections = null;
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
@@ -268,6 +281,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			loadContexts.cleanup();
 		}
 		naturalIdXrefDelegate = null;
+		if ( memoryBudget != null ) {
+			memoryBudget.clear();
+		}
 	}
 
 	@Override
@@ -320,7 +336,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new EntityKeyMap<>();
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -393,7 +409,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -404,7 +420,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		return entitiesByKey == null ? null : entitiesByKey.get( key );
+		final Object entity = entitiesByKey == null ? null : entitiesByKey.get( key );
+		if ( incrementalFlushEnabled ) {
+			touchEntity( entity );
+		}
+		return entity;
 	}
 
 	@Override
@@ -567,6 +587,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 
 		entityEntryContext.addEntityEntry( entity, e );
+		if ( memoryBudget != null ) {
+			memoryBudget.entityAdded();
+		}
 
 		setHasNonReadOnlyEnties( status );
 		return e;
@@ -578,6 +601,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		((ManagedEntity)entity).$$_hibernate_getEntityEntry().setStatus( status );
 		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
+		if ( memoryBudget != null ) {
+			memoryBudget.entityAdded();
+		}
 
 		setHasNonReadOnlyEnties( status );
 		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
@@ -593,6 +619,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return proxiesByKey != null && proxiesByKey.containsValue( entity );
 	}
 
+	@Override
+	public Set<EntityKey> getProxyKeys() {
+		return proxiesByKey == null ? Collections.emptySet() : new HashSet<>( proxiesByKey.keySet() );
+	}
+
 	@Override
 	public boolean reassociateIfUninitializedProxy(Object value) throws MappingException {
 		if ( ! Hibernate.isInitialized( value ) ) {
@@ -776,7 +807,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -1009,6 +1040,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 	}
 
+	/**
+	 * Evict entities if this persistence context grew past its memory budget, sparing those added
+	 * since the last call.  Called by the session between top-level operations, and ignored during
+	 * a load, a flush or a cascade.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MEMORY_BUDGET
+	 */
+	public void enforceMemoryBudget() {
+		if ( memoryBudget != null && loadCounter == 0 && !flushing && cascading == 0 ) {
+			memoryBudget.enforce();
+		}
+	}
+
 	@Override
 	public PersistentCollection getCollectionHolder(Object array) {
 		return arrayHolders == null ? null : arrayHolders.get( array );
@@ -1113,6 +1157,117 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.getNumberOfManagedEntities();
 	}
 
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public void touchEntity(Object entity) {
+		if ( !incrementalFlushEnabled || entity == null || entity instanceof HibernateProxy ) {
+			// proxies touch their target themselves once they are actually used
+			return;
+		}
+		final EntityEntry entry = entityEntryContext.getEntityEntry( entity );
+		if ( entry != null ) {
+			entry.setUntouchedSinceFlush( false );
+		}
+	}
+
+	@Override
+	public void touchCollection(PersistentCollection collection) {
+		if ( incrementalFlushEnabled ) {
+			if ( touchedCollections == null ) {
+				touchedCollections = Collections.newSetFromMap( new IdentityHashMap<>( INIT_COLL_SIZE ) );
+			}
+			touchedCollections.add( collection );
+		}
+	}
+
+	@Override
+	public void processTouchedCollections() {
+		if ( touchedCollections == null ) {
+			return;
+		}
+		final Set<PersistentCollection> collections = touchedCollections;
+		touchedCollections = null;
+		for ( PersistentCollection collection : collections ) {
+			final CollectionEntry ce = getCollectionEntry( collection );
+			if ( ce == null ) {
+				continue;
+			}
+			// the owner cascades to, and may be versioned by, its collections
+			touchEntity( collection.getOwner() );
+			final CollectionPersister persister = ce.getLoadedPersister() == null
+					? ce.getCurrentPersister()
+					: ce.getLoadedPersister();
+			if ( persister == null || !collection.wasInitialized() ) {
+				continue;
+			}
+			final boolean entityElements = persister.getElementType().isEntityType();
+			final boolean entityIndexes = persister.hasIndex() && persister.getIndexType().isEntityType();
+			if ( entityElements || entityIndexes ) {
+				final Iterator<?> entries = collection.entries( persister );
+				int i = 0;
+				while ( entries.hasNext() ) {
+					final Object entry = entries.next();
+					if ( entityElements ) {
+						touchEntity( collection.getElement( entry ) );
+					}
+					if ( entityIndexes ) {
+						touchEntity( collection.getIndex( entry, i, persister ) );
+					}
+					i++;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void clearTouchedCollections() {
+		touchedCollections = null;
+	}
+
+	@Override
+	public void recordFlushedEntities(int examined, int skipped) {
+		flushExaminedEntityCount += examined;
+		flushSkippedEntityCount += skipped;
+	}
+
+	@Override
+	public long getFlushExaminedEntityCount() {
+		return flushExaminedEntityCount;
+	}
+
+	@Override
+	public long getFlushSkippedEntityCount() {
+		return flushSkippedEntityCount;
+	}
+
+	@Override
+	public long getEstimatedRetainedSize() {
+		long size = entityEntryContext.getEstimatedRetainedSize();
+		if ( collectionEntries != null ) {
+			size += PersistenceContextMemoryBudget.COLLECTION_SIZE * collectionEntries.size();
+		}
+		if ( entitySnapshotsByKey != null ) {
+			size += PersistenceContextMemoryBudget.SNAPSHOT_SIZE * entitySnapshotsByKey.size();
+		}
+		if ( proxiesByKey != null ) {
+			size += PersistenceContextMemoryBudget.PROXY_SIZE * proxiesByKey.size();
+		}
+		return size;
+	}
+
+	@Override
+	public long getEstimatedLoadedStateSize() {
+		long size = 0;
+		for ( Map.Entry<Object, EntityEntry> me : entityEntryContext.reentrantSafeEntityEntries() ) {
+			size += PersistenceContextMemoryBudget.estimateLoadedStateSize( me.getKey(), me.getValue() );
+		}
+		return size;
+	}
+
 	@Override
 	public Map getEntityEntries() {
 		return null;
@@ -1720,7 +1875,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1759,7 +1914,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1770,7 +1925,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = new CollectionKeyMap<>( sfi );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -1916,7 +2071,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection addCollectionByKey(CollectionKey collectionKey, PersistentCollection persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+			collectionsByKey = new CollectionKeyMap<>( session.getFactory() );
 		}
 		final PersistentCollection old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
@@ -29,7 +29,11 @@ import org.hibernate.service.ServiceRegistry;
  *
  * @author Steve Ebersole
  * @author Gail Badner
+ *
+ * @deprecated No longer used by {@link org.hibernate.engine.jdbc.spi.ResultSetWrapper}, which now wraps the
+ * result sets without reflection.
  */
+@Deprecated
 public class ResultSetWrapperProxy implements InvocationHandler {
 	private static final CoreMessageLogger LOG = messageLogger( ResultSetWrapperProxy.class );
 
@@ -28,6 +28,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchBuilderImpl.class );
 
 	private int jdbcBatchSize;
+	private boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -47,6 +48,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	@Override
 	public void configure(Map configurationValues) {
 		jdbcBatchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize );
+		multiRowInserts = ConfigurationHelper.getBoolean( Environment.STATEMENT_MULTI_ROW_INSERTS, configurationValues );
 	}
 
 	@Override
@@ -67,7 +69,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
 		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
+				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, multiRowInserts )
 				: new NonBatchingBatch( key, jdbcCoordinator );
 	}
 }
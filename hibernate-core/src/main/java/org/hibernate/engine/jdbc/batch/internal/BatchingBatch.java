@@ -8,12 +8,18 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -37,6 +43,10 @@ public class BatchingBatch extends AbstractBatchImpl {
 	private boolean batchExecuted;
 	private int statementPosition;
 
+	// the multi-row inserts, keyed by the SQL of their single-row statement (null if not applicable),
+	// or null if multi-row inserts are disabled
+	private final Map<String, MultiRowInsert> multiRowInserts;
+
 	/**
 	 * Constructs a BatchingBatch
 	 *
@@ -48,22 +58,56 @@ public class BatchingBatch extends AbstractBatchImpl {
 			BatchKey key,
 			JdbcCoordinator jdbcCoordinator,
 			int batchSize) {
+		this( key, jdbcCoordinator, batchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchingBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 * @param multiRowInserts Should inserts be executed as multi-row statements, if the Dialect supports it?
+	 */
+	public BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			boolean multiRowInserts) {
 		super( key, jdbcCoordinator );
 		if ( ! key.getExpectation().canBeBatched() ) {
 			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
 		}
 		this.batchSize = batchSize;
 		this.configuredBatchSize = batchSize;
+		this.multiRowInserts = multiRowInserts && getDialect().supportsMultiRowInsert() ? new HashMap<>() : null;
 	}
 
 	private String currentStatementSql;
 	private PreparedStatement currentStatement;
+	private MultiRowInsert currentMultiRowInsert;
+
+	private Dialect getDialect() {
+		return getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+	}
 
 	@Override
 	public PreparedStatement getBatchStatement(String sql, boolean callable) {
 		currentStatementSql = sql;
 		int previousBatchSize = getStatements().size();
-		currentStatement = super.getBatchStatement( sql, callable );
+		currentMultiRowInsert = multiRowInserts == null || callable ? null : getMultiRowInsert( sql );
+		if ( currentMultiRowInsert != null ) {
+			// the rows are recorded for the multi-row statements, so the single-row statement is never prepared
+			currentStatement = currentMultiRowInsert.getStatement();
+			getStatements().putIfAbsent( sql, currentStatement );
+		}
+		else {
+			currentStatement = super.getBatchStatement( sql, callable );
+		}
 		int currentBatchSize = getStatements().size();
 		if ( currentBatchSize > previousBatchSize ) {
 			this.batchSize = this.configuredBatchSize * currentBatchSize;
@@ -71,10 +115,24 @@ public class BatchingBatch extends AbstractBatchImpl {
 		return currentStatement;
 	}
 
+	private MultiRowInsert getMultiRowInsert(String sql) {
+		MultiRowInsert multiRowInsert = multiRowInserts.get( sql );
+		if ( multiRowInsert == null && !multiRowInserts.containsKey( sql ) ) {
+			multiRowInsert = MultiRowInsert.forStatement( sql, getKey().getExpectation(), configuredBatchSize, getDialect() );
+			multiRowInserts.put( sql, multiRowInsert );
+		}
+		return multiRowInsert;
+	}
+
 	@Override
 	public void addToBatch() {
 		try {
-			currentStatement.addBatch();
+			if ( currentMultiRowInsert != null ) {
+				currentMultiRowInsert.addRow();
+			}
+			else {
+				currentStatement.addBatch();
+			}
 		}
 		catch ( SQLException e ) {
 			abortBatch();
@@ -112,16 +170,12 @@ public class BatchingBatch extends AbstractBatchImpl {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				String sql = entry.getKey();
 				try {
-					final PreparedStatement statement = entry.getValue();
-					final int[] rowCounts;
-					try {
-						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
-						rowCounts = statement.executeBatch();
-					}
-					finally {
-						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+					final MultiRowInsert multiRowInsert = multiRowInserts == null ? null : multiRowInserts.get( sql );
+					if ( multiRowInsert != null ) {
+						multiRowInsert.execute( getJdbcCoordinator(), getKey() );
+						continue;
 					}
-					checkRowCounts( rowCounts, statement );
+					executeStatement( sql, entry.getValue(), batchPosition / getStatements().size() );
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -140,9 +194,51 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
+	private void executeStatement(String sql, PreparedStatement statement, int expectedRowCount) throws SQLException {
+		final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		final long executeStartNanos = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
+		final int[] rowCounts;
+		try {
+			getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+			rowCounts = statement.executeBatch();
+		}
+		finally {
+			getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+			if ( executeStartNanos != 0 ) {
+				final long microseconds = TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - executeStartNanos );
+				statistics.sqlStatementExecuted( sql, microseconds );
+				final SlowStatementDetector slowStatementDetector = getJdbcCoordinator().getSlowStatementDetector();
+				if ( slowStatementDetector != null ) {
+					slowStatementDetector.statementExecuted( statement, sql, getKey().toString(), microseconds );
+				}
+			}
+		}
+		checkRowCounts( rowCounts, statement, expectedRowCount );
+	}
+
+	@Override
+	protected void releaseStatements() {
+		if ( multiRowInserts != null ) {
+			for ( Map.Entry<String, MultiRowInsert> entry : multiRowInserts.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					// the recording statement is not a JDBC statement
+					getStatements().remove( entry.getKey() );
+					entry.getValue().release( getJdbcCoordinator() );
+				}
+			}
+			multiRowInserts.clear();
+		}
+		currentMultiRowInsert = null;
+		super.releaseStatements();
+	}
+
+	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, int expectedRowCount)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
+		if ( expectedRowCount != 0 && numberOfRowCounts != expectedRowCount ) {
 			LOG.unexpectedRowCounts();
 		}
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
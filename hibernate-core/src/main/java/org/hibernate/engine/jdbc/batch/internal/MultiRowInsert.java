@@ -0,0 +1,294 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.internal.ParameterRecordingStatement;
+import org.hibernate.engine.jdbc.internal.ParameterRecordingStatement.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Executes the rows added to a batch for a single-row {@code insert ... values (...)} statement as multi-row
+ * {@code insert ... values (...), (...)} statements.
+ * <p/>
+ * The parameters bound for each row are recorded by a {@link ParameterRecordingStatement}, and replayed onto
+ * the multi-row statement, shifted by the number of parameters of the preceding rows.  The row count
+ * reported for a multi-row statement is checked against the expected row count of all of its rows.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_MULTI_ROW_INSERTS
+ */
+final class MultiRowInsert {
+	private static final String VALUES = " values ";
+
+	private final String sqlPrefix;
+	private final String rowValues;
+	private final int parametersPerRow;
+	private final int maxRows;
+
+	private final ParameterRecordingStatement recordingStatement;
+
+	private final List<Binding[]> rows = new ArrayList<>();
+
+	private PreparedStatement fullStatement;
+
+	private MultiRowInsert(
+			String sqlPrefix,
+			String rowValues,
+			int parametersPerRow,
+			int maxRows) {
+		this.sqlPrefix = sqlPrefix;
+		this.rowValues = rowValues;
+		this.parametersPerRow = parametersPerRow;
+		this.maxRows = maxRows;
+		this.recordingStatement = new ParameterRecordingStatement( parametersPerRow );
+	}
+
+	/**
+	 * Build a MultiRowInsert for the given statement, if it is a single-row insert which would
+	 * benefit from being executed as multi-row statements.
+	 *
+	 * @param sql The SQL of the single-row insert
+	 * @param expectation The expected outcome of the single-row insert
+	 * @param batchSize The maximum number of rows of a multi-row statement
+	 * @param dialect The Dialect
+	 *
+	 * @return The MultiRowInsert, or {@code null} if the statement is not such an insert.
+	 */
+	static MultiRowInsert forStatement(String sql, Expectation expectation, int batchSize, Dialect dialect) {
+		if ( expectation != Expectations.BASIC && expectation != Expectations.NONE ) {
+			// the row count of the statement can only be verified against the usual expected row count
+			return null;
+		}
+		final String trimmed = sql.trim();
+		final String lowerCase = trimmed.toLowerCase( Locale.ROOT );
+		final int valuesIndex = lowerCase.lastIndexOf( VALUES );
+		if ( !startsWithInsert( lowerCase ) || valuesIndex < 0 || !trimmed.endsWith( ")" ) ) {
+			return null;
+		}
+		final String rowValues = trimmed.substring( valuesIndex + VALUES.length() ).trim();
+		final int parametersPerRow = countParameters( rowValues );
+		if ( parametersPerRow < 0 ) {
+			return null;
+		}
+
+		int maxRows = batchSize;
+		final int parameterLimit = dialect.getBindParameterCountLimit();
+		if ( parameterLimit > 0 && parametersPerRow > 0 ) {
+			maxRows = Math.min( maxRows, parameterLimit / parametersPerRow );
+		}
+		if ( maxRows < 2 ) {
+			return null;
+		}
+		return new MultiRowInsert(
+				trimmed.substring( 0, valuesIndex + VALUES.length() ),
+				rowValues,
+				parametersPerRow,
+				maxRows
+		);
+	}
+
+	private static boolean startsWithInsert(String sql) {
+		String statement = sql;
+		if ( statement.startsWith( "/*" ) ) {
+			final int commentEnd = statement.indexOf( "*/" );
+			if ( commentEnd < 0 ) {
+				return false;
+			}
+			statement = statement.substring( commentEnd + 2 ).trim();
+		}
+		return statement.startsWith( "insert into " );
+	}
+
+	/**
+	 * Count the parameters of the parenthesized values of a row.
+	 *
+	 * @return The number of parameters, or {@code -1} if the values are not a single parenthesized list.
+	 */
+	private static int countParameters(String rowValues) {
+		int parameters = 0;
+		int depth = 0;
+		char quote = 0;
+		for ( int i = 0; i < rowValues.length(); i++ ) {
+			final char c = rowValues.charAt( i );
+			if ( quote != 0 ) {
+				if ( c == quote ) {
+					quote = 0;
+				}
+			}
+			else if ( c == '\'' || c == '"' ) {
+				quote = c;
+			}
+			else if ( c == '?' ) {
+				parameters++;
+			}
+			else if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				if ( depth == 0 && i != rowValues.length() - 1 ) {
+					return -1;
+				}
+			}
+			else if ( depth == 0 && !Character.isWhitespace( c ) ) {
+				return -1;
+			}
+		}
+		return depth == 0 && quote == 0 ? parameters : -1;
+	}
+
+	/**
+	 * The statement onto which the parameters of a row are bound.
+	 */
+	PreparedStatement getStatement() {
+		return recordingStatement;
+	}
+
+	/**
+	 * Complete the current row.
+	 */
+	void addRow() {
+		rows.add( recordingStatement.getBindings() );
+		recordingStatement.clearParameters();
+	}
+
+	/**
+	 * Execute the completed rows.
+	 */
+	void execute(JdbcCoordinator jdbcCoordinator, BatchKey key) throws SQLException {
+		final Expectation expectation = key.getExpectation();
+		try {
+			int position = 0;
+			while ( position < rows.size() ) {
+				final int rowCount = Math.min( maxRows, rows.size() - position );
+				final PreparedStatement multiRowStatement = prepareStatement( jdbcCoordinator, rowCount );
+				try {
+					for ( int row = 0; row < rowCount; row++ ) {
+						final Binding[] bindings = rows.get( position + row );
+						for ( int i = 0; i < bindings.length; i++ ) {
+							if ( bindings[i] != null ) {
+								bindings[i].bind( multiRowStatement, row * parametersPerRow + i + 1 );
+							}
+						}
+					}
+					final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner()
+							.getJdbcSessionContext()
+							.getSessionFactory()
+							.getStatistics();
+					final long executeStartNanos = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
+					final int updateCount;
+					try {
+						jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+						updateCount = multiRowStatement.executeUpdate();
+					}
+					finally {
+						jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+						if ( executeStartNanos != 0 ) {
+							final String sql = jdbcCoordinator.getResourceRegistry().getSql( multiRowStatement );
+							final long microseconds = TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - executeStartNanos );
+							statistics.sqlStatementExecuted( sql, microseconds );
+							final SlowStatementDetector slowStatementDetector = jdbcCoordinator.getSlowStatementDetector();
+							if ( slowStatementDetector != null ) {
+								// the values of the last row were bound to the recording statement
+								slowStatementDetector.statementExecuted(
+										position + rowCount == rows.size() ? recordingStatement : multiRowStatement,
+										sql,
+										key.toString(),
+										microseconds
+								);
+							}
+						}
+					}
+					verifyOutcome( expectation, updateCount, rowCount, multiRowStatement, position );
+				}
+				finally {
+					if ( multiRowStatement != fullStatement ) {
+						jdbcCoordinator.getResourceRegistry().release( multiRowStatement );
+					}
+				}
+				position += rowCount;
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	/**
+	 * Verify the row count of a multi-row statement, which is expected to insert each of its rows.  A mismatch is
+	 * reported for the first row of the statement, with the number of rows which were not inserted, or which were
+	 * inserted in excess.
+	 */
+	private static void verifyOutcome(
+			Expectation expectation,
+			int updateCount,
+			int rowCount,
+			PreparedStatement multiRowStatement,
+			int position) throws SQLException {
+		final int expectedUpdateCount = Expectations.USUAL_EXPECTED_COUNT * rowCount;
+		if ( updateCount < 0 || updateCount == expectedUpdateCount ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				expectation.verifyOutcome(
+						updateCount < 0 ? updateCount : Expectations.USUAL_EXPECTED_COUNT,
+						multiRowStatement,
+						position + row
+				);
+			}
+		}
+		else {
+			expectation.verifyOutcome(
+					Math.max( 0, Expectations.USUAL_EXPECTED_COUNT + updateCount - expectedUpdateCount ),
+					multiRowStatement,
+					position
+			);
+		}
+	}
+
+	private PreparedStatement prepareStatement(JdbcCoordinator jdbcCoordinator, int rowCount) {
+		if ( rowCount == maxRows ) {
+			if ( fullStatement == null ) {
+				fullStatement = jdbcCoordinator.getStatementPreparer().prepareStatement( toStatementString( rowCount ) );
+			}
+			return fullStatement;
+		}
+		return jdbcCoordinator.getStatementPreparer().prepareStatement( toStatementString( rowCount ) );
+	}
+
+	private String toStatementString(int rowCount) {
+		final StringBuilder buf = new StringBuilder( sqlPrefix.length() + ( rowValues.length() + 2 ) * rowCount );
+		buf.append( sqlPrefix ).append( rowValues );
+		for ( int row = 1; row < rowCount; row++ ) {
+			buf.append( ", " ).append( rowValues );
+		}
+		return buf.toString();
+	}
+
+
+	/**
+	 * Release the statements, and drop any row not executed.
+	 */
+	void release(JdbcCoordinator jdbcCoordinator) {
+		rows.clear();
+		recordingStatement.clearParameters();
+		if ( fullStatement != null ) {
+			jdbcCoordinator.getResourceRegistry().release( fullStatement );
+			fullStatement = null;
+		}
+	}
+}
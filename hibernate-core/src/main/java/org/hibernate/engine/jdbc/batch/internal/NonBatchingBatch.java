@@ -13,6 +13,7 @@ import java.util.Map;
 import org.hibernate.JDBCException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.internal.CoreMessageLogger;
 
 import org.jboss.logging.Logger;
@@ -39,10 +40,23 @@ public class NonBatchingBatch extends AbstractBatchImpl {
 	@Override
 	public void addToBatch() {
 		notifyObserversImplicitExecution();
+		final SlowStatementDetector slowStatementDetector = jdbcCoordinator.getSlowStatementDetector();
 		for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 			try {
 				final PreparedStatement statement = entry.getValue();
-				final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
+				final int rowCount;
+				if ( slowStatementDetector == null ) {
+					rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
+				}
+				else {
+					final String previousSource = slowStatementDetector.setSource( getKey().toString() );
+					try {
+						rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
+					}
+					finally {
+						slowStatementDetector.setSource( previousSource );
+					}
+				}
 				getKey().getExpectation().verifyOutcome( rowCount, statement, 0 );
 				jdbcCoordinator.getResourceRegistry().release( statement );
 				jdbcCoordinator.afterStatementExecution();
@@ -11,11 +11,14 @@ import java.sql.Driver;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -36,7 +39,7 @@ import org.hibernate.service.spi.Stoppable;
 
 /**
  * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool, see {@link PooledConnections}.
  * <p/>
  * IMPL NOTE : not intended for production use!
  * <p/>
@@ -55,6 +58,15 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS, 0 to keep idle connections
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.SECONDS, 0 to keep connections for ever
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	// in TimeUnit.SECONDS, 0 to disable leak detection
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
+	public static final String VALIDATE_ON_BORROW = "hibernate.connection.pool_validate_on_borrow";
 
 	private volatile PoolState state;
 
@@ -94,6 +106,17 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30000 )
+		);
+		pooledConnectionBuilder.idleTimeout( ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 0 ) );
+		pooledConnectionBuilder.maxLifetime( ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 0 ) );
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
+		pooledConnectionBuilder.validateOnBorrow(
+				ConfigurationHelper.getBoolean( VALIDATE_ON_BORROW, configurationValues, false )
+		);
 
 		return pooledConnectionBuilder.build();
 	}
@@ -225,17 +248,40 @@ public class DriverManagerConnectionProviderImpl
 	}
 
 
+	/**
+	 * The pooled connections, in the manner of a concurrent bag: a connection is obtained by atomically reserving
+	 * the idle connection returned last, before creating a new one, up to the maximum size.  Past that size, the
+	 * threads wait, in order, for a connection to be handed off to them as it is returned, until the acquisition
+	 * timeout.
+	 * <p/>
+	 * The periodic {@link #validate()} maintains the minimum size, evicts the connections idle for too long, retires
+	 * those which reached their maximum lifetime, and reports those obtained for longer than the leak detection
+	 * threshold.
+	 */
 	public static class PooledConnections {
 
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<Connection>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<Connection>();
+		private final CopyOnWriteArrayList<PooledConnection> allConnections = new CopyOnWriteArrayList<>();
+		private final ConcurrentHashMap<Connection, PooledConnection> pooledConnections = new ConcurrentHashMap<>();
+		private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>( true );
+		private final AtomicInteger totalCount = new AtomicInteger();
+		private final AtomicInteger waitingCount = new AtomicInteger();
 
 		private static final CoreMessageLogger log = CoreLogging.messageLogger( DriverManagerConnectionProviderImpl.class );
 
+		// connections returned less than this ago are not validated when validateOnBorrow
+		private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos( 500 );
+		private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+		private static final long HANDOFF_TIMEOUT_MILLIS = 10;
+
 		private final ConnectionCreator connectionCreator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeoutNanos;
+		private final long idleTimeoutNanos;
+		private final long maxLifetimeNanos;
+		private final long leakDetectionThresholdNanos;
+		private final boolean validateOnBorrow;
 
 		private volatile boolean primed;
 
@@ -246,12 +292,40 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos( builder.acquisitionTimeout );
+			idleTimeoutNanos = TimeUnit.SECONDS.toNanos( builder.idleTimeout );
+			maxLifetimeNanos = TimeUnit.SECONDS.toNanos( builder.maxLifetime );
+			leakDetectionThresholdNanos = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
+			validateOnBorrow = builder.validateOnBorrow;
 			log.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
-			final int size = size();
+			final long now = System.nanoTime();
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.isInUse() ) {
+					if ( leakDetectionThresholdNanos > 0
+							&& !pooled.leakReported
+							&& now - pooled.obtainedAt > leakDetectionThresholdNanos ) {
+						pooled.leakReported = true;
+						ConnectionPoolingLogger.CONNECTIONS_LOGGER.connectionLeakDetected(
+								pooled.connection,
+								TimeUnit.NANOSECONDS.toSeconds( now - pooled.obtainedAt ),
+								pooled.obtainedStackTrace
+						);
+					}
+				}
+				else if ( isExpired( pooled, now )
+						|| idleTimeoutNanos > 0 && now - pooled.returnedAt > idleTimeoutNanos && totalCount.get() > minSize ) {
+					if ( pooled.reserve() ) {
+						log.debugf( "Removing idle or expired Connection from the pool" );
+						retire( pooled );
+					}
+				}
+			}
+
+			final int size = totalCount.get();
 
 			if ( !primed && size >= minSize ) {
 				// IMPL NOTE : the purpose of primed is to allow the pool to lazily reach its
@@ -265,85 +339,337 @@ public class DriverManagerConnectionProviderImpl
 				log.debugf( "Adding %s Connections to the pool", numberToBeAdded );
 				addConnections( numberToBeAdded );
 			}
-			else if ( size > maxSize ) {
-				int numberToBeRemoved = size - maxSize;
-				log.debugf( "Removing %s Connections from the pool", numberToBeRemoved );
-				removeConnections( numberToBeRemoved );
-			}
 		}
 
 		public void add(Connection conn) throws SQLException {
-			conn.setAutoCommit( true );
-			conn.clearWarnings();
-			availableConnections.offer( conn );
-		}
-
-		public Connection poll() throws SQLException {
-			Connection conn = availableConnections.poll();
-			if ( conn == null ) {
-				synchronized (allConnections) {
-					if(allConnections.size() < maxSize) {
-						addConnections( 1 );
-						return poll();
+			PooledConnection pooled = pooledConnections.get( conn );
+			if ( pooled == null ) {
+				// e.g. a wrapper of a pooled connection, which is then pooled in its place
+				log.debug( "Connection returned to the pool was not obtained from it, adding it to the pool" );
+				totalCount.incrementAndGet();
+				pooled = addConnection( conn, PooledConnection.IN_USE );
+			}
+			else if ( !pooled.isInUse() ) {
+				log.debug( "Connection returned to the pool more than once" );
+				return;
+			}
+			try {
+				conn.setAutoCommit( true );
+				conn.clearWarnings();
+			}
+			catch (SQLException e) {
+				retireAndReplace( pooled );
+				throw e;
+			}
+			if ( isExpired( pooled, System.nanoTime() ) ) {
+				retireAndReplace( pooled );
+				return;
+			}
+			pooled.obtainedStackTrace = null;
+			pooled.returnedAt = System.nanoTime();
+			release( pooled );
+		}
+
+		/**
+		 * Obtain a connection without waiting.
+		 *
+		 * @param reserved A connection already reserved by the caller, as returned by {@link #awaitConnection}, or
+		 * {@code null}
+		 *
+		 * @return The connection, or {@code null} if the pool has reached its maximum size and has no idle connection
+		 */
+		private Connection poll(PooledConnection reserved) throws SQLException {
+			PooledConnection pooled = reserved;
+			while ( true ) {
+				if ( pooled == null ) {
+					pooled = reserveIdleConnection();
+				}
+				if ( pooled == null ) {
+					pooled = createConnectionIfBelowMaxSize();
+				}
+				if ( pooled == null ) {
+					return null;
+				}
+				if ( prepareForUse( pooled ) ) {
+					return pooled.connection;
+				}
+				pooled = null;
+			}
+		}
+
+		/**
+		 * Reserve the idle connection which was returned last, as it is the most likely to still be valid, and to
+		 * have its statements cached by the driver.
+		 */
+		private PooledConnection reserveIdleConnection() {
+			while ( true ) {
+				PooledConnection lastReturned = null;
+				for ( PooledConnection pooled : allConnections ) {
+					if ( pooled.isIdle() && ( lastReturned == null || pooled.returnedAt - lastReturned.returnedAt > 0 ) ) {
+						lastReturned = pooled;
 					}
 				}
-				throw new HibernateException( "The internal connection pool has reached its maximum size and no connection is currently available!" );
+				if ( lastReturned == null || lastReturned.reserve() ) {
+					return lastReturned;
+				}
+			}
+		}
+
+		private PooledConnection createConnectionIfBelowMaxSize() {
+			for ( int count = totalCount.get(); count < maxSize; count = totalCount.get() ) {
+				if ( totalCount.compareAndSet( count, count + 1 ) ) {
+					return createConnection( PooledConnection.IN_USE );
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Wait for a connection to be returned to the pool, until the deadline.
+		 *
+		 * @return The connection, reserved for the caller, or {@code null} if another thread reserved the connection
+		 * handed off to the caller, which should then {@link #poll} again
+		 */
+		private PooledConnection awaitConnection(long deadline) {
+			waitingCount.incrementAndGet();
+			try {
+				// a connection may have been returned since looking for an idle one
+				final PooledConnection idle = reserveIdleConnection();
+				if ( idle != null ) {
+					return idle;
+				}
+				final long remaining = deadline - System.nanoTime();
+				final PooledConnection handedOff = remaining > 0
+						? handoffQueue.poll( remaining, TimeUnit.NANOSECONDS )
+						: null;
+				if ( handedOff == null ) {
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection became available within "
+									+ TimeUnit.NANOSECONDS.toMillis( acquisitionTimeoutNanos ) + " ms"
+					);
+				}
+				return handedOff.reserve() ? handedOff : null;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool", e );
+			}
+			finally {
+				waitingCount.decrementAndGet();
+			}
+		}
+
+		/**
+		 * @return {@code false} if the connection was retired rather than made ready for use
+		 */
+		private boolean prepareForUse(PooledConnection pooled) throws SQLException {
+			final long now = System.nanoTime();
+			if ( isExpired( pooled, now ) || validateOnBorrow && now - pooled.returnedAt > VALIDATION_BYPASS_NANOS && !isValid( pooled ) ) {
+				retire( pooled );
+				return false;
+			}
+			try {
+				pooled.connection.setAutoCommit( autoCommit );
+			}
+			catch (SQLException e) {
+				retire( pooled );
+				throw e;
+			}
+			pooled.obtainedAt = now;
+			pooled.leakReported = false;
+			if ( leakDetectionThresholdNanos > 0 ) {
+				pooled.obtainedStackTrace = new Exception( "Connection obtained here" );
+			}
+			return true;
+		}
+
+		private static boolean isValid(PooledConnection pooled) {
+			try {
+				return pooled.connection.isValid( VALIDATION_TIMEOUT_SECONDS );
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to validate pooled connection [%s]", e.getMessage() );
+				return false;
+			}
+		}
+
+		private boolean isExpired(PooledConnection pooled, long now) {
+			return maxLifetimeNanos > 0 && now - pooled.createdAt > maxLifetimeNanos;
+		}
+
+		/**
+		 * Make a connection available, handing it off to a waiting thread, if any.
+		 */
+		private void release(PooledConnection pooled) {
+			pooled.state.set( PooledConnection.IDLE );
+			try {
+				// a waiting thread may not be polling the hand-off queue yet, or may reserve the connection itself
+				while ( waitingCount.get() > 0 && pooled.isIdle() ) {
+					if ( handoffQueue.offer( pooled, HANDOFF_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS ) ) {
+						return;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				// the connection stays idle, for the waiting threads to find
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * Close a connection, reserved by the caller, and remove it from the pool.
+		 */
+		private void retire(PooledConnection pooled) {
+			pooled.state.set( PooledConnection.REMOVED );
+			if ( allConnections.remove( pooled ) ) {
+				pooledConnections.remove( pooled.connection );
+				totalCount.decrementAndGet();
+			}
+			try {
+				pooled.connection.close();
+			}
+			catch (SQLException e) {
+				log.unableToCloseConnection( e );
+			}
+		}
+
+		/**
+		 * Retire a connection being returned, replacing it for the waiting threads, if any, which would otherwise
+		 * wait for another connection to be returned.
+		 */
+		private void retireAndReplace(PooledConnection pooled) {
+			retire( pooled );
+			if ( waitingCount.get() > 0 ) {
+				addConnections( 1 );
 			}
-			conn.setAutoCommit( autoCommit );
-			return conn;
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = totalCount.get() - size();
 				if(allocationCount > 0) {
 					log.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
-					connection.close();
+				// connections still in use are closed as well, and are no longer pooled once returned
+				for ( PooledConnection pooled : allConnections ) {
+					pooled.state.set( PooledConnection.REMOVED );
+					allConnections.remove( pooled );
+					pooledConnections.remove( pooled.connection );
+					totalCount.decrementAndGet();
+					pooled.connection.close();
 				}
 			}
 		}
 
+		/**
+		 * @return The number of idle connections
+		 */
 		public int size() {
-			return availableConnections.size();
+			int size = 0;
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.isIdle() ) {
+					size++;
+				}
+			}
+			return size;
+		}
+
+		/**
+		 * @return The number of threads waiting for a connection
+		 */
+		public int getWaitingCount() {
+			return waitingCount.get();
 		}
 
 		protected void removeConnections(int numberToBeRemoved) {
-			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
+			for ( PooledConnection pooled : allConnections ) {
+				if ( numberToBeRemoved == 0 ) {
+					return;
 				}
-				catch (SQLException e) {
-					log.unableToCloseConnection( e );
+				if ( pooled.reserve() ) {
+					retire( pooled );
+					numberToBeRemoved--;
 				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				totalCount.incrementAndGet();
+				release( createConnection( PooledConnection.IDLE ) );
+			}
+		}
+
+		/**
+		 * Create a connection, whose place in the pool was reserved by incrementing the total count.
+		 */
+		private PooledConnection createConnection(int state) {
+			final Connection connection;
+			try {
+				connection = connectionCreator.createConnection();
+			}
+			catch (RuntimeException e) {
+				totalCount.decrementAndGet();
+				throw e;
 			}
+			return addConnection( connection, state );
+		}
+
+		private PooledConnection addConnection(Connection connection, int state) {
+			final PooledConnection pooled = new PooledConnection( connection, state );
+			pooledConnections.put( connection, pooled );
+			allConnections.add( pooled );
+			return pooled;
 		}
 
 		public String getUrl() {
 			return connectionCreator.getUrl();
 		}
 
+		private static class PooledConnection {
+			private static final int IDLE = 0;
+			private static final int IN_USE = 1;
+			private static final int REMOVED = 2;
+
+			private final Connection connection;
+			private final AtomicInteger state;
+			private final long createdAt = System.nanoTime();
+			private volatile long returnedAt = createdAt;
+			private volatile long obtainedAt;
+			private volatile Exception obtainedStackTrace;
+			private volatile boolean leakReported;
+
+			private PooledConnection(Connection connection, int state) {
+				this.connection = connection;
+				this.state = new AtomicInteger( state );
+			}
+
+			private boolean reserve() {
+				return state.compareAndSet( IDLE, IN_USE );
+			}
+
+			private boolean isIdle() {
+				return state.get() == IDLE;
+			}
+
+			private boolean isInUse() {
+				return state.get() == IN_USE;
+			}
+		}
+
 		public static class Builder {
 			private final ConnectionCreator connectionCreator;
 			private boolean autoCommit;
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30000;
+			private long idleTimeout;
+			private long maxLifetime;
+			private long leakDetectionThreshold;
+			private boolean validateOnBorrow;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -365,6 +691,43 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout How long to wait for a connection, in milliseconds
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout How long a connection above the minimum size may stay idle, in seconds
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxLifetime How long a connection may be used, in seconds
+			 */
+			public Builder maxLifetime(long maxLifetime) {
+				this.maxLifetime = maxLifetime;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold How long a connection may be obtained before being reported, in seconds
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
+			public Builder validateOnBorrow(boolean validateOnBorrow) {
+				this.validateOnBorrow = validateOnBorrow;
+				return this;
+			}
+
 			public PooledConnections build() {
 				return new PooledConnections( this );
 			}
@@ -397,7 +760,7 @@ public class DriverManagerConnectionProviderImpl
 				}
 				executorService = Executors.newSingleThreadScheduledExecutor( new ValidationThreadFactory() );
 				executorService.scheduleWithFixedDelay(
-						pool::validate,
+						this::validate,
 						validationInterval,
 						validationInterval,
 						TimeUnit.SECONDS
@@ -433,17 +796,38 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
-		public Connection getConnection() throws SQLException {
-			startIfNeeded();
+		private void validate() {
 			statelock.readLock().lock();
 			try {
-				return pool.poll();
+				if ( active ) {
+					pool.validate();
+				}
 			}
 			finally {
 				statelock.readLock().unlock();
 			}
 		}
 
+		public Connection getConnection() throws SQLException {
+			startIfNeeded();
+			final long deadline = System.nanoTime() + pool.acquisitionTimeoutNanos;
+			PooledConnections.PooledConnection reserved = null;
+			while ( true ) {
+				statelock.readLock().lock();
+				try {
+					final Connection connection = pool.poll( reserved );
+					if ( connection != null ) {
+						return connection;
+					}
+				}
+				finally {
+					statelock.readLock().unlock();
+				}
+				// waiting outside of the lock, so that stopping the pool is not delayed by the waiting threads
+				reserved = pool.awaitConnection( deadline );
+			}
+		}
+
 		public void closeConnection(Connection conn) throws SQLException {
 			if (conn == null) {
 				return;
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A {@link RoutingConnectionProvider} which routes the read-only sessions to read replicas of the primary database,
+ * and the other sessions to the primary database.
+ * <p/>
+ * The primary database is configured as usual, by {@link AvailableSettings#URL}, and the replicas by
+ * {@link #REPLICA_URLS}, sharing the other connection settings.  Each database has its own pool, built by
+ * {@link #buildConnectionProvider}.  A read-only session is routed to the replica with the least outstanding
+ * connections, or to the primary database if there are no replicas.
+ *
+ * @since 5.5
+ */
+public class ReadReplicaRoutingConnectionProviderImpl
+		implements RoutingConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	private static final ConnectionPoolingLogger log = ConnectionPoolingLogger.CONNECTIONS_LOGGER;
+
+	/**
+	 * The comma-separated JDBC URLs of the read replicas.
+	 */
+	public static final String REPLICA_URLS = "hibernate.connection.replica_urls";
+
+	/**
+	 * The name of the primary database, as reported by {@link #getTarget}.
+	 */
+	public static final String PRIMARY = "primary";
+
+	/**
+	 * The prefix of the names of the read replicas, followed by their position in {@link #REPLICA_URLS},
+	 * starting at 1.
+	 */
+	public static final String REPLICA_PREFIX = "replica-";
+
+	private ServiceRegistryImplementor serviceRegistry;
+
+	private Target primary;
+	private Target[] replicas;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final Map<Connection, Target> targets = new ConcurrentHashMap<>();
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void configure(Map configurationValues) {
+		primary = new Target( PRIMARY, buildConnectionProvider( configurationValues ) );
+
+		final String[] urls = ConfigurationHelper.toStringArray(
+				ConfigurationHelper.getString( REPLICA_URLS, configurationValues ),
+				","
+		);
+		replicas = new Target[urls.length];
+		for ( int i = 0; i < urls.length; i++ ) {
+			final Map<Object, Object> replicaConfigurationValues = ConfigurationHelper.clone( configurationValues );
+			replicaConfigurationValues.put( AvailableSettings.URL, urls[i].trim() );
+			replicas[i] = new Target( REPLICA_PREFIX + ( i + 1 ), buildConnectionProvider( replicaConfigurationValues ) );
+		}
+		log.routingToReadReplicas( replicas.length );
+	}
+
+	/**
+	 * Build the provider of the connections to one of the databases.
+	 *
+	 * @param configurationValues The settings, with the {@link AvailableSettings#URL} of the database
+	 *
+	 * @return The provider
+	 */
+	protected ConnectionProvider buildConnectionProvider(Map<?, ?> configurationValues) {
+		final DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.injectServices( serviceRegistry );
+		connectionProvider.configure( configurationValues );
+		return connectionProvider;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return getConnection( false );
+	}
+
+	@Override
+	public Connection getConnection(boolean readOnly) throws SQLException {
+		final Target target = readOnly && replicas.length > 0 ? leastOutstandingReplica() : primary;
+		target.outstanding.incrementAndGet();
+		try {
+			final Connection connection = target.connectionProvider.getConnection();
+			targets.put( connection, target );
+			return connection;
+		}
+		catch (SQLException | RuntimeException e) {
+			target.outstanding.decrementAndGet();
+			throw e;
+		}
+	}
+
+	private Target leastOutstandingReplica() {
+		// start from a different replica each time, to spread the load between those with as many connections
+		final int start = Math.floorMod( nextReplica.getAndIncrement(), replicas.length );
+		Target selected = replicas[start];
+		for ( int i = 1; i < replicas.length; i++ ) {
+			final Target replica = replicas[( start + i ) % replicas.length];
+			if ( replica.outstanding.get() < selected.outstanding.get() ) {
+				selected = replica;
+			}
+		}
+		return selected;
+	}
+
+	@Override
+	public void closeConnection(Connection conn) throws SQLException {
+		final Target target = targets.remove( conn );
+		if ( target == null ) {
+			primary.connectionProvider.closeConnection( conn );
+		}
+		else {
+			target.outstanding.decrementAndGet();
+			target.connectionProvider.closeConnection( conn );
+		}
+	}
+
+	@Override
+	public String getTarget(Connection connection) {
+		final Target target = targets.get( connection );
+		return target == null ? null : target.name;
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType ) ||
+				RoutingConnectionProvider.class.equals( unwrapType ) ||
+				ReadReplicaRoutingConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	@Override
+	public void stop() {
+		stop( primary );
+		if ( replicas != null ) {
+			for ( Target replica : replicas ) {
+				stop( replica );
+			}
+		}
+		targets.clear();
+	}
+
+	private static void stop(Target target) {
+		if ( target != null && target.connectionProvider instanceof Stoppable ) {
+			( (Stoppable) target.connectionProvider ).stop();
+		}
+	}
+
+	private static class Target {
+		private final String name;
+		private final ConnectionProvider connectionProvider;
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		private Target(String name, ConnectionProvider connectionProvider) {
+			this.name = name;
+			this.connectionProvider = connectionProvider;
+		}
+	}
+}
@@ -45,4 +45,15 @@ public interface JdbcConnectionAccess extends Serializable {
 	 * @see org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider#supportsAggressiveRelease()
 	 */
 	boolean supportsAggressiveRelease();
+
+	/**
+	 * The name of the database the connection last obtained was routed to, by a {@link RoutingConnectionProvider}.
+	 *
+	 * @return The name of the database, or {@code null} if no connection was routed
+	 *
+	 * @since 5.5
+	 */
+	default String getConnectionTarget() {
+		return null;
+	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ConnectionProvider} which routes the sessions to different databases, depending on whether they are
+ * read-only, typically to a primary database or to one of its read replicas.
+ * <p/>
+ * A session is read-only if it is {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only by
+ * default}, or has the {@link org.hibernate.cfg.AvailableSettings#CONNECTION_READ_ONLY} property set, when it
+ * obtains its connection, that is, as its transaction begins.  The connections obtained
+ * through {@link #getConnection()}, outside of a session, are for writing.
+ *
+ * @since 5.5
+ */
+public interface RoutingConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection for a session.
+	 *
+	 * @param readOnly Whether the session is read-only
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 */
+	Connection getConnection(boolean readOnly) throws SQLException;
+
+	/**
+	 * The name of the database a connection obtained from this provider was routed to.
+	 *
+	 * @param connection The JDBC connection
+	 *
+	 * @return The name of the database, or {@code null} if the connection was not obtained from this provider
+	 */
+	String getTarget(Connection connection);
+}
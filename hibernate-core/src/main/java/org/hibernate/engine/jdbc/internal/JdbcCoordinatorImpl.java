@@ -31,7 +31,9 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.JdbcWrapper;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
@@ -41,10 +43,12 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -70,6 +74,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private Statement lastQuery;
 	private final boolean isUserSuppliedConnection;
 
+	private transient PreparedStatementCache preparedStatementCache;
+
+	private transient SlowStatementDetector slowStatementDetector;
+
 	/**
 	 * If true, manually (and temporarily) circumvent aggressive release processing.
 	 */
@@ -86,8 +94,19 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final ConnectionReleaseMode releaseMode = isUserSuppliedConnection
+				? ConnectionReleaseMode.ON_CLOSE
+				: owner.getJdbcSessionContext().getPhysicalConnectionHandlingMode().getReleaseMode();
+		final int statementCacheSize = owner.getJdbcSessionContext().getPreparedStatementCacheSize();
+		if ( statementCacheSize > 0
+				&& ( releaseMode == ConnectionReleaseMode.ON_CLOSE || releaseMode == ConnectionReleaseMode.AFTER_TRANSACTION ) ) {
+			// with the other release modes, the connection is released before the registry closes the statements
+			this.preparedStatementCache = new PreparedStatementCache( statementCacheSize );
+		}
+
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				preparedStatementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -102,6 +121,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 		this.owner = owner;
 		this.jdbcServices = jdbcServices;
+		this.slowStatementDetector = createSlowStatementDetector();
 	}
 
 	private JdbcCoordinatorImpl(
@@ -114,6 +134,25 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.jdbcServices = owner.getJdbcSessionContext()
 				.getServiceRegistry()
 				.getService( JdbcServices.class );
+		this.slowStatementDetector = createSlowStatementDetector();
+	}
+
+	private SlowStatementDetector createSlowStatementDetector() {
+		final SqlStatementLogger sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		final long logSlowQuery = sqlStatementLogger == null ? 0 : sqlStatementLogger.getLogSlowQuery();
+		if ( logSlowQuery <= 0 ) {
+			return null;
+		}
+		final SessionFactoryImplementor sessionFactory = sessionFactory();
+		final StatisticsImplementor statistics = sessionFactory == null ? null : sessionFactory.getStatistics();
+		return statistics != null && statistics.isStatisticsEnabled()
+				? new SlowStatementDetector( logSlowQuery, statistics )
+				: null;
+	}
+
+	@Override
+	public SlowStatementDetector getSlowStatementDetector() {
+		return slowStatementDetector;
 	}
 
 	@Override
@@ -173,6 +212,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 		finally {
 			connection = logicalConnection.close();
+			if ( slowStatementDetector != null ) {
+				slowStatementDetector.clear();
+			}
 		}
 		return connection;
 	}
@@ -208,6 +250,17 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * The cache of the PreparedStatements of this session, if enabled.
+	 *
+	 * @return The cache, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -269,6 +322,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public void afterTransaction() {
 		transactionTimeOutInstant = -1;
+		if ( slowStatementDetector != null ) {
+			slowStatementDetector.clear();
+		}
 		if ( getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT ||
 				getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_TRANSACTION ) {
 			this.logicalConnection.afterTransaction();
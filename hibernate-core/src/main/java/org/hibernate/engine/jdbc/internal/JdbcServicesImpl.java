@@ -25,13 +25,14 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -56,10 +57,11 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		final boolean showSQL = ConfigurationHelper.getBoolean( Environment.SHOW_SQL, configValues, false );
 		final boolean formatSQL = ConfigurationHelper.getBoolean( Environment.FORMAT_SQL, configValues, false );
 		final long logSlowQuery = ConfigurationHelper.getLong( Environment.LOG_SLOW_QUERY, configValues, 0 );
+		final int asyncLogBufferSize = ConfigurationHelper.getInt( Environment.LOG_SQL_ASYNC_BUFFER_SIZE, configValues, 0 );
 
-		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
+		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery, asyncLogBufferSize );
 
-		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
+		resultSetWrapper = new ResultSetWrapperImpl();
 	}
 
 	@Override
@@ -113,4 +115,11 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public void stop() {
+		if ( sqlStatementLogger != null ) {
+			sqlStatementLogger.stop();
+		}
+	}
 }
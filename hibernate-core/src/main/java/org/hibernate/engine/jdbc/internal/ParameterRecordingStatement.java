@@ -0,0 +1,647 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/**
+ * A {@link PreparedStatement} which is never executed, but records the values bound to its parameters, so that
+ * they can be bound again to another statement, possibly at other positions, or be read back.
+ * <p/>
+ * Only the parameter setters, {@link #clearParameters()} and the lifecycle methods are supported; the other
+ * methods throw a {@link SQLFeatureNotSupportedException}.
+ */
+public final class ParameterRecordingStatement implements PreparedStatement {
+
+	/**
+	 * A recorded binding of a parameter.
+	 */
+	@FunctionalInterface
+	public interface Binding {
+		/**
+		 * Bind the recorded value to a parameter of a statement, through the setter it was recorded from.
+		 *
+		 * @param statement The statement
+		 * @param index The index of the parameter
+		 *
+		 * @throws SQLException Indicates a problem binding the value
+		 */
+		void bind(PreparedStatement statement, int index) throws SQLException;
+	}
+
+	private final Binding[] bindings;
+	private final Object[] values;
+	private final boolean[] plainValues;
+	private boolean closed;
+
+	/**
+	 * @param parameterCount The number of parameters of the statement
+	 */
+	public ParameterRecordingStatement(int parameterCount) {
+		this.bindings = new Binding[parameterCount];
+		this.values = new Object[parameterCount];
+		this.plainValues = new boolean[parameterCount];
+	}
+
+	/**
+	 * The number of parameters of the statement.
+	 */
+	public int getParameterCount() {
+		return bindings.length;
+	}
+
+	/**
+	 * The bindings of the parameters recorded since the parameters were last cleared.
+	 *
+	 * @return The bindings, by parameter position, {@code null} for the parameters which were not bound
+	 */
+	public Binding[] getBindings() {
+		return bindings.clone();
+	}
+
+	/**
+	 * The values bound to the parameters, if all of them were bound through a setter taking only the value
+	 * itself, possibly along with its SQL type: {@link #setNull(int, int)}, {@link #setString},
+	 * {@link #setNString}, the setters of the primitive types, {@link #setBigDecimal}, {@link #setBytes},
+	 * {@link #setDate(int, Date)}, {@link #setTime(int, Time)}, {@link #setTimestamp(int, Timestamp)},
+	 * {@link #setObject(int, Object)} or {@link #setObject(int, Object, int)}.
+	 *
+	 * @return The values, by parameter position, or {@code null} if some parameter was not bound, or was bound
+	 * otherwise, for example from a stream, a LOB or along with a {@link Calendar}
+	 */
+	public Object[] getValues() {
+		for ( boolean plainValue : plainValues ) {
+			if ( !plainValue ) {
+				return null;
+			}
+		}
+		return values.clone();
+	}
+
+	private void record(int parameterIndex, Object value, Binding binding) throws SQLException {
+		record( parameterIndex, value, true, binding );
+	}
+
+	private void record(int parameterIndex, Object value, boolean plainValue, Binding binding) throws SQLException {
+		checkOpen();
+		if ( parameterIndex < 1 || parameterIndex > bindings.length ) {
+			throw new SQLException(
+					"Parameter index " + parameterIndex + " out of range, the statement has "
+							+ bindings.length + " parameters"
+			);
+		}
+		bindings[parameterIndex - 1] = binding;
+		values[parameterIndex - 1] = value;
+		plainValues[parameterIndex - 1] = plainValue;
+	}
+
+	private void checkOpen() throws SQLException {
+		if ( closed ) {
+			throw new SQLException( "Statement closed" );
+		}
+	}
+
+	private static SQLException notSupported() {
+		return new SQLFeatureNotSupportedException( "The statement only records the values bound to its parameters" );
+	}
+
+	@Override
+	public void clearParameters() {
+		Arrays.fill( bindings, null );
+		Arrays.fill( values, null );
+		Arrays.fill( plainValues, false );
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		record( parameterIndex, null, (statement, index) -> statement.setNull( index, sqlType ) );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		record( parameterIndex, null, false, (statement, index) -> statement.setNull( index, sqlType, typeName ) );
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setBoolean( index, x ) );
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setByte( index, x ) );
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setShort( index, x ) );
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setInt( index, x ) );
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setLong( index, x ) );
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setFloat( index, x ) );
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setDouble( index, x ) );
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setBigDecimal( index, x ) );
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setString( index, x ) );
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) throws SQLException {
+		record( parameterIndex, value, (statement, index) -> statement.setNString( index, value ) );
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setBytes( index, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setDate( index, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setDate( index, x, cal ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setTime( index, x ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setTime( index, x, cal ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setTimestamp( index, x ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setTimestamp( index, x, cal ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setObject( index, x ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		record( parameterIndex, x, (statement, index) -> statement.setObject( index, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setObject( index, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setObject( index, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setObject( index, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setAsciiStream( index, x, length ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setAsciiStream( index, x, length ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setAsciiStream( index, x ) );
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setUnicodeStream( index, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setBinaryStream( index, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setBinaryStream( index, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setBinaryStream( index, x ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setCharacterStream( index, reader, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setCharacterStream( index, reader, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setCharacterStream( index, reader ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		record( parameterIndex, value, false, (statement, index) -> statement.setNCharacterStream( index, value, length ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		record( parameterIndex, value, false, (statement, index) -> statement.setNCharacterStream( index, value ) );
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setRef( index, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setBlob( index, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		record( parameterIndex, inputStream, false, (statement, index) -> statement.setBlob( index, inputStream, length ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		record( parameterIndex, inputStream, false, (statement, index) -> statement.setBlob( index, inputStream ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setClob( index, x ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setClob( index, reader, length ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setClob( index, reader ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		record( parameterIndex, value, false, (statement, index) -> statement.setNClob( index, value ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setNClob( index, reader, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		record( parameterIndex, reader, false, (statement, index) -> statement.setNClob( index, reader ) );
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setArray( index, x ) );
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setURL( index, x ) );
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		record( parameterIndex, x, false, (statement, index) -> statement.setRowId( index, x ) );
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		record( parameterIndex, xmlObject, false, (statement, index) -> statement.setSQLXML( index, xmlObject ) );
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean execute(String sql) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void addBatch(String sql) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		throw notSupported();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if ( iface.isInstance( this ) ) {
+			return iface.cast( this );
+		}
+		throw new SQLException( "Not a wrapper for " + iface.getName() );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) {
+		return iface.isInstance( this );
+	}
+}
@@ -11,13 +11,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -30,6 +33,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final StatisticsImplementor statistics;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -41,13 +45,17 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		this.dialect = jdbcServices.getDialect();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.statistics = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
 	}
 
 	@Override
 	public ResultSet extract(PreparedStatement statement) {
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -59,6 +67,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				sqlStatementExecuted( statement, null, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -80,7 +89,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public ResultSet extract(CallableStatement callableStatement) {
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -92,6 +101,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				sqlStatementExecuted( callableStatement, null, executeStartNanos );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -105,7 +115,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public ResultSet extract(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -117,6 +127,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				sqlStatementExecuted( statement, sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -130,7 +141,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public ResultSet execute(PreparedStatement statement) {
 		// sql logged by StatementPreparerImpl
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -147,6 +158,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				sqlStatementExecuted( statement, null, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -160,7 +172,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public ResultSet execute(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -177,6 +189,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				sqlStatementExecuted( statement, sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -189,7 +202,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public int executeUpdate(PreparedStatement statement) {
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -202,6 +215,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			sqlStatementExecuted( statement, null, executeStartNanos );
 		}
 	}
 
@@ -209,7 +223,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || statistics.isStatisticsEnabled() ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -222,6 +236,19 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			sqlStatementExecuted( statement, sql, executeStartNanos );
+		}
+	}
+
+	private void sqlStatementExecuted(Statement statement, String sql, long executeStartNanos) {
+		if ( executeStartNanos != 0 && statistics.isStatisticsEnabled() ) {
+			final String executedSql = sql == null ? jdbcCoordinator.getResourceRegistry().getSql( statement ) : sql;
+			final long microseconds = TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - executeStartNanos );
+			statistics.sqlStatementExecuted( executedSql, microseconds );
+			final SlowStatementDetector slowStatementDetector = jdbcCoordinator.getSlowStatementDetector();
+			if ( slowStatementDetector != null ) {
+				slowStatementDetector.statementExecuted( statement, executedSql, null, microseconds );
+			}
 		}
 	}
 
@@ -8,28 +8,31 @@ package org.hibernate.engine.jdbc.internal;
 
 import java.sql.ResultSet;
 
-import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.engine.jdbc.ColumnNameCache;
-import org.hibernate.engine.jdbc.ResultSetWrapperProxy;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
 import org.hibernate.service.ServiceRegistry;
 
 /**
  * Standard Hibernate implementation for wrapping a {@link ResultSet} in a
- " column name cache" wrapper.
+ " column name cache" wrapper, which reads the columns by position.
  *
  * @author Steve Ebersole
  * @author Gail Badner
  */
 public class ResultSetWrapperImpl implements ResultSetWrapper {
-	private final ServiceRegistry serviceRegistry;
+	public ResultSetWrapperImpl() {
+	}
 
+	/**
+	 * @deprecated The service registry is not needed anymore, use {@link #ResultSetWrapperImpl()} instead.
+	 */
+	@Deprecated
 	public ResultSetWrapperImpl(ServiceRegistry serviceRegistry) {
-		this.serviceRegistry = serviceRegistry;
+		this();
 	}
 
 	@Override
 	public ResultSet wrap(ResultSet resultSet, ColumnNameCache columnNameCache) {
-		return ResultSetWrapperProxy.generateProxy( resultSet, columnNameCache, serviceRegistry );
+		return new ColumnIndexResultSet( resultSet, columnNameCache );
 	}
 }
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A bounded, lock-free ring buffer through which SQL statements are handed over to a background thread, which
+ * formats and logs them, so that the threads executing the statements never wait for the logging.
+ * <p/>
+ * Any number of threads may {@link #offer} statements, which are dropped, and counted, while the buffer is full.
+ * The slots of the buffer carry a sequence number telling whether they are free for the producers, or filled for
+ * the single consumer; writing and reading that sequence number also publishes the content of the slot.
+ */
+public final class SqlStatementLogBuffer {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( SqlStatementLogBuffer.class );
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+	private final int mask;
+	private final String[] statements;
+	private final Formatter[] formatters;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private long head;
+
+	private final LongAdder droppedCount = new LongAdder();
+	private long reportedDroppedCount;
+
+	private final BiConsumer<String, Formatter> logger;
+	private final Thread consumer;
+	private volatile boolean stopped;
+
+	/**
+	 * Constructs a buffer, and starts its background thread.
+	 *
+	 * @param capacity The minimum number of statements the buffer holds, rounded up to a power of two
+	 * @param logger Formats and logs a statement, on the background thread
+	 */
+	public SqlStatementLogBuffer(int capacity, BiConsumer<String, Formatter> logger) {
+		if ( capacity < 1 ) {
+			throw new IllegalArgumentException( "The capacity of the SQL log buffer must be positive: " + capacity );
+		}
+		final int size = Integer.highestOneBit( capacity ) == capacity ? capacity : Integer.highestOneBit( capacity ) << 1;
+		this.mask = size - 1;
+		this.statements = new String[size];
+		this.formatters = new Formatter[size];
+		this.sequences = new AtomicLongArray( size );
+		for ( int i = 0; i < size; i++ ) {
+			sequences.set( i, i );
+		}
+		this.logger = logger;
+
+		this.consumer = new Thread( this::drainUntilStopped, "Hibernate SQL statement logger" );
+		this.consumer.setDaemon( true );
+		this.consumer.start();
+	}
+
+	/**
+	 * Hand a statement over to the background thread, without blocking.
+	 *
+	 * @param statement The SQL statement
+	 * @param formatter The formatter to use, if the statements are formatted
+	 *
+	 * @return {@code false} if the buffer is full, in which case the statement is dropped
+	 */
+	public boolean offer(String statement, Formatter formatter) {
+		long position = tail.get();
+		while ( true ) {
+			final int index = (int) ( position & mask );
+			final long difference = sequences.get( index ) - position;
+			if ( difference == 0 ) {
+				if ( tail.compareAndSet( position, position + 1 ) ) {
+					statements[index] = statement;
+					formatters[index] = formatter;
+					// publishes the slot to the consumer
+					sequences.set( index, position + 1 );
+					return true;
+				}
+				position = tail.get();
+			}
+			else if ( difference < 0 ) {
+				// the consumer did not free this slot yet
+				droppedCount.increment();
+				return false;
+			}
+			else {
+				// another producer took this slot
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * @return The number of statements dropped because the buffer was full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * Stop the background thread, once it logged the statements which are in the buffer.
+	 */
+	public void stop() {
+		stopped = true;
+		LockSupport.unpark( consumer );
+		try {
+			consumer.join( TimeUnit.SECONDS.toMillis( 10 ) );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drainUntilStopped() {
+		while ( !stopped ) {
+			if ( !drain() ) {
+				LockSupport.parkNanos( this, IDLE_PARK_NANOS );
+			}
+		}
+		drain();
+	}
+
+	/**
+	 * Log the statements which are in the buffer.
+	 *
+	 * @return Whether any statement was logged
+	 */
+	private boolean drain() {
+		boolean drained = false;
+		while ( true ) {
+			final int index = (int) ( head & mask );
+			if ( sequences.get( index ) != head + 1 ) {
+				break;
+			}
+			final String statement = statements[index];
+			final Formatter formatter = formatters[index];
+			statements[index] = null;
+			formatters[index] = null;
+			// frees the slot for the producers, one lap ahead
+			sequences.set( index, head + mask + 1 );
+			head++;
+			drained = true;
+			try {
+				logger.accept( statement, formatter );
+			}
+			catch (RuntimeException e) {
+				LOG.debugf( "Unable to log SQL statement: %s", e.getMessage() );
+			}
+		}
+		final long dropped = droppedCount.sum();
+		if ( dropped != reportedDroppedCount ) {
+			LOG.sqlStatementsNotLogged( dropped - reportedDroppedCount );
+			reportedDroppedCount = dropped;
+		}
+		return drained;
+	}
+}
@@ -18,8 +18,10 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of StatementPreparer
@@ -82,7 +84,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY, -1, null ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -104,7 +106,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, false, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
@@ -115,7 +117,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	public PreparedStatement prepareStatement(String sql, final String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, false, ResultSet.TYPE_FORWARD_ONLY, -1, columnNames ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
@@ -131,7 +133,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable, scrollMode.toResultSetType() ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -142,7 +144,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -157,29 +159,64 @@ class StatementPreparerImpl implements StatementPreparer {
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
 
-		protected StatementPreparationTemplate(String incomingSql) {
+		private final boolean isCallable;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+
+		protected StatementPreparationTemplate(
+				String incomingSql,
+				boolean isCallable,
+				int resultSetType,
+				int autoGeneratedKeys,
+				String[] columnNames) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.isCallable = isCallable;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				// callable statements are not cached, as their output parameters would have to be reset
+				final PreparedStatementCache statementCache = isCallable ? null : jdbcCoordinator.getPreparedStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null
+						? null
+						: PreparedStatementCache.key( sql, resultSetType, autoGeneratedKeys, columnNames );
+				PreparedStatement preparedStatement = cacheKey == null ? null : statementCache.checkOut( cacheKey );
+				if ( preparedStatement != null ) {
+					final StatisticsImplementor statistics = jdbcCoordinator.sessionFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.preparedStatementCacheHit();
+					}
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						if ( cacheKey != null ) {
+							statementCache.add( cacheKey, preparedStatement );
+						}
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
+				if ( jdbcCoordinator.sessionFactory().getStatistics().isStatisticsEnabled() ) {
+					// the execution statistics are kept per SQL statement
+					jdbcCoordinator.getResourceRegistry().registerSql( preparedStatement, sql );
+				}
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -203,8 +240,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, boolean isCallable, int resultSetType) {
+			super( sql, isCallable, resultSetType, -1, null );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -193,6 +193,17 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 		return getLogicalConnection().getResourceRegistry();
 	}
 
+	/**
+	 * The detector of the slow statements executed through this coordinator.
+	 *
+	 * @return The detector, or {@code null} if statistics are disabled, or no slow query threshold is set
+	 *
+	 * @since 5.5
+	 */
+	default SlowStatementDetector getSlowStatementDetector() {
+		return null;
+	}
+
 	void serialize(ObjectOutputStream objectOutputStream) throws IOException;
 
 }
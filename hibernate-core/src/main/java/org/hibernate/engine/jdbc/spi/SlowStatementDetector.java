@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * Reports the executions of the statements of a JDBC session which are slower than the
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY} threshold to the statistics, along with the values
+ * bound to their parameters, and what they were executed for.
+ * <p/>
+ * The values are recorded as they are bound, and kept until the execution of the statement, or until the
+ * transaction completes.
+ */
+public final class SlowStatementDetector {
+	private final long thresholdMicros;
+	private final StatisticsImplementor statistics;
+
+	private final Map<Statement, BoundValues> boundValues = new HashMap<>();
+	private String source;
+
+	/**
+	 * @param thresholdMillis The slow query threshold, in milliseconds
+	 * @param statistics The statistics to which the slow statements are reported
+	 */
+	public SlowStatementDetector(long thresholdMillis, StatisticsImplementor statistics) {
+		this.thresholdMicros = TimeUnit.MILLISECONDS.toMicros( thresholdMillis );
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Record a value bound to a parameter of a statement.
+	 *
+	 * @param statement The statement
+	 * @param index The index of the parameter
+	 * @param value The value, or {@code null}
+	 * @param javaTypeDescriptor The descriptor of the type of the value, rendering it
+	 */
+	public void parameterBound(Statement statement, int index, Object value, JavaTypeDescriptor<?> javaTypeDescriptor) {
+		boundValues.computeIfAbsent( statement, s -> new BoundValues() ).bound( index, value, javaTypeDescriptor );
+	}
+
+	/**
+	 * Set what the statements executed from now on are executed for.
+	 *
+	 * @param source The query, entity name or collection role, or {@code null}
+	 *
+	 * @return The previous source, to restore once the statements are executed
+	 */
+	public String setSource(String source) {
+		final String previous = this.source;
+		this.source = source;
+		return previous;
+	}
+
+	/**
+	 * Callback about the execution of a statement, reporting it to the statistics if it was slow.
+	 *
+	 * @param statement The statement
+	 * @param sql The SQL of the statement
+	 * @param source What the statement was executed for, or {@code null} for the current source
+	 * @param microseconds execution time
+	 */
+	public void statementExecuted(Statement statement, String sql, String source, long microseconds) {
+		final BoundValues values = boundValues.remove( statement );
+		if ( microseconds >= thresholdMicros && sql != null && statistics.isStatisticsEnabled() ) {
+			final StackTraceElement[] stackTrace = statistics.isSlowStatementStackTraceSampled()
+					? Thread.currentThread().getStackTrace()
+					: null;
+			statistics.slowStatementExecuted(
+					sql,
+					values == null ? null : values.toString(),
+					source == null ? this.source : source,
+					TimeUnit.MICROSECONDS.toMillis( microseconds ),
+					stackTrace
+			);
+		}
+	}
+
+	/**
+	 * Forget the values bound to statements which were not executed.
+	 */
+	public void clear() {
+		boundValues.clear();
+		source = null;
+	}
+
+	/**
+	 * The values bound to the parameters of a statement, rendered only if the execution is slow
+	 */
+	private static class BoundValues {
+		private Object[] values = new Object[8];
+		private JavaTypeDescriptor<?>[] javaTypeDescriptors = new JavaTypeDescriptor<?>[8];
+		private int count;
+
+		private void bound(int index, Object value, JavaTypeDescriptor<?> javaTypeDescriptor) {
+			if ( index > values.length ) {
+				final int length = Math.max( index, values.length * 2 );
+				values = Arrays.copyOf( values, length );
+				javaTypeDescriptors = Arrays.copyOf( javaTypeDescriptors, length );
+			}
+			values[index - 1] = value;
+			javaTypeDescriptors[index - 1] = javaTypeDescriptor;
+			count = Math.max( count, index );
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public String toString() {
+			final StringBuilder buffer = new StringBuilder( "[" );
+			for ( int i = 0; i < count; i++ ) {
+				if ( i > 0 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( i + 1 ).append( ':' );
+				final JavaTypeDescriptor javaTypeDescriptor = javaTypeDescriptors[i];
+				if ( values[i] == null || javaTypeDescriptor == null ) {
+					buffer.append( values[i] );
+				}
+				else {
+					buffer.append( javaTypeDescriptor.extractLoggableRepresentation( values[i] ) );
+				}
+			}
+			return buffer.append( ']' ).toString();
+		}
+	}
+}
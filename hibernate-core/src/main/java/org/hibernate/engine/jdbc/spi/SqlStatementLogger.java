@@ -11,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
+import org.hibernate.engine.jdbc.internal.SqlStatementLogBuffer;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.build.AllowSysOut;
 
@@ -33,6 +34,12 @@ public class SqlStatementLogger {
 	 */
 	private final long logSlowQuery;
 
+	/**
+	 * The buffer through which the statements are logged asynchronously, or {@code null} if they are logged
+	 * synchronously.
+	 */
+	private final SqlStatementLogBuffer asyncLogBuffer;
+
 	/**
 	 * Constructs a new SqlStatementLogger instance.
 	 */
@@ -58,9 +65,25 @@ public class SqlStatementLogger {
 	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery) {
+		this( logToStdout, format, logSlowQuery, 0 );
+	}
+
+	/**
+	 * Constructs a new SqlStatementLogger instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements prior to logging
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param asyncBufferSize The capacity of the buffer through which the statements are formatted and logged
+	 * by a background thread. 0 - the statements are logged by the calling thread.
+	 */
+	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery, int asyncBufferSize) {
 		this.logToStdout = logToStdout;
 		this.format = format;
 		this.logSlowQuery = logSlowQuery;
+		this.asyncLogBuffer = asyncBufferSize > 0
+				? new SqlStatementLogBuffer( asyncBufferSize, this::doLogStatement )
+				: null;
 	}
 
 	/**
@@ -102,6 +125,33 @@ public class SqlStatementLogger {
 		return logSlowQuery;
 	}
 
+	/**
+	 * Are the statements logged asynchronously?
+	 *
+	 * @return True if the statements are formatted and logged by a background thread; false otherwise.
+	 */
+	public boolean isAsync() {
+		return asyncLogBuffer != null;
+	}
+
+	/**
+	 * The number of statements which were not logged, as the asynchronous log buffer was full.
+	 *
+	 * @return The number of statements dropped, or 0 if the statements are logged synchronously.
+	 */
+	public long getDroppedStatementCount() {
+		return asyncLogBuffer == null ? 0 : asyncLogBuffer.getDroppedCount();
+	}
+
+	/**
+	 * Log the statements which are in the asynchronous log buffer, if any, and stop its background thread.
+	 */
+	public void stop() {
+		if ( asyncLogBuffer != null ) {
+			asyncLogBuffer.stop();
+		}
+	}
+
 	/**
 	 * Log a SQL statement string.
 	 *
@@ -118,8 +168,19 @@ public class SqlStatementLogger {
 	 * @param statement The SQL statement.
 	 * @param formatter The formatter to use.
 	 */
-	@AllowSysOut
 	public void logStatement(String statement, Formatter formatter) {
+		if ( asyncLogBuffer != null ) {
+			if ( logToStdout || LOG.isDebugEnabled() ) {
+				asyncLogBuffer.offer( statement, formatter );
+			}
+		}
+		else {
+			doLogStatement( statement, formatter );
+		}
+	}
+
+	@AllowSysOut
+	private void doLogStatement(String statement, Formatter formatter) {
 		if ( format ) {
 			if ( logToStdout || LOG.isDebugEnabled() ) {
 				statement = formatter.format( statement );
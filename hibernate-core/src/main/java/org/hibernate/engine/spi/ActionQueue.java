@@ -11,10 +11,11 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,7 +46,9 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.TopologicalSort;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -146,9 +149,16 @@ public class ActionQueue {
 						return instance.updates;
 					}
 					ExecutableList<EntityUpdateAction> init(ActionQueue instance) {
-						return instance.updates = new ExecutableList<EntityUpdateAction>(
-								instance.isOrderUpdatesEnabled()
-						);
+						if ( instance.isOrderDynamicUpdatesEnabled() ) {
+							return instance.updates = new ExecutableList<EntityUpdateAction>(
+									new UpdateActionSorter( instance.isOrderUpdatesEnabled() )
+							);
+						}
+						else {
+							return instance.updates = new ExecutableList<EntityUpdateAction>(
+									instance.isOrderUpdatesEnabled()
+							);
+						}
 					}
 				}
 		);
@@ -211,8 +221,15 @@ public class ActionQueue {
 						return instance.deletions;
 					}
 					ExecutableList<EntityDeleteAction> init(ActionQueue instance) {
-						// EntityDeleteAction executables never require sorting.
-						return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
+						if ( instance.isOrderDeletesEnabled() ) {
+							return instance.deletions = new ExecutableList<EntityDeleteAction>(
+									new DeleteActionSorter()
+							);
+						}
+						else {
+							// EntityDeleteAction executables otherwise never require sorting.
+							return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
+						}
 					}
 				}
 		);
@@ -774,13 +791,16 @@ public class ActionQueue {
 	}
 
 	public void sortActions() {
-		if ( isOrderUpdatesEnabled() && updates != null ) {
-			// sort the updates by pk
+		if ( ( isOrderUpdatesEnabled() || isOrderDynamicUpdatesEnabled() ) && updates != null ) {
+			// sort the updates by pk and/or group them by updated properties
 			updates.sort();
 		}
 		if ( isOrderInsertsEnabled() && insertions != null ) {
 			insertions.sort();
 		}
+		if ( isOrderDeletesEnabled() && deletions != null ) {
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -791,6 +811,14 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isOrderDynamicUpdatesEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isOrderDynamicUpdatesEnabled();
+	}
+
+	private boolean isOrderDeletesEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isOrderDeletesEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1022,7 +1050,13 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * The inserts are grouped by entity name, and the groups are ordered by a depth-first topological sort of the
+	 * dependency graph between them, visiting the groups in the order of their first insert. This takes time linear
+	 * in the number of inserts and dependencies between entity names.
+	 * </p>
+	 * <p>
+	 * If the dependency graph has a cycle, no order of the groups can satisfy every dependency, and the inserts are
+	 * left in their original cascade order.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
 	 *
@@ -1043,21 +1077,14 @@ public class ActionQueue {
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
-			private BatchIdentifier parent;
+			// the batches which must be inserted before this one
+			private final List<BatchIdentifier> dependencies = new ArrayList<>();
 
 			BatchIdentifier(String entityName, String rootEntityName) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
 			}
 
-			public BatchIdentifier getParent() {
-				return parent;
-			}
-
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
-			}
-
 			@Override
 			public boolean equals(Object o) {
 				if ( this == o ) {
@@ -1075,6 +1102,11 @@ public class ActionQueue {
 				return Objects.hash( entityName );
 			}
 
+			@Override
+			public String toString() {
+				return entityName;
+			}
+
 			String getEntityName() {
 				return entityName;
 			}
@@ -1091,45 +1123,14 @@ public class ActionQueue {
 				return childEntityNames;
 			}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
-
-			/**
-			 * Check if the this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier} reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier} reference
-			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() ) && !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
-			}
-
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
+			void addDependency(BatchIdentifier batchIdentifier) {
+				if ( batchIdentifier != null && batchIdentifier != this ) {
+					dependencies.add( batchIdentifier );
 				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
+		// the batches, in the order of their first insert.
 		private List<BatchIdentifier> latestBatches;
 
 		// the map of batch numbers to EntityInsertAction lists
@@ -1142,111 +1143,69 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
 			this.latestBatches = new ArrayList<>( );
 			this.actionBatches = new HashMap<>();
+			final Map<String, BatchIdentifier> batchesByEntityName = new HashMap<>();
 
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getSession()
+									.getFactory()
+									.getMetamodel()
+									.entityPersister( action.getEntityName() )
+									.getRootEntityName()
+					);
+					batchesByEntityName.put( batchIdentifier.getEntityName(), batchIdentifier );
 					latestBatches.add( batchIdentifier );
 				}
 				addParentChildEntityNames( action, batchIdentifier );
 				addToBatch( batchIdentifier, action );
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-				}
+			if ( latestBatches.size() == 1 ) {
+				return;
 			}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
-
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
-
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
-							}
-
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
-
-							continue sort;
+			// Build the dependency graph: a batch depends on the batches of the entity names it references,
+			// on those of any subclass of the root entity names it references, and on those of which it is a child.
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : latestBatches ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), k -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
+			for ( BatchIdentifier batchIdentifier : latestBatches ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					batchIdentifier.addDependency( batchesByEntityName.get( parentEntityName ) );
+					final List<BatchIdentifier> hierarchy = batchesByRootEntityName.get( parentEntityName );
+					if ( hierarchy != null && !batchIdentifier.getEntityName().equals( parentEntityName ) ) {
+						for ( BatchIdentifier parentBatchIdentifier : hierarchy ) {
+							batchIdentifier.addDependency( parentBatchIdentifier );
 						}
 					}
 				}
-				sorted = true;
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					final BatchIdentifier childBatchIdentifier = batchesByEntityName.get( childEntityName );
+					if ( childBatchIdentifier != null ) {
+						childBatchIdentifier.addDependency( batchIdentifier );
+					}
+				}
 			}
-			while ( !sorted && iterations <= maxIterations );
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+			final List<BatchIdentifier> sortedBatches = TopologicalSort.sort(
+					latestBatches,
+					batchIdentifier -> batchIdentifier.dependencies
+			);
+			if ( sortedBatches == null ) {
+				return;
 			}
 
 			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
-
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
-				}
+			insertions.clear();
+			for ( BatchIdentifier batchIdentifier : sortedBatches ) {
+				insertions.addAll( actionBatches.get( batchIdentifier ) );
 			}
 		}
 
@@ -1340,7 +1299,7 @@ public class ActionQueue {
 			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
 
 			if ( actions == null ) {
-				actions = new LinkedList<>();
+				actions = new ArrayList<>();
 				actionBatches.put( batchIdentifier, actions );
 			}
 			actions.add( action );
@@ -1348,6 +1307,214 @@ public class ActionQueue {
 
 	}
 
+	/**
+	 * Order the {@link #updates} queue such that the updates of a dynamic-update entity which update the same
+	 * properties, and therefore share the same SQL, are executed together and may be batched.  The updates of other
+	 * entities are grouped by entity name.
+	 * <p>
+	 * The groups are ordered by their first update, and keep the relative order of their updates, unless the updates
+	 * are also ordered by primary key, in which case they are sorted by entity name and primary key first.
+	 * </p>
+	 * NOTE: this class is not thread-safe.
+	 */
+	private static class UpdateActionSorter implements ExecutableList.Sorter<EntityUpdateAction> {
+
+		private static class UpdateShape {
+			private final String entityName;
+			private final int[] dirtyFields;
+			private final boolean hasDirtyCollection;
+
+			UpdateShape(EntityUpdateAction action) {
+				this.entityName = action.getEntityName();
+				if ( action.getPersister().getEntityMetamodel().isDynamicUpdate() ) {
+					this.dirtyFields = action.getDirtyFields();
+					this.hasDirtyCollection = action.hasDirtyCollection();
+				}
+				else {
+					this.dirtyFields = null;
+					this.hasDirtyCollection = false;
+				}
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if ( this == o ) {
+					return true;
+				}
+				if ( !( o instanceof UpdateShape ) ) {
+					return false;
+				}
+				UpdateShape that = (UpdateShape) o;
+				return hasDirtyCollection == that.hasDirtyCollection
+						&& entityName.equals( that.entityName )
+						&& Arrays.equals( dirtyFields, that.dirtyFields );
+			}
+
+			@Override
+			public int hashCode() {
+				int result = entityName.hashCode();
+				result = 31 * result + Arrays.hashCode( dirtyFields );
+				result = 31 * result + ( hasDirtyCollection ? 1 : 0 );
+				return result;
+			}
+		}
+
+		private final boolean orderByPrimaryKey;
+
+		UpdateActionSorter(boolean orderByPrimaryKey) {
+			this.orderByPrimaryKey = orderByPrimaryKey;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void sort(List<EntityUpdateAction> updates) {
+			if ( orderByPrimaryKey ) {
+				Collections.sort( updates );
+			}
+
+			final Map<UpdateShape, List<EntityUpdateAction>> groups = new LinkedHashMap<>();
+			for ( EntityUpdateAction action : updates ) {
+				groups.computeIfAbsent( new UpdateShape( action ), k -> new ArrayList<>() ).add( action );
+			}
+			if ( groups.size() == 1 ) {
+				return;
+			}
+
+			updates.clear();
+			for ( List<EntityUpdateAction> group : groups.values() ) {
+				updates.addAll( group );
+			}
+		}
+	}
+
+	/**
+	 * Order the {@link #deletions} queue such that the deletes of each entity type are executed together, and may be
+	 * batched.  An entity type is deleted before the entity types it references through a foreign key, which is the
+	 * reverse of the order in which they are inserted.
+	 * <p>
+	 * The deletes of each entity type keep their cascade order, as do the entity types themselves wherever the
+	 * foreign keys allow it.  If the entity types reference each other, no order of the entity types can satisfy
+	 * every foreign key, and the deletes are left in their cascade order.
+	 * </p>
+	 * NOTE: this class is not thread-safe.
+	 */
+	private static class DeleteActionSorter implements ExecutableList.Sorter<EntityDeleteAction> {
+
+		private static class DeleteGroup {
+			private final EntityPersister persister;
+			private final List<EntityDeleteAction> actions = new ArrayList<>();
+
+			// the groups which must be deleted before this one
+			private final List<DeleteGroup> dependencies = new ArrayList<>();
+
+			DeleteGroup(EntityPersister persister) {
+				this.persister = persister;
+			}
+
+			@Override
+			public String toString() {
+				return persister.getEntityName();
+			}
+
+			void addDependency(DeleteGroup group) {
+				if ( group != this ) {
+					dependencies.add( group );
+				}
+			}
+		}
+
+		@Override
+		public void sort(List<EntityDeleteAction> deletions) {
+			final Map<String, DeleteGroup> groupsByEntityName = new LinkedHashMap<>();
+			for ( EntityDeleteAction action : deletions ) {
+				groupsByEntityName.computeIfAbsent( action.getEntityName(), k -> new DeleteGroup( action.getPersister() ) )
+						.actions.add( action );
+			}
+			if ( groupsByEntityName.size() == 1 ) {
+				return;
+			}
+
+			// Build the dependency graph from the foreign keys of the entity types: the deletes of the entity types
+			// holding a foreign key must precede those of the entity types it references, including their subclasses.
+			final Map<String, List<DeleteGroup>> groupsByRootEntityName = new HashMap<>();
+			for ( DeleteGroup group : groupsByEntityName.values() ) {
+				groupsByRootEntityName.computeIfAbsent( group.persister.getRootEntityName(), k -> new ArrayList<>() )
+						.add( group );
+			}
+			for ( DeleteGroup group : groupsByEntityName.values() ) {
+				final Type identifierType = group.persister.getIdentifierType();
+				if ( identifierType.isComponentType() ) {
+					addDependencies( group, identifierType, groupsByRootEntityName );
+				}
+				for ( Type type : group.persister.getPropertyTypes() ) {
+					addDependencies( group, type, groupsByRootEntityName );
+				}
+			}
+
+			final List<DeleteGroup> sortedGroups = TopologicalSort.sort(
+					groupsByEntityName.values(),
+					group -> group.dependencies
+			);
+			if ( sortedGroups == null ) {
+				return;
+			}
+
+			deletions.clear();
+			for ( DeleteGroup group : sortedGroups ) {
+				deletions.addAll( group.actions );
+			}
+		}
+
+		private void addDependencies(DeleteGroup group, Type type, Map<String, List<DeleteGroup>> groupsByRootEntityName) {
+			final SessionFactoryImplementor factory = group.persister.getFactory();
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				final EntityPersister referencedPersister = factory.getMetamodel().entityPersister( entityType.getAssociatedEntityName() );
+				final boolean referencedHoldsForeignKey = entityType.isOneToOne()
+						&& ( (OneToOneType) entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT;
+				for ( DeleteGroup referencedGroup : getGroups( referencedPersister, groupsByRootEntityName ) ) {
+					if ( referencedHoldsForeignKey ) {
+						group.addDependency( referencedGroup );
+					}
+					else {
+						referencedGroup.addDependency( group );
+					}
+				}
+			}
+			else if ( type.isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) type;
+				if ( collectionType.getElementType( factory ).isEntityType()
+						&& !factory.getMetamodel().collectionPersister( collectionType.getRole() ).isManyToMany() ) {
+					// the elements of a one-to-many association hold the foreign key
+					final EntityPersister elementPersister = factory.getMetamodel()
+							.entityPersister( collectionType.getAssociatedEntityName( factory ) );
+					for ( DeleteGroup elementGroup : getGroups( elementPersister, groupsByRootEntityName ) ) {
+						group.addDependency( elementGroup );
+					}
+				}
+			}
+			else if ( type.isComponentType() ) {
+				for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+					addDependencies( group, subtype, groupsByRootEntityName );
+				}
+			}
+		}
+
+		private List<DeleteGroup> getGroups(EntityPersister persister, Map<String, List<DeleteGroup>> groupsByRootEntityName) {
+			final List<DeleteGroup> hierarchy = groupsByRootEntityName.get( persister.getRootEntityName() );
+			if ( hierarchy == null ) {
+				return Collections.emptyList();
+			}
+			final List<DeleteGroup> groups = new ArrayList<>( hierarchy.size() );
+			for ( DeleteGroup group : hierarchy ) {
+				if ( persister.isSubclassEntityName( group.persister.getEntityName() ) ) {
+					groups.add( group );
+				}
+			}
+			return groups;
+		}
+	}
+
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
 		abstract ExecutableList<T> get(ActionQueue instance);
 		abstract ExecutableList<T> init(ActionQueue instance);
@@ -19,8 +19,10 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.loader.BatchLoadSizingStrategy;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -357,6 +359,60 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
+	/**
+	 * Determine the maximum number of identifiers of an entity to batch-fetch, through the
+	 * {@link BatchLoadSizingStrategy}, for loaders which build their SQL for any number of identifiers.
+	 *
+	 * @param persister The persister for the entities being loaded.
+	 * @param batchSize The batch size of the entity
+	 * @return the maximum number of identifiers, at least batchSize
+	 */
+	public int getEntityBatchFetchSize(EntityPersister persister, int batchSize) {
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys == null
+				? null
+				: batchLoadableEntityKeys.get( persister.getEntityName() );
+		return determineBatchFetchSize( persister.getEntityName(), batchSize, set == null ? 0 : set.size(), true );
+	}
+
+	/**
+	 * Determine the maximum number of keys of a collection role to batch-fetch, through the
+	 * {@link BatchLoadSizingStrategy}, for loaders which build their SQL for any number of keys.
+	 *
+	 * @param collectionPersister The persister for the collection role.
+	 * @param batchSize The batch size of the collection role
+	 * @return the maximum number of keys, at least batchSize
+	 */
+	public int getCollectionBatchFetchSize(CollectionPersister collectionPersister, int batchSize) {
+		final LinkedHashMap<CollectionEntry, PersistentCollection> map = batchLoadableCollections == null
+				? null
+				: batchLoadableCollections.get( collectionPersister.getRole() );
+		return determineBatchFetchSize( collectionPersister.getRole(), batchSize, map == null ? 0 : map.size(), false );
+	}
+
+	private int determineBatchFetchSize(String role, int batchSize, int numberOfPendingKeys, boolean entity) {
+		final SessionFactoryImplementor factory = context.getSession().getFactory();
+		final BatchLoadSizingStrategy strategy = factory.getSessionFactoryOptions().getBatchLoadSizingStrategy();
+		if ( strategy == null ) {
+			return batchSize;
+		}
+
+		int fetchSize = Math.max( strategy.determineBatchFetchSize( role, batchSize, numberOfPendingKeys ), batchSize );
+		final int inExpressionCountLimit = factory.getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 ) {
+			fetchSize = Math.max( Math.min( fetchSize, inExpressionCountLimit ), batchSize );
+		}
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( entity ) {
+				statistics.entityBatchFetchSized( role, fetchSize );
+			}
+			else {
+				statistics.collectionBatchFetchSized( role, fetchSize );
+			}
+		}
+		return fetchSize;
+	}
+
 	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
 		SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
@@ -124,6 +124,20 @@ public interface EntityEntry {
 
 	void setReadOnly(boolean readOnly, Object entity);
 
+	/**
+	 * Was the entity found clean by a previous flush, and not handed out to the application since?
+	 * Only maintained when {@link org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH incremental flushing}
+	 * is enabled; any change of {@link #getStatus() status} resets it.
+	 *
+	 * @return {@code true} if the next automatic flush may skip this entity
+	 */
+	default boolean isUntouchedSinceFlush() {
+		return false;
+	}
+
+	default void setUntouchedSinceFlush(boolean untouched) {
+	}
+
 	@Override
 	String toString();
 
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Counts the entities a session loads by identifier, and the collections it initializes, one select at a time,
+ * by entity name or collection role, and reports the roles crossing the
+ * {@link org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD} threshold to the statistics, as N+1 selects.
+ * <p/>
+ * Only the selects are counted: the entities and collections found in the persistence context or in the
+ * second-level cache are not.  A batch fetch counts as one select.
+ *
+ * @since 5.5
+ */
+public final class NPlusOneDetector {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NPlusOneDetector.class );
+
+	private final int threshold;
+	private final StatisticsImplementor statistics;
+
+	private final Map<String, int[]> selectCounts = new HashMap<>();
+
+	/**
+	 * @param threshold The number of selects of the same role from which they are reported
+	 * @param statistics The statistics to which the N+1 selects are reported
+	 */
+	public NPlusOneDetector(int threshold, StatisticsImplementor statistics) {
+		this.threshold = threshold;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Callback about a select loading an entity by identifier, or initializing a collection.
+	 *
+	 * @param role The entity name or collection role
+	 */
+	public void selected(String role) {
+		if ( !statistics.isStatisticsEnabled() ) {
+			return;
+		}
+		final int selectCount = ++selectCounts.computeIfAbsent( role, r -> new int[1] )[0];
+		if ( selectCount == threshold ) {
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf( "N+1 selects detected: %s selects of %s in one session", selectCount, role );
+			}
+			statistics.nPlusOneSelectsDetected( role, selectCount );
+		}
+		else if ( selectCount > threshold ) {
+			statistics.nPlusOneSelect( role, selectCount );
+		}
+	}
+}
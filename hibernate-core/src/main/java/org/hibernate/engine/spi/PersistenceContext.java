@@ -8,9 +8,11 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -800,6 +802,97 @@ public interface PersistenceContext {
 	 */
 	Iterator managedEntitiesIterator();
 
+	/**
+	 * Is incremental flushing enabled for this persistence context?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * Record that a managed entity was handed out to the application, so that an incremental flush
+	 * has to dirty check it again.  A no-op unless incremental flushing is enabled.
+	 *
+	 * @param entity The entity instance; uninitialized proxies and unmanaged instances are ignored
+	 */
+	default void touchEntity(Object entity) {
+	}
+
+	/**
+	 * Record that the application accessed a collection, so that its owner and its entity elements
+	 * are considered {@link #touchEntity touched} by the next incremental flush.  A no-op unless
+	 * incremental flushing is enabled.
+	 *
+	 * @param collection The accessed collection
+	 */
+	default void touchCollection(PersistentCollection collection) {
+	}
+
+	/**
+	 * Propagate the collections touched since the previous flush to their owners and elements.
+	 * Called at the start of each flush.
+	 */
+	default void processTouchedCollections() {
+	}
+
+	/**
+	 * Forget about the collections touched while flushing, as those were accessed by the flush itself
+	 * rather than by the application.  Called at the end of each flush.
+	 */
+	default void clearTouchedCollections() {
+	}
+
+	/**
+	 * Record the outcome of processing the entities of one flush.
+	 *
+	 * @param examined The number of entities which were dirty checked
+	 * @param skipped The number of entities skipped by incremental flushing
+	 */
+	default void recordFlushedEntities(int examined, int skipped) {
+	}
+
+	/**
+	 * @return The total number of entities dirty checked by flushes of this persistence context
+	 */
+	default long getFlushExaminedEntityCount() {
+		return 0;
+	}
+
+	/**
+	 * @return The total number of entities skipped by incremental flushes of this persistence context
+	 */
+	default long getFlushSkippedEntityCount() {
+		return 0;
+	}
+
+	/**
+	 * @return The approximate number of bytes retained by this persistence context
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MEMORY_BUDGET
+	 */
+	default long getEstimatedRetainedSize() {
+		return 0;
+	}
+
+	/**
+	 * @return The approximate number of bytes retained by the loaded state snapshots of the entities
+	 * of this persistence context, not counting values they share with the entity instances
+	 */
+	default long getEstimatedLoadedStateSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the keys of the proxies associated with this persistence context.
+	 *
+	 * @return A copy of the keys, unaffected by later changes to the persistence context
+	 */
+	default Set<EntityKey> getProxyKeys() {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Provides centralized access to natural-id-related functionality.
 	 */
@@ -64,12 +64,15 @@ public final class QueryParameters {
 	private boolean autodiscovertypes;
 	private boolean isNaturalKeyLookup;
 	private boolean passDistinctThrough = true;
+	private boolean detachScrolledEntities;
 
 	private final ResultTransformer resultTransformer; // why is all others non final ?
 
 	private String processedSQL;
 	private Type[] processedPositionalParameterTypes;
 	private Object[] processedPositionalParameterValues;
+	// the positions of the positional parameters among the filtered ones, or null when there are no filter parameters
+	private int[] processedPositionalParameterPositions;
 
 	private HQLQueryPlan queryPlan;
 
@@ -520,6 +523,22 @@ public final class QueryParameters {
 		this.passDistinctThrough = passDistinctThrough;
 	}
 
+	/**
+	 * Check if this query should detach the entities of each row it scrolls through before reading the next one.
+	 * @return the query detaches the scrolled entities
+	 */
+	public boolean isDetachScrolledEntities() {
+		return detachScrolledEntities;
+	}
+
+	/**
+	 * Set if this query should detach the entities of each row it scrolls through before reading the next one.
+	 * @param detachScrolledEntities the query detaches the scrolled entities
+	 */
+	public void setDetachScrolledEntities(boolean detachScrolledEntities) {
+		this.detachScrolledEntities = detachScrolledEntities;
+	}
+
 	public void processFilters(String sql, SharedSessionContractImplementor session) {
 		processFilters( sql, session.getLoadQueryInfluencers().getEnabledFilters(), session.getFactory() );
 	}
@@ -530,6 +549,7 @@ public final class QueryParameters {
 			// HELLA IMPORTANT OPTIMIZATION!!!
 			processedPositionalParameterValues = getPositionalParameterValues();
 			processedPositionalParameterTypes = getPositionalParameterTypes();
+			processedPositionalParameterPositions = null;
 			processedSQL = sql;
 		}
 		else {
@@ -537,6 +557,7 @@ public final class QueryParameters {
 			StringBuilder result = new StringBuilder();
 			List parameters = new ArrayList();
 			List parameterTypes = new ArrayList();
+			final int[] positions = new int[getPositionalParameterValues().length];
 			int positionalIndex = 0;
 			while ( tokens.hasMoreTokens() ) {
 				final String token = tokens.nextToken();
@@ -581,6 +602,7 @@ public final class QueryParameters {
 								result.append( nextToken );
 							}
 						}
+						positions[positionalIndex] = parameters.size();
 						parameters.add( getPositionalParameterValues()[positionalIndex] );
 						parameterTypes.add( type );
 						positionalIndex++;
@@ -589,6 +611,7 @@ public final class QueryParameters {
 			}
 			processedPositionalParameterValues = parameters.toArray();
 			processedPositionalParameterTypes = ( Type[] ) parameterTypes.toArray( new Type[parameterTypes.size()] );
+			processedPositionalParameterPositions = positions;
 			processedSQL = result.toString();
 		}
 	}
@@ -618,6 +641,20 @@ public final class QueryParameters {
 		return processedPositionalParameterTypes;
 	}
 
+	/**
+	 * The index among the {@link #getFilteredPositionalParameterValues() filtered positional parameters} of the
+	 * positional parameter at the given index, which moved if filter parameters were inserted before it.
+	 *
+	 * @param positionalIndex The index of the positional parameter
+	 *
+	 * @return The index of the positional parameter among the filtered ones
+	 */
+	public int getFilteredPositionalParameterIndex(int positionalIndex) {
+		return processedPositionalParameterPositions == null
+				? positionalIndex
+				: processedPositionalParameterPositions[positionalIndex];
+	}
+
 	public boolean isNaturalKeyLookup() {
 		return isNaturalKeyLookup;
 	}
@@ -653,7 +690,9 @@ public final class QueryParameters {
 		copy.processedSQL = this.processedSQL;
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
+		copy.processedPositionalParameterPositions = this.processedPositionalParameterPositions;
 		copy.passDistinctThrough = this.passDistinctThrough;
+		copy.detachScrolledEntities = this.detachScrolledEntities;
 		return copy;
 	}
 
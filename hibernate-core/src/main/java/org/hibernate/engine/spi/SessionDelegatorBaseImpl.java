@@ -53,6 +53,7 @@ import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -1234,4 +1235,14 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 	public TimeZone getJdbcTimeZone() {
 		return delegate.getJdbcTimeZone();
 	}
+
+	@Override
+	public SlowStatementDetector getSlowStatementDetector() {
+		return delegate.getSlowStatementDetector();
+	}
+
+	@Override
+	public NPlusOneDetector getNPlusOneDetector() {
+		return delegate.getNPlusOneDetector();
+	}
 }
@@ -185,6 +185,17 @@ public interface SharedSessionContractImplementor
 	 */
 	CacheTransactionSynchronization getCacheTransactionSynchronization();
 
+	/**
+	 * The detector of the N+1 selects performed by this session.
+	 *
+	 * @return The detector, or {@code null} if no N+1 select threshold is set
+	 *
+	 * @since 5.5
+	 */
+	default NPlusOneDetector getNPlusOneDetector() {
+		return null;
+	}
+
 	/**
 	 * Does this <tt>Session</tt> have an active Hibernate transaction
 	 * or is there a JTA transaction in progress?
@@ -26,15 +26,18 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.service.spi.JpaBootstrapSensitive;
+import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.PrecomputedDirtyCheck;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.persister.entity.EntityPersister;
@@ -78,7 +81,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
-		prepareEntityFlushes( session, persistenceContext );
+		// the owners and elements of collections accessed since the last flush need to be examined again
+		persistenceContext.processTouchedCollections();
+
+		prepareEntityFlushes( event, session, persistenceContext );
 		// we could move this inside if we wanted to
 		// tolerate collection initializations during
 		// collection dirty checking:
@@ -99,6 +105,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			persistenceContext.setFlushing(false);
 		}
 
+		// collections iterated by the flush itself (cascades, reachability) were not handed out
+		persistenceContext.clearTouchedCollections();
+
 		//some statistics
 		logFlushResults( event );
 	}
@@ -134,18 +143,23 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 	 * any newly referenced entity that must be passed to saveOrUpdate(),
 	 * and also apply orphan delete
 	 */
-	private void prepareEntityFlushes(EventSource session, PersistenceContext persistenceContext) throws HibernateException {
+	private void prepareEntityFlushes(FlushEvent event, EventSource session, PersistenceContext persistenceContext)
+			throws HibernateException {
 
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		// as in flushEntities(), only automatic flushes may skip the entities left untouched since the previous flush
+		final boolean skipUntouched = persistenceContext.isIncrementalFlushEnabled() && event instanceof AutoFlushEvent;
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
-				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
+				if ( !skipUntouched || !isUntouched( entry, me.getKey() ) ) {
+					cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
+				}
 			}
 		}
 	}
@@ -219,26 +233,84 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final boolean incremental = persistenceContext.isIncrementalFlushEnabled();
+		// only an automatic flush skips untouched entities: the application may still hold and modify
+		// an instance it obtained before the previous flush, so commits and explicit flushes check them all
+		final boolean skipUntouched = incremental && event instanceof AutoFlushEvent;
+		final ActionQueue actionQueue = source.getActionQueue();
+		int examined = 0;
+		int skipped = 0;
+
+		// compare the state of large numbers of entities in parallel, if enabled
+		final PrecomputedDirtyCheck[] precomputedDirtyChecks = ParallelDirtyChecker.precompute( entityEntries, skipUntouched, source );
+
+		for ( int i = 0; i < count; i++ ) {
 
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
+				if ( skipUntouched && isUntouched( entry, me.getKey() ) ) {
+					markReachableCollections( source, me.getKey(), entry );
+					skipped++;
+					continue;
+				}
+
+				final int numberOfUpdates = actionQueue.numberOfUpdates();
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				if ( precomputedDirtyChecks != null ) {
+					entityEvent.setPrecomputedDirtyCheck( precomputedDirtyChecks[i] );
+				}
 				for ( FlushEntityEventListener listener : flushListeners ) {
 					listener.onFlushEntity( entityEvent );
 				}
+				examined++;
+
+				if ( incremental && actionQueue.numberOfUpdates() == numberOfUpdates ) {
+					// found clean: automatic flushes skip it until it is handed out again
+					status = entry.getStatus();
+					if ( status == Status.MANAGED || status == Status.READ_ONLY ) {
+						entry.setUntouchedSinceFlush( true );
+					}
+				}
 			}
 		}
 
-		source.getActionQueue().sortActions();
+		persistenceContext.recordFlushedEntities( examined, skipped );
+
+		actionQueue.sortActions();
 
 		return count;
 	}
 
+	/**
+	 * Is the entity one an incremental flush does not need to look at?
+	 */
+	private static boolean isUntouched(EntityEntry entry, Object entity) {
+		if ( !entry.isUntouchedSinceFlush() ) {
+			return false;
+		}
+		// bytecode enhancement may tell us about changes which did not go through the Session
+		return !( entity instanceof SelfDirtinessTracker )
+				|| !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
+	/**
+	 * An entity skipped by an incremental flush still needs to mark the collections it references as reachable.
+	 * As it was not handed out since the last flush, its loaded state reflects its current state.
+	 */
+	private static void markReachableCollections(EventSource session, Object entity, EntityEntry entry) {
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasCollections() ) {
+			final Object[] loadedState = entry.getLoadedState();
+			final Object[] values = loadedState == null ? persister.getPropertyValues( entity ) : loadedState;
+			new FlushVisitor( session, entity ).processEntityPropertyValues( values, persister.getPropertyTypes() );
+		}
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -58,15 +58,17 @@ public abstract class AbstractReassociateEventListener implements Serializable {
 		final PersistenceContext persistenceContext = source.getPersistenceContext();
 		persistenceContext.checkUniqueness( key, object );
 
-		//get a snapshot
+		//get a snapshot, unless it is not retained anyway
 		Object[] values = persister.getPropertyValues( object );
-		TypeHelper.deepCopy(
-				values,
-				persister.getPropertyTypes(),
-				persister.getPropertyUpdateability(),
-				values,
-				source
-		);
+		if ( persister.isMutable() ) {
+			TypeHelper.deepCopy(
+					values,
+					persister.getPropertyTypes(),
+					persister.getPropertyUpdateability(),
+					values,
+					source
+			);
+		}
 		Object version = Versioning.getVersion( values, persister );
 
 		EntityEntry newEntry = persistenceContext.addEntity(
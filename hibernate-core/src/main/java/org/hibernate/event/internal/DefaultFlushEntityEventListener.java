@@ -31,6 +31,7 @@ import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.event.spi.PrecomputedDirtyCheck;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
@@ -163,6 +164,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		event.setPropertyValues( values );
 
+		final PrecomputedDirtyCheck precomputedDirtyCheck = event.getPrecomputedDirtyCheck();
+		if ( precomputedDirtyCheck != null && !precomputedDirtyCheck.isApplicable( values ) ) {
+			// the state changed since it was compared, e.g. through an Interceptor
+			event.setPrecomputedDirtyCheck( null );
+		}
+
 		//TODO: avoid this for non-new instances where mightBeDirty==false
 		boolean substitute = wrapCollections( session, persister, types, values );
 
@@ -582,7 +589,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
 					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					final PrecomputedDirtyCheck precomputedDirtyCheck = event.getPrecomputedDirtyCheck();
+					dirtyProperties = precomputedDirtyCheck == null
+							? persister.findDirty( values, loadedState, entity, session )
+							: ParallelDirtyChecker.complete( precomputedDirtyCheck, values, loadedState, persister, session );
 				}
 				else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -18,6 +18,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.NPlusOneDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -579,6 +580,11 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
 
+		final NPlusOneDetector nPlusOneDetector = event.getSession().getNPlusOneDetector();
+		if ( nPlusOneDetector != null ) {
+			nPlusOneDetector.selected( persister.getEntityName() );
+		}
+
 		return entity;
 	}
 
@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PrecomputedDirtyCheck;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.NonIdentifierAttribute;
+
+/**
+ * Compares the current and loaded state of many entities on the common {@link ForkJoinPool},
+ * ahead of the flush entity events.
+ * <p/>
+ * Only properties whose comparison cannot involve the Session are checked here: association
+ * types may need to resolve identifiers, and are left to the {@link DefaultFlushEntityEventListener},
+ * which also verifies that the property values did not change in the meantime.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyChecker {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyChecker.class );
+
+	/**
+	 * The number of entities each task compares, at the very least.
+	 */
+	private static final int SEQUENTIAL_THRESHOLD = 256;
+
+	private ParallelDirtyChecker() {
+	}
+
+	/**
+	 * Compare the state of the given entities, if there are enough of them.
+	 *
+	 * @param skipUntouched Whether the flush skips the entities left untouched since the previous flush
+	 *
+	 * @return The outcome for each entity (by position, {@code null} for those not checked),
+	 * or {@code null} if none was checked.
+	 */
+	static PrecomputedDirtyCheck[] precompute(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			boolean skipUntouched,
+			EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold ) {
+			return null;
+		}
+
+		final int[] candidates = new int[entityEntries.length];
+		final int[][][] candidatePlans = new int[entityEntries.length][][];
+		int count = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( isCandidate( entity, entry, skipUntouched ) ) {
+				final int[][] plan = plan( entry.getPersister() );
+				if ( plan != null ) {
+					candidatePlans[count] = plan;
+					candidates[count++] = i;
+				}
+			}
+		}
+		if ( count < threshold ) {
+			return null;
+		}
+
+		LOG.tracef( "Dirty checking %s entities in parallel", count );
+
+		final PrecomputedDirtyCheck[] results = new PrecomputedDirtyCheck[entityEntries.length];
+		ForkJoinPool.commonPool().invoke(
+				new DirtyCheckTask( entityEntries, candidates, candidatePlans, results, session, 0, count )
+		);
+		return results;
+	}
+
+	/**
+	 * Complete an outcome computed by {@link #precompute} by checking the remaining properties.
+	 *
+	 * @return The indices of the dirty properties, or {@code null} if none is.
+	 */
+	static int[] complete(
+			PrecomputedDirtyCheck precomputed,
+			Object[] currentState,
+			Object[] loadedState,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		final int[] remaining = findDirty(
+				persister.getEntityMetamodel().getProperties(),
+				currentState,
+				loadedState,
+				( (AbstractEntityPersister) persister ).getPropertyColumnUpdateable(),
+				precomputed.getUncheckedProperties(),
+				session
+		);
+		return merge( precomputed.getDirtyProperties(), remaining );
+	}
+
+	private static boolean isCandidate(Object entity, EntityEntry entry, boolean skipUntouched) {
+		return entry.getStatus() == Status.MANAGED
+				&& entry.getLoadedState() != null
+				&& entry.isModifiableEntity()
+				&& !( skipUntouched && entry.isUntouchedSinceFlush() )
+				// reading the state of enhanced entities goes through their interceptor
+				&& !( entity instanceof PersistentAttributeInterceptable )
+				&& !( entity instanceof SelfDirtinessTracker );
+	}
+
+	private static int[][] plan(EntityPersister persister) {
+		return persister instanceof AbstractEntityPersister
+				? ( (AbstractEntityPersister) persister ).getConcurrentDirtyCheckPlan()
+				: null;
+	}
+
+	/**
+	 * Determine which of the given subset of properties are dirty.
+	 *
+	 * @return The indices of the dirty properties, in the order of {@code propertyIndexes},
+	 * or {@code null} if none is.
+	 */
+	private static int[] findDirty(
+			NonIdentifierAttribute[] properties,
+			Object[] currentState,
+			Object[] previousState,
+			boolean[][] includeColumns,
+			int[] propertyIndexes,
+			SharedSessionContractImplementor session) {
+		int[] results = null;
+		int count = 0;
+		for ( int i : propertyIndexes ) {
+			final boolean dirty = currentState[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY &&
+					( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ||
+							( properties[i].isDirtyCheckable()
+									&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session ) ) );
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[propertyIndexes.length];
+				}
+				results[count++] = i;
+			}
+		}
+		return count == 0 ? null : ArrayHelper.trim( results, count );
+	}
+
+	private static int[] merge(int[] first, int[] second) {
+		if ( first == null ) {
+			return second;
+		}
+		if ( second == null ) {
+			return first;
+		}
+		final int[] merged = new int[first.length + second.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while ( i < first.length && j < second.length ) {
+			merged[k++] = first[i] < second[j] ? first[i++] : second[j++];
+		}
+		while ( i < first.length ) {
+			merged[k++] = first[i++];
+		}
+		while ( j < second.length ) {
+			merged[k++] = second[j++];
+		}
+		return merged;
+	}
+
+	private static final class DirtyCheckTask extends RecursiveAction {
+		private final Map.Entry<Object, EntityEntry>[] entityEntries;
+		private final int[] candidates;
+		private final int[][][] plans;
+		private final PrecomputedDirtyCheck[] results;
+		private final SharedSessionContractImplementor session;
+		private final int from;
+		private final int to;
+
+		private DirtyCheckTask(
+				Map.Entry<Object, EntityEntry>[] entityEntries,
+				int[] candidates,
+				int[][][] plans,
+				PrecomputedDirtyCheck[] results,
+				SharedSessionContractImplementor session,
+				int from,
+				int to) {
+			this.entityEntries = entityEntries;
+			this.candidates = candidates;
+			this.plans = plans;
+			this.results = results;
+			this.session = session;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from > SEQUENTIAL_THRESHOLD ) {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll(
+						new DirtyCheckTask( entityEntries, candidates, plans, results, session, from, middle ),
+						new DirtyCheckTask( entityEntries, candidates, plans, results, session, middle, to )
+				);
+				return;
+			}
+			for ( int c = from; c < to; c++ ) {
+				final int index = candidates[c];
+				final Object entity = entityEntries[index].getKey();
+				final EntityEntry entry = entityEntries[index].getValue();
+				final EntityPersister persister = entry.getPersister();
+				final int[][] plan = plans[c];
+
+				final Object[] values = persister.getPropertyValues( entity );
+				final int[] dirty = findDirty(
+						persister.getEntityMetamodel().getProperties(),
+						values,
+						entry.getLoadedState(),
+						( (AbstractEntityPersister) persister ).getPropertyColumnUpdateable(),
+						plan[0],
+						session
+				);
+				results[index] = new PrecomputedDirtyCheck( values, dirty, plan[1] );
+			}
+		}
+	}
+}
@@ -20,6 +20,7 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private PrecomputedDirtyCheck precomputedDirtyCheck;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -72,4 +73,10 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+	public PrecomputedDirtyCheck getPrecomputedDirtyCheck() {
+		return precomputedDirtyCheck;
+	}
+	public void setPrecomputedDirtyCheck(PrecomputedDirtyCheck precomputedDirtyCheck) {
+		this.precomputedDirtyCheck = precomputedDirtyCheck;
+	}
 }
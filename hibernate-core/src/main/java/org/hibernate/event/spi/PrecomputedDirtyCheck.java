@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+/**
+ * The outcome of comparing part of an entity's properties against its loaded state ahead of
+ * the {@link FlushEntityEvent}, e.g. in parallel with other entities.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+public final class PrecomputedDirtyCheck {
+	private final Object[] propertyValues;
+	private final int[] dirtyProperties;
+	private final int[] uncheckedProperties;
+
+	public PrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties, int[] uncheckedProperties) {
+		this.propertyValues = propertyValues;
+		this.dirtyProperties = dirtyProperties;
+		this.uncheckedProperties = uncheckedProperties;
+	}
+
+	/**
+	 * The property values the comparison was based on.
+	 */
+	public Object[] getPropertyValues() {
+		return propertyValues;
+	}
+
+	/**
+	 * The indices of the checked properties found dirty, or {@code null} if none was.
+	 */
+	public int[] getDirtyProperties() {
+		return dirtyProperties;
+	}
+
+	/**
+	 * The indices of the properties which still need to be checked.
+	 */
+	public int[] getUncheckedProperties() {
+		return uncheckedProperties;
+	}
+
+	/**
+	 * Is this outcome still valid for the given current property values?  That is the case when
+	 * they are the very same instances, or equal boxed primitives.
+	 */
+	public boolean isApplicable(Object[] currentValues) {
+		if ( currentValues.length != propertyValues.length ) {
+			return false;
+		}
+		for ( int i = 0; i < currentValues.length; i++ ) {
+			if ( !isSameValue( currentValues[i], propertyValues[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameValue(Object current, Object compared) {
+		if ( current == compared ) {
+			return true;
+		}
+		// getters of primitive properties box the value again
+		return ( current instanceof Number || current instanceof Boolean || current instanceof Character )
+				&& current.equals( compared );
+	}
+}
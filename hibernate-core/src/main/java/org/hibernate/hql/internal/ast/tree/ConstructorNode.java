@@ -16,6 +16,7 @@ import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.hql.internal.ast.DetailedSemanticException;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.internal.util.StringHelper;
@@ -39,11 +40,12 @@ public class ConstructorNode extends SelectExpressionList implements AggregatedS
 	private Type[] constructorArgumentTypes;
 	private boolean isMap;
 	private boolean isList;
+	private ResultTransformer resultTransformer;
 
 	@Override
 	public ResultTransformer getResultTransformer() {
-		if ( constructor != null ) {
-			return new AliasToBeanConstructorResultTransformer( constructor );
+		if ( resultTransformer != null ) {
+			return resultTransformer;
 		}
 		else if ( isMap ) {
 			return Transformers.ALIAS_TO_ENTITY_MAP;
@@ -143,6 +145,14 @@ public class ConstructorNode extends SelectExpressionList implements AggregatedS
 		else {
 			constructor = resolveConstructor( path );
 			resultType = constructor.getDeclaringClass();
+			// the instantiator is generated once, as the query plan is built, rather than reflecting upon each row
+			resultTransformer = new AliasToBeanConstructorResultTransformer(
+					constructor,
+					getSessionFactoryHelper().getFactory()
+							.getServiceRegistry()
+							.getService( BytecodeProvider.class )
+							.getProjectionInstantiator( constructor )
+			);
 		}
 	}
 
@@ -13,16 +13,28 @@ import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.loader.Loader;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
@@ -42,6 +54,10 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	private final boolean detachLoadedEntities;
+	// the position in the persistence context of the first entity added since the current row was read
+	private int firstLoadedEntity = -1;
+	private Set<EntityKey> previousProxyKeys = Collections.emptySet();
 	private boolean closed;
 
 	protected AbstractScrollableResults(
@@ -61,6 +77,7 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		this.holderInstantiator = holderInstantiator != null && holderInstantiator.isRequired()
 				? holderInstantiator
 				: null;
+		this.detachLoadedEntities = queryParameters.isDetachScrolledEntities() && sess.isEventSource();
 	}
 
 	protected abstract Object[] getCurrentRow();
@@ -93,6 +110,81 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		return holderInstantiator;
 	}
 
+	/**
+	 * Detach the entities added to the persistence context since the current row was read, if the query detaches
+	 * the scrolled entities.  These are the entities instantiated for the row, including those loaded by separate
+	 * selects, and the entities loaded afterwards by lazy or batch fetches, but not the entities and proxies which
+	 * were already associated with the session.  Called before reading another row, so that the persistence context only keeps
+	 * the entities of one row.
+	 *
+	 * @see org.hibernate.annotations.QueryHints#DETACH_SCROLLED_ENTITIES
+	 */
+	protected void detachLoadedEntities() {
+		if ( !detachLoadedEntities ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( firstLoadedEntity >= 0 && persistenceContext.getNumberOfManagedEntities() > firstLoadedEntity ) {
+			// entities are kept in the order they were added, and removing some only moves the others
+			// backward, so that no entity of a previous row is ever detached
+			final Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
+			for ( int i = firstLoadedEntity; i < entries.length; i++ ) {
+				detach( entries[i].getKey(), entries[i].getValue(), persistenceContext );
+			}
+		}
+		firstLoadedEntity = persistenceContext.getNumberOfManagedEntities();
+		previousProxyKeys = persistenceContext.getProxyKeys();
+	}
+
+	/**
+	 * Removes the entity and its proxy from the persistence context like {@link org.hibernate.Session#evict} does,
+	 * but without cascading to its associations, which may be entities of other rows, and releasing the proxies and
+	 * batch fetch keys of its uninitialized associations.  These proxies remain usable.  Proxies which were associated
+	 * with the session before the current row was read are kept, along with the entities they were initialized with.
+	 */
+	private void detach(Object entity, EntityEntry entry, PersistenceContext persistenceContext) {
+		if ( !entry.isExistsInDatabase()
+				|| entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) {
+			// being saved or deleted
+			return;
+		}
+		final EntityKey key = entry.getEntityKey();
+		if ( previousProxyKeys.contains( key ) ) {
+			// the proxy was handed out before this row, and has since been initialized
+			return;
+		}
+		final EventSource eventSource = (EventSource) session;
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdHelper().handleEviction( entity, persister, key.getIdentifier() );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( eventSource, entity ).process( entity, persister );
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( types[i].isEntityType() && values[i] instanceof HibernateProxy ) {
+				final LazyInitializer li = ( (HibernateProxy) values[i] ).getHibernateLazyInitializer();
+				if ( li.isUninitialized() ) {
+					final EntityKey proxyKey = session.generateEntityKey(
+							li.getIdentifier(),
+							session.getFactory().getMetamodel().entityPersister( li.getEntityName() )
+					);
+					if ( !previousProxyKeys.contains( proxyKey ) ) {
+						persistenceContext.removeProxy( proxyKey );
+					}
+				}
+			}
+		}
+		final Object proxy = persistenceContext.removeProxy( key );
+		if ( proxy != null ) {
+			( (HibernateProxy) proxy ).getHibernateLazyInitializer().unsetSession();
+		}
+		persistenceContext.removeEntity( key );
+		persistenceContext.removeEntry( entity );
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
@@ -45,6 +45,7 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryConstructorReturn;
@@ -53,6 +54,7 @@ import org.hibernate.engine.query.spi.sql.NativeSQLQueryRootReturn;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExceptionConverter;
+import org.hibernate.engine.spi.NPlusOneDetector;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
 import org.hibernate.engine.spi.QueryParameters;
@@ -126,6 +128,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	private transient TransactionImplementor currentHibernateTransaction;
 	private transient TransactionCoordinator transactionCoordinator;
 	private transient CacheTransactionSynchronization cacheTransactionSync;
+	private transient NPlusOneDetector nPlusOneDetector;
 
 	private final boolean isTransactionCoordinatorShared;
 	private final Interceptor interceptor;
@@ -501,6 +504,15 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return jdbcCoordinator.getLogicalConnection().isOpen();
 	}
 
+	/**
+	 * Whether the connections of this session are for reading only, to route them to a read replica.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider
+	 */
+	protected boolean isReadOnlyConnection() {
+		return getPersistenceContextInternal().isDefaultReadOnly();
+	}
+
 	@Override
 	public JdbcConnectionAccess getJdbcConnectionAccess() {
 		// See class-level JavaDocs for a discussion of the concurrent-access safety of this method
@@ -508,7 +520,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
-						fastSessionServices.connectionProvider
+						fastSessionServices.connectionProvider,
+						this::isReadOnlyConnection
 				);
 			}
 			else {
@@ -564,6 +577,22 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return jdbcTimeZone;
 	}
 
+	@Override
+	public SlowStatementDetector getSlowStatementDetector() {
+		return jdbcCoordinator.getSlowStatementDetector();
+	}
+
+	@Override
+	public NPlusOneDetector getNPlusOneDetector() {
+		if ( nPlusOneDetector == null ) {
+			final int threshold = getFactory().getSessionFactoryOptions().getNPlusOneThreshold();
+			if ( threshold > 0 ) {
+				nPlusOneDetector = new NPlusOneDetector( threshold, getFactory().getStatistics() );
+			}
+		}
+		return nPlusOneDetector;
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return getFactory().getJdbcServices();
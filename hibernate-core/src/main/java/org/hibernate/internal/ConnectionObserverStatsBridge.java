@@ -31,6 +31,17 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 		}
 	}
 
+	/**
+	 * @param connection The obtained connection
+	 * @param microseconds The time it took to obtain the connection
+	 */
+	public void physicalConnectionObtained(Connection connection, long microseconds) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.connect( microseconds );
+		}
+	}
+
 	@Override
 	public void physicalConnectionReleased() {
 	}
@@ -1864,4 +1864,12 @@ public interface CoreMessageLogger extends BasicLogger {
 	@Message(value = "Ignoring ServiceConfigurationError caught while trying to instantiate service '%s'.", id = 505)
 	void ignoringServiceConfigurationError(Class<?> serviceContract, @Cause ServiceConfigurationError error);
 
+	@LogMessage(level = INFO)
+	@Message(value = "Prepared statement cache hits: %s", id = 506)
+	void preparedStatementCacheHits(long preparedStatementCacheHitCount);
+
+	@LogMessage(level = WARN)
+	@Message(value = "%s SQL statements were not logged, as the asynchronous SQL log buffer was full", id = 507)
+	void sqlStatementsNotLogged(long droppedCount);
+
 }
@@ -68,6 +68,9 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 			return false;
 		}
 
+		// the previous logical row is complete, including its fetched collections
+		detachLoadedEntities();
+
 		final Object row = getLoader().loadSequentialRowsForward(
 				getResultSet(),
 				getSession(),
@@ -110,6 +113,8 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 			return false;
 		}
 
+		detachLoadedEntities();
+
 		final Object loadResult = getLoader().loadSequentialRowsReverse(
 				getResultSet(),
 				getSession(),
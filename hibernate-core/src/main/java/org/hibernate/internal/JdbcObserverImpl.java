@@ -7,6 +7,7 @@
 package org.hibernate.internal;
 
 import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -21,6 +22,8 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
 
+	private long connectionAcquisitionStart;
+
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
@@ -29,11 +32,21 @@ public final class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		connectionAcquisitionStart = System.nanoTime();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
-		observer.physicalConnectionObtained( connection );
+		if ( connectionAcquisitionStart == 0 ) {
+			observer.physicalConnectionObtained( connection );
+		}
+		else {
+			observer.physicalConnectionObtained(
+					connection,
+					TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - connectionAcquisitionStart )
+			);
+			connectionAcquisitionStart = 0;
+		}
 	}
 
 	@Override
@@ -10,10 +10,12 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
 
 /**
  * @author Steve Ebersole
@@ -21,20 +23,41 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
 	private final SessionEventListener listener;
 	private final ConnectionProvider connectionProvider;
+	private final BooleanSupplier readOnly;
+	private String connectionTarget;
 
 	public NonContextualJdbcConnectionAccess(
 			SessionEventListener listener,
 			ConnectionProvider connectionProvider) {
+		this( listener, connectionProvider, () -> false );
+	}
+
+	/**
+	 * @param readOnly Whether the session is read-only when it obtains a connection, to route it if the
+	 * connection provider is a {@link RoutingConnectionProvider}
+	 */
+	public NonContextualJdbcConnectionAccess(
+			SessionEventListener listener,
+			ConnectionProvider connectionProvider,
+			BooleanSupplier readOnly) {
 		Objects.requireNonNull( listener );
 		Objects.requireNonNull( connectionProvider );
+		Objects.requireNonNull( readOnly );
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
+		this.readOnly = readOnly;
 	}
 
 	@Override
 	public Connection obtainConnection() throws SQLException {
 		try {
 			listener.jdbcConnectionAcquisitionStart();
+			if ( connectionProvider instanceof RoutingConnectionProvider ) {
+				final RoutingConnectionProvider routingConnectionProvider = (RoutingConnectionProvider) connectionProvider;
+				final Connection connection = routingConnectionProvider.getConnection( readOnly.getAsBoolean() );
+				connectionTarget = routingConnectionProvider.getTarget( connection );
+				return connection;
+			}
 			return connectionProvider.getConnection();
 		}
 		finally {
@@ -53,6 +76,11 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 		}
 	}
 
+	@Override
+	public String getConnectionTarget() {
+		return connectionTarget;
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
@@ -190,6 +190,8 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 			return;
 		}
 
+		detachLoadedEntities();
+
 		final PersistenceContext persistenceContext = getSession().getPersistenceContextInternal();
 		persistenceContext.beforeLoad();
 		try {
@@ -170,6 +170,7 @@ import org.hibernate.stat.SessionStatistics;
 import org.hibernate.stat.internal.SessionStatisticsImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.cfg.AvailableSettings.CONNECTION_READ_ONLY;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
@@ -209,6 +210,7 @@ public class SessionImpl
 	private boolean autoClear;
 	private boolean autoClose;
 	private boolean queryParametersValidationEnabled;
+	private boolean readOnlyConnection;
 
 	private transient int dontFlushFromFind;
 
@@ -511,6 +513,7 @@ public class SessionImpl
 		if ( !isTransactionInProgress() ) {
 			getJdbcCoordinator().afterTransaction();
 		}
+		persistenceContext.enforceMemoryBudget();
 	}
 
 	@Override
@@ -1358,6 +1361,7 @@ public class SessionImpl
 
 			FlushEvent event = new FlushEvent( this );
 			fastSessionServices.eventListenerGroup_FLUSH.fireEventOnEachListener( event, FlushEventListener::onFlush );
+			persistenceContext.enforceMemoryBudget();
 			delayedAfterCompletion();
 		}
 		catch ( RuntimeException e ) {
@@ -3545,6 +3549,14 @@ public class SessionImpl
 					)
 			);
 		}
+		else if ( CONNECTION_READ_ONLY.equals( propertyName ) ) {
+			readOnlyConnection = Boolean.parseBoolean( value.toString() );
+		}
+	}
+
+	@Override
+	protected boolean isReadOnlyConnection() {
+		return readOnlyConnection || super.isReadOnlyConnection();
 	}
 
 	private Map<String, Object> computeCurrentSessionProperties() {
@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.engine.jdbc.internal.ParameterRecordingStatement;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Executes {@link org.hibernate.StatelessSession#bulkInsert}: the rows of the entities are recorded by binding
+ * them, as the persister would for its INSERT statement, to a {@link ParameterRecordingStatement}, and are then
+ * loaded through the {@link BulkInsertSupport} of the Dialect.
+ * <p/>
+ * The rows are loaded in chunks, so that the memory held by the recorded rows is bounded, and so that the
+ * identifier generators, which might need the JDBC connection, are never called while a chunk is being loaded.
+ * <p/>
+ * If the entity type cannot be bulk loaded, the entities are inserted one at a time, in JDBC batches.  So are
+ * the entities following one whose values cannot be bulk loaded, for example because they are bound from a
+ * stream or a LOB, the rows recorded before it being loaded first.
+ */
+final class StatelessBulkInsert {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessBulkInsert.class );
+
+	private static final int ROWS_PER_CHUNK = 1000;
+
+	private final StatelessSessionImpl session;
+
+	StatelessBulkInsert(StatelessSessionImpl session) {
+		this.session = session;
+	}
+
+	long execute(String entityName, Stream<?> entities) {
+		final Iterator<?> iterator = entities.iterator();
+		if ( !iterator.hasNext() ) {
+			return 0;
+		}
+
+		Object entity = iterator.next();
+		final EntityPersister persister = session.getEntityPersister( entityName, entity );
+		final InsertStatement statement = InsertStatement.resolve( persister );
+		final BulkInsertSupport bulkInsertSupport = session.getJdbcServices().getDialect().getBulkInsertSupport();
+		if ( statement == null || !bulkInsertSupport.supportsBulkInsert( physicalConnection() ) ) {
+			LOG.debugf( "Entity type %s cannot be bulk loaded, inserting its rows one at a time", persister.getEntityName() );
+			session.insert( entityName, entity );
+			return insertEach( persister, entityName, iterator, 1 );
+		}
+
+		final List<Object[]> rows = new ArrayList<>( ROWS_PER_CHUNK );
+		long count = 0;
+		while ( true ) {
+			final Serializable id = persister.getIdentifierGenerator().generate( session, entity );
+			final Object[] state = session.getInsertState( persister, entity );
+			final Object[] row = statement.toRow( id, state, session );
+			if ( row == null ) {
+				LOG.debugf(
+						"The values of an entity of type %s cannot be bulk loaded, inserting it and the next ones one at a time",
+						persister.getEntityName()
+				);
+				if ( !rows.isEmpty() ) {
+					count += load( statement, rows, bulkInsertSupport );
+				}
+				session.insert( persister, id, state, entity );
+				return insertEach( persister, entityName, iterator, count + 1 );
+			}
+			persister.setIdentifier( entity, id, session );
+			rows.add( row );
+			if ( rows.size() == ROWS_PER_CHUNK ) {
+				count += load( statement, rows, bulkInsertSupport );
+				rows.clear();
+			}
+			if ( !iterator.hasNext() ) {
+				break;
+			}
+			entity = iterator.next();
+			checkEntityType( persister, entityName, entity );
+		}
+		if ( !rows.isEmpty() ) {
+			count += load( statement, rows, bulkInsertSupport );
+		}
+		return count;
+	}
+
+	/**
+	 * Insert the remaining entities one at a time, in JDBC batches.
+	 *
+	 * @param count The number of entities already inserted
+	 */
+	private long insertEach(EntityPersister persister, String entityName, Iterator<?> iterator, long count) {
+		while ( iterator.hasNext() ) {
+			final Object entity = iterator.next();
+			checkEntityType( persister, entityName, entity );
+			session.insert( entityName, entity );
+			count++;
+		}
+		session.flushBatch();
+		return count;
+	}
+
+	private void checkEntityType(EntityPersister persister, String entityName, Object entity) {
+		if ( session.getEntityPersister( entityName, entity ) != persister ) {
+			throw new HibernateException(
+					"Could not bulk insert an entity of type " + session.bestGuessEntityName( entity )
+							+ " along with entities of type " + persister.getEntityName()
+			);
+		}
+	}
+
+	private long load(InsertStatement statement, List<Object[]> rows, BulkInsertSupport bulkInsertSupport) {
+		try {
+			return bulkInsertSupport.bulkInsert( physicalConnection(), statement.tableName, statement.columnNames, rows.iterator() );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not bulk insert: " + statement.tableName
+			);
+		}
+		finally {
+			session.getJdbcCoordinator().afterStatementExecution();
+		}
+	}
+
+	private Connection physicalConnection() {
+		return session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+	}
+
+	/**
+	 * The table and columns of the INSERT statement of an entity type which can be bulk loaded.
+	 */
+	private static final class InsertStatement {
+		private final AbstractEntityPersister persister;
+		private final String tableName;
+		private final String[] columnNames;
+		private final ParameterRecordingStatement recorder;
+
+		private InsertStatement(AbstractEntityPersister persister, String tableName, String[] columnNames) {
+			this.persister = persister;
+			this.tableName = tableName;
+			this.columnNames = columnNames;
+			this.recorder = new ParameterRecordingStatement( columnNames.length );
+		}
+
+		/**
+		 * @return The INSERT statement of the entity type, or {@code null} if the rows of the entity type cannot
+		 * be bulk loaded
+		 */
+		private static InsertStatement resolve(EntityPersister entityPersister) {
+			if ( !( entityPersister instanceof AbstractEntityPersister ) ) {
+				return null;
+			}
+			final AbstractEntityPersister persister = (AbstractEntityPersister) entityPersister;
+			if ( persister.getTableSpan() != 1
+					|| persister.getEntityMetamodel().hasSubclasses()
+					|| persister.getEntityMetamodel().isDynamicInsert()
+					|| persister.getEntityMetamodel().hasPreInsertGeneratedValues()
+					|| persister.isIdentifierAssignedByInsert()
+					|| persister.isInsertCallable( 0 ) ) {
+				return null;
+			}
+			final String[] columnNames = persister.getInsertParameterColumnNames( 0 );
+			if ( columnNames == null ) {
+				return null;
+			}
+			return new InsertStatement( persister, persister.getTableName( 0 ), columnNames );
+		}
+
+		/**
+		 * @return The values of the row, or {@code null} if some of them are bound through a method of the
+		 * {@link PreparedStatement} which has no bulk load counterpart
+		 */
+		private Object[] toRow(Serializable id, Object[] state, StatelessSessionImpl session) {
+			if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				return null;
+			}
+			try {
+				recorder.clearParameters();
+				persister.dehydrate(
+						id,
+						state,
+						null,
+						persister.getPropertyInsertability(),
+						persister.getPropertyColumnInsertable(),
+						0,
+						recorder,
+						session,
+						1,
+						false
+				);
+				return recorder.getValues();
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not bind the row of a bulk insert: " + tableName
+				);
+			}
+		}
+	}
+}
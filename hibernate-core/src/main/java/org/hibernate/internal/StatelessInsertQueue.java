@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TopologicalSort;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.OneToOneType;
+import org.hibernate.type.Type;
+
+/**
+ * The inserts of a {@link org.hibernate.StatelessSession} waiting to be executed as JDBC batches.
+ * <p/>
+ * The inserts are queued per entity type, and executed one entity type after the other, each entity type after
+ * the entity types it references through a foreign key, so that consecutive inserts of different entity types
+ * still end up in batches of the configured size.  If the entity types reference each other, no order of the
+ * entity types can satisfy every foreign key, and the inserts are executed in the order they were queued.
+ * <p/>
+ * NOTE: this class is not thread-safe.
+ */
+final class StatelessInsertQueue {
+	private final List<QueuedInsert> inserts = new ArrayList<>();
+	private final Map<String, InsertGroup> groupsByEntityName = new LinkedHashMap<>();
+
+	/**
+	 * Queue an insert.
+	 *
+	 * @return {@code true} if the queue holds a full batch of inserts of the entity type, and should be executed.
+	 */
+	boolean add(EntityPersister persister, Serializable id, Object[] state, Object entity, int batchSize) {
+		final QueuedInsert insert = new QueuedInsert( persister, id, state, entity );
+		inserts.add( insert );
+		final InsertGroup group = groupsByEntityName.computeIfAbsent(
+				persister.getEntityName(),
+				k -> new InsertGroup( persister )
+		);
+		group.inserts.add( insert );
+		return group.inserts.size() >= batchSize;
+	}
+
+	boolean isEmpty() {
+		return inserts.isEmpty();
+	}
+
+	/**
+	 * Execute the queued inserts through the {@link EntityPersister}s, which add them to JDBC batches.
+	 */
+	void execute(SharedSessionContractImplementor session) {
+		if ( inserts.isEmpty() ) {
+			return;
+		}
+		final List<QueuedInsert> sortedInserts = sort();
+		clear();
+		for ( QueuedInsert insert : sortedInserts ) {
+			insert.persister.insert( insert.id, insert.state, insert.entity, session );
+		}
+	}
+
+	/**
+	 * Drop the queued inserts.
+	 */
+	void clear() {
+		inserts.clear();
+		groupsByEntityName.clear();
+	}
+
+	private List<QueuedInsert> sort() {
+		if ( groupsByEntityName.size() == 1 ) {
+			return new ArrayList<>( inserts );
+		}
+
+		// Build the dependency graph from the foreign keys of the entity types: the inserts of an entity type
+		// must follow those of the entity types it references, including their subclasses.
+		final Map<String, List<InsertGroup>> groupsByRootEntityName = new HashMap<>();
+		for ( InsertGroup group : groupsByEntityName.values() ) {
+			groupsByRootEntityName.computeIfAbsent( group.persister.getRootEntityName(), k -> new ArrayList<>() )
+					.add( group );
+		}
+		for ( InsertGroup group : groupsByEntityName.values() ) {
+			final Type identifierType = group.persister.getIdentifierType();
+			if ( identifierType.isComponentType() ) {
+				addDependencies( group, identifierType, groupsByRootEntityName );
+			}
+			for ( Type type : group.persister.getPropertyTypes() ) {
+				addDependencies( group, type, groupsByRootEntityName );
+			}
+		}
+
+		final List<InsertGroup> sortedGroups = TopologicalSort.sort( groupsByEntityName.values(), group -> group.dependencies );
+		if ( sortedGroups == null ) {
+			return new ArrayList<>( inserts );
+		}
+		final List<QueuedInsert> sortedInserts = new ArrayList<>( inserts.size() );
+		for ( InsertGroup group : sortedGroups ) {
+			sortedInserts.addAll( group.inserts );
+		}
+		return sortedInserts;
+	}
+
+	private static void addDependencies(InsertGroup group, Type type, Map<String, List<InsertGroup>> groupsByRootEntityName) {
+		if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			if ( entityType.isOneToOne()
+					&& ( (OneToOneType) entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				// the foreign key is held by the referenced entity type
+				return;
+			}
+			final SessionFactoryImplementor factory = group.persister.getFactory();
+			final EntityPersister referencedPersister = factory.getMetamodel()
+					.entityPersister( entityType.getAssociatedEntityName() );
+			final List<InsertGroup> hierarchy = groupsByRootEntityName.get( referencedPersister.getRootEntityName() );
+			for ( InsertGroup referencedGroup : hierarchy == null ? Collections.<InsertGroup>emptyList() : hierarchy ) {
+				if ( referencedGroup != group
+						&& referencedPersister.isSubclassEntityName( referencedGroup.persister.getEntityName() ) ) {
+					group.dependencies.add( referencedGroup );
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				addDependencies( group, subtype, groupsByRootEntityName );
+			}
+		}
+	}
+
+	private static final class QueuedInsert {
+		private final EntityPersister persister;
+		private final Serializable id;
+		private final Object[] state;
+		private final Object entity;
+
+		private QueuedInsert(EntityPersister persister, Serializable id, Object[] state, Object entity) {
+			this.persister = persister;
+			this.id = id;
+			this.state = state;
+			this.entity = entity;
+		}
+	}
+
+	private static final class InsertGroup {
+		private final EntityPersister persister;
+		private final List<QueuedInsert> inserts = new ArrayList<>();
+
+		// the groups which must be inserted before this one
+		private final List<InsertGroup> dependencies = new ArrayList<>();
+
+		private InsertGroup(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		@Override
+		public String toString() {
+			return persister.getEntityName();
+		}
+	}
+}
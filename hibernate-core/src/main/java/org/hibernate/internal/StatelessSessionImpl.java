@@ -11,6 +11,7 @@ import java.sql.Connection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
@@ -72,6 +73,8 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private final boolean connectionProvided;
 	private final boolean allowBytecodeProxy;
 
+	private final StatelessInsertQueue insertQueue = new StatelessInsertQueue();
+
 	StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
@@ -96,6 +99,14 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifierGenerator().generate( this, entity );
+		Object[] state = getInsertState( persister, entity );
+		return insert( persister, id, state, entity );
+	}
+
+	/**
+	 * The state of an entity about to be inserted, with its version seeded.
+	 */
+	Object[] getInsertState(EntityPersister persister, Object entity) {
 		Object[] state = persister.getPropertyValues( entity );
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
@@ -108,16 +119,50 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setPropertyValues( entity, state );
 			}
 		}
+		return state;
+	}
+
+	/**
+	 * Insert an entity whose identifier was generated and whose state was obtained from {@link #getInsertState}.
+	 */
+	Serializable insert(EntityPersister persister, Serializable id, Object[] state, Object entity) {
+		final int jdbcBatchSize = getConfiguredJdbcBatchSize();
 		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			// the identifier is generated by the insert, which therefore cannot wait
+			executeQueuedInserts();
 			id = persister.insert( state, entity, this );
 		}
+		else if ( jdbcBatchSize > 1 && persister.getIdentifierGenerator().supportsJdbcBatchInserts() ) {
+			if ( insertQueue.add( persister, id, state, entity, jdbcBatchSize ) ) {
+				executeQueuedInserts();
+			}
+		}
 		else {
+			executeQueuedInserts();
 			persister.insert( id, state, entity, this );
 		}
 		persister.setIdentifier( entity, id, this );
 		return id;
 	}
 
+	@Override
+	public long bulkInsert(String entityName, Stream<?> entities) {
+		checkOpen();
+		flushBatch();
+		return new StatelessBulkInsert( this ).execute( entityName, entities );
+	}
+
+	private void executeQueuedInserts() {
+		insertQueue.execute( this );
+	}
+
+	@Override
+	public void flushBatch() {
+		checkOpen();
+		executeQueuedInserts();
+		getJdbcCoordinator().executeBatch();
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -130,6 +175,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
+		executeQueuedInserts();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
@@ -148,6 +194,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
+		executeQueuedInserts();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifier( entity, this );
 		Object[] state = persister.getPropertyValues( entity );
@@ -184,7 +231,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public Object get(String entityName, Serializable id, LockMode lockMode) {
-		checkOpen();
+		flushBatch();
 
 		Object result = getFactory().getMetamodel().entityPersister( entityName )
 				.load( id, null, getNullSafeLockMode( lockMode ), this );
@@ -211,6 +258,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void refresh(String entityName, Object entity, LockMode lockMode) {
+		flushBatch();
 		final EntityPersister persister = this.getEntityPersister( entityName, entity );
 		final Serializable id = persister.getIdentifier( entity, this );
 		if ( LOG.isTraceEnabled() ) {
@@ -411,8 +459,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 	private void managedFlush() {
-		checkOpen();
-		getJdbcCoordinator().executeBatch();
+		flushBatch();
 	}
 
 	@Override
@@ -425,13 +472,13 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public Connection connection() {
-		checkOpen();
+		flushBatch();
 		return getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
 	}
 
 	@Override
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
-		checkOpen();
+		flushBatch();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
@@ -555,7 +602,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public List list(String query, QueryParameters queryParameters) throws HibernateException {
-		checkOpen();
+		flushBatch();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		boolean success = false;
@@ -606,7 +653,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		// TODO: Is this guaranteed to always be CriteriaImpl?
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
-		checkOpen();
+		flushBatch();
 		String entityName = criteriaImpl.getEntityOrClassName();
 		CriteriaLoader loader = new CriteriaLoader(
 				getOuterJoinLoadable( entityName ),
@@ -624,7 +671,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		// TODO: Is this guaranteed to always be CriteriaImpl?
 		CriteriaImpl criteriaImpl = (CriteriaImpl) criteria;
 
-		checkOpen();
+		flushBatch();
 		String[] implementors = getFactory().getMetamodel().getImplementors( criteriaImpl.getEntityOrClassName() );
 		int size = implementors.length;
 
@@ -668,7 +715,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public List listCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
-		checkOpen();
+		flushBatch();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 
 		boolean success = false;
@@ -687,14 +734,14 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public ScrollableResultsImplementor scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
-		checkOpen();
+		flushBatch();
 		CustomLoader loader = new CustomLoader( customQuery, getFactory() );
 		return loader.scroll( queryParameters, this );
 	}
 
 	@Override
 	public ScrollableResultsImplementor scroll(String query, QueryParameters queryParameters) throws HibernateException {
-		checkOpen();
+		flushBatch();
 		HQLQueryPlan plan = getQueryPlan( query, false );
 		return plan.performScroll( queryParameters, this );
 	}
@@ -723,7 +770,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	public int executeNativeUpdate(
 			NativeSQLQuerySpecification nativeSQLQuerySpecification,
 			QueryParameters queryParameters) throws HibernateException {
-		checkOpen();
+		flushBatch();
 		queryParameters.validateParameters();
 		NativeSQLQueryPlan plan = getNativeQueryPlan( nativeSQLQuerySpecification );
 
@@ -752,6 +799,9 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		if ( !successful ) {
+			insertQueue.clear();
+		}
 		if ( shouldAutoClose() && !isClosed() ) {
 			managedClose();
 		}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.internal.log;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -70,4 +71,12 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Problem closing pooled connection", id = 10001009)
 	void unableToClosePooledConnection(@Cause SQLException e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Connection [%s] was obtained from the pool %s seconds ago and was not returned yet, it may have leaked; see the cause for where it was obtained", id = 10001010)
+	void connectionLeakDetected(Connection connection, long seconds, @Cause Throwable obtained);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Routing read-only sessions to %s read replicas", id = 10001011)
+	void routingToReadReplicas(int replicaCount);
 }
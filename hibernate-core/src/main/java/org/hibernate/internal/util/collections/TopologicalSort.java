@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Orders nodes after the nodes they depend on, such as the entity types of queued inserts or deletes after the
+ * entity types which must be written before them.
+ */
+public final class TopologicalSort {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( TopologicalSort.class );
+
+	private TopologicalSort() {
+	}
+
+	/**
+	 * Order the nodes by a depth-first topological sort, visiting them in their original order, so that the original
+	 * order is kept wherever the dependencies allow it.  This takes time linear in the number of nodes and
+	 * dependencies.
+	 *
+	 * @param nodes The nodes, in their original order
+	 * @param dependencies The nodes which must precede a node; the nodes are compared by identity
+	 *
+	 * @return The ordered nodes, or {@code null} if the dependencies have a cycle, so that no order satisfies them all
+	 */
+	public static <T> List<T> sort(Collection<T> nodes, Function<T, ? extends Collection<T>> dependencies) {
+		final List<T> sorted = new ArrayList<>( nodes.size() );
+		final Set<T> done = Collections.newSetFromMap( new IdentityHashMap<>() );
+		// the nodes on the stack, with their dependencies yet to visit
+		final Map<T, Iterator<? extends T>> visiting = new IdentityHashMap<>();
+		final Deque<T> stack = new ArrayDeque<>();
+		for ( T node : nodes ) {
+			if ( done.contains( node ) ) {
+				continue;
+			}
+			visiting.put( node, dependencies.apply( node ).iterator() );
+			stack.push( node );
+			while ( !stack.isEmpty() ) {
+				final T current = stack.peek();
+				final Iterator<? extends T> remaining = visiting.get( current );
+				if ( remaining.hasNext() ) {
+					final T dependency = remaining.next();
+					if ( done.contains( dependency ) ) {
+						continue;
+					}
+					if ( visiting.containsKey( dependency ) ) {
+						LOG.debugf(
+								"Could not order %s entity types, as %s and %s depend on each other; "
+										+ "this might indicate a circular entity relationship",
+								nodes.size(),
+								current,
+								dependency
+						);
+						return null;
+					}
+					visiting.put( dependency, dependencies.apply( dependency ).iterator() );
+					stack.push( dependency );
+				}
+				else {
+					stack.pop();
+					visiting.remove( current );
+					done.add( current );
+					sorted.add( current );
+				}
+			}
+		}
+		return sorted;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link BatchLoadSizingStrategy} which learns, per entity and collection role, how many keys are typically
+ * pending in the {@link org.hibernate.engine.spi.BatchFetchQueue} when a batch fetch is triggered, and lets the
+ * batch fetches of the roles which typically have more keys pending than their batch size, from
+ * {@link org.hibernate.annotations.BatchSize} or {@link org.hibernate.cfg.AvailableSettings#DEFAULT_BATCH_FETCH_SIZE},
+ * grow to the learned size, up to {@link org.hibernate.cfg.AvailableSettings#MAX_BATCH_FETCH_SIZE}.  A batch fetch is
+ * never sized below the batch size of the entity or collection.
+ * <p/>
+ * The learned size is a moving average, which rises quickly and falls slowly, so that a larger page than usual
+ * only costs an extra batch fetch or two while the strategy adapts, and a single exceptionally large page does not
+ * lead to statements with as many keys for the following ones.
+ * <p/>
+ * Only the loaders which build their SQL for any number of keys, those of {@link BatchFetchStyle#DYNAMIC}, fetch
+ * more keys than the batch size.  The sizing of multi-loads is delegated to another strategy, typically the one of
+ * the Dialect.
+ *
+ * @since 5.5
+ */
+public class AdaptiveBatchLoadSizingStrategy implements BatchLoadSizingStrategy {
+	/**
+	 * The name of this strategy for {@link org.hibernate.cfg.AvailableSettings#BATCH_LOAD_SIZING_STRATEGY}.
+	 */
+	public static final String SHORT_NAME = "adaptive";
+
+	public static final int DEFAULT_MAX_BATCH_FETCH_SIZE = 256;
+
+	// the averages are fixed-point numbers, with FRACTION_BITS bits after the point
+	private static final int FRACTION_BITS = 4;
+	private static final int NOT_LEARNED = -1;
+
+	private final int maxBatchFetchSize;
+	private final BatchLoadSizingStrategy multiLoadSizingStrategy;
+	private final ConcurrentHashMap<String, AtomicInteger> averages = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchLoadSizingStrategy(int maxBatchFetchSize, BatchLoadSizingStrategy multiLoadSizingStrategy) {
+		this.maxBatchFetchSize = maxBatchFetchSize;
+		this.multiLoadSizingStrategy = multiLoadSizingStrategy;
+	}
+
+	@Override
+	public int determineOptimalBatchLoadSize(int numberOfKeyColumns, int numberOfKeys) {
+		return multiLoadSizingStrategy.determineOptimalBatchLoadSize( numberOfKeyColumns, numberOfKeys );
+	}
+
+	@Override
+	public int determineBatchFetchSize(String role, int batchSize, int numberOfPendingKeys) {
+		if ( maxBatchFetchSize <= batchSize ) {
+			return batchSize;
+		}
+		final int sample = Math.min( numberOfPendingKeys, maxBatchFetchSize ) << FRACTION_BITS;
+		final int average = averages.computeIfAbsent( role, r -> new AtomicInteger( NOT_LEARNED ) ).updateAndGet(
+				previous -> {
+					if ( previous == NOT_LEARNED ) {
+						return sample;
+					}
+					// the steps are rounded up, to reach the sample eventually
+					else if ( sample > previous ) {
+						return previous + ( sample - previous + 1 ) / 2;
+					}
+					else {
+						return previous - ( previous - sample + 7 ) / 8;
+					}
+				}
+		);
+		return Math.max( toSize( average ), batchSize );
+	}
+
+	/**
+	 * The batch size learned for an entity or collection, before bounding by its batch size.
+	 *
+	 * @param role The entity name, or collection role
+	 *
+	 * @return The learned size, or {@code -1} if nothing was batch-fetched for the role yet
+	 */
+	public int getLearnedBatchFetchSize(String role) {
+		final AtomicInteger average = averages.get( role );
+		return average == null || average.get() == NOT_LEARNED ? NOT_LEARNED : toSize( average.get() );
+	}
+
+	private static int toSize(int average) {
+		// rounded up
+		return ( average + ( 1 << FRACTION_BITS ) - 1 ) >> FRACTION_BITS;
+	}
+}
@@ -39,7 +39,18 @@ public enum BatchFetchStyle {
 	 * Dynamically builds its SQL based on the actual number of available ids.  Does still limit to the batch-size
 	 * defined on the entity/collection
 	 */
-	DYNAMIC;
+	DYNAMIC,
+	/**
+	 * Binds the identifiers to load to a single array parameter, so that the same SQL serves any number of
+	 * identifiers, if the {@link org.hibernate.dialect.Dialect#supportsArrayParameters() Dialect supports it}.
+	 * Still limits to the batch-size defined on the entity/collection, but that limit can then be much higher.
+	 * <p/>
+	 * Falls back to {@link #DYNAMIC} for composite identifiers, and for identifiers which are neither integers
+	 * nor strings.
+	 *
+	 * @since 5.5
+	 */
+	ARRAY;
 
 	private static final Logger log = Logger.getLogger( BatchFetchStyle.class );
 
@@ -13,4 +13,21 @@ package org.hibernate.loader;
  */
 public interface BatchLoadSizingStrategy {
 	int determineOptimalBatchLoadSize(int numberOfKeyColumns, int numberOfKeys);
+
+	/**
+	 * Determine the maximum number of keys of an entity or collection to batch-fetch, among those pending in the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue}, for the loaders which build their SQL for any number of
+	 * keys.  The loaders of the other {@link BatchFetchStyle batch fetch styles} fetch up to the batch size.
+	 *
+	 * @param role The entity name, or collection role
+	 * @param batchSize The batch size of the entity or collection
+	 * @param numberOfPendingKeys The number of keys of the entity or collection pending in the queue
+	 *
+	 * @return The maximum number of keys to batch-fetch, at least {@code batchSize}, by default {@code batchSize}
+	 *
+	 * @since 5.5
+	 */
+	default int determineBatchFetchSize(String role, int batchSize, int numberOfPendingKeys) {
+		return batchSize;
+	}
 }
@@ -15,6 +15,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -46,8 +47,10 @@ import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.internal.ColumnIndexResultSet;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.loading.internal.CollectionLoadContext;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
@@ -75,6 +78,7 @@ import org.hibernate.internal.FetchingScrollableResultsImpl;
 import org.hibernate.internal.ScrollableResultsImpl;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.loader.entity.CascadeEntityLoader;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -115,6 +119,7 @@ public abstract class Loader {
 
 	private final SessionFactoryImplementor factory;
 	private volatile ColumnNameCache columnNameCache;
+	private volatile ConcurrentReferenceHashMap<ResultSet, RowBuffers> rowBuffersByResultSet;
 
 	private final boolean referenceCachingEnabled;
 	private final boolean enhancementAsProxyEnabled;
@@ -382,39 +387,90 @@ public abstract class Loader {
 			final QueryParameters queryParameters,
 			final boolean returnProxies) throws HibernateException {
 
-		final int entitySpan = getEntityPersisters().length;
-		final List hydratedObjects = entitySpan == 0 ?
-				null : new ArrayList( entitySpan );
-
-		final Object result;
+		final RowBuffers rowBuffers = getRowBuffers( resultSet, queryParameters );
+		final List hydratedObjects = rowBuffers.hydratedObjects;
 		try {
-			result = getRowFromResultSet(
+			final Object result;
+			try {
+				result = getRowFromResultSet(
+						resultSet,
+						session,
+						queryParameters,
+						rowBuffers.lockModes,
+						null,
+						hydratedObjects,
+						rowBuffers.keys,
+						rowBuffers.hydratedKeyState,
+						returnProxies
+				);
+			}
+			catch (SQLException sqle) {
+				throw factory.getJdbcServices().getSqlExceptionHelper().convert(
+						sqle,
+						"could not read next row of results",
+						getSQLString()
+				);
+			}
+
+			initializeEntitiesAndCollections(
+					hydratedObjects,
 					resultSet,
 					session,
-					queryParameters,
-					getLockModes( queryParameters.getLockOptions() ),
-					null,
-					hydratedObjects,
-					new EntityKey[entitySpan],
-					returnProxies
+					queryParameters.isReadOnly( session )
 			);
+			session.getPersistenceContextInternal().initializeNonLazyCollections();
+			return result;
 		}
-		catch (SQLException sqle) {
-			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
-					sqle,
-					"could not read next row of results",
-					getSQLString()
+		finally {
+			if ( hydratedObjects != null ) {
+				hydratedObjects.clear();
+			}
+		}
+	}
+
+	/**
+	 * Get the buffers for reading the rows of a result set one at a time, which are reused from one row to the
+	 * next for as long as the result set is not garbage collected.
+	 */
+	private RowBuffers getRowBuffers(ResultSet resultSet, QueryParameters queryParameters) {
+		ConcurrentReferenceHashMap<ResultSet, RowBuffers> buffers = rowBuffersByResultSet;
+		if ( buffers == null ) {
+			//there is no need for a synchronized second check, as in worst case
+			//the buffers of a result set will be allocated twice
+			buffers = new ConcurrentReferenceHashMap<>(
+					4,
+					.75f,
+					1,
+					ConcurrentReferenceHashMap.ReferenceType.WEAK,
+					ConcurrentReferenceHashMap.ReferenceType.STRONG,
+					EnumSet.of( ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS )
 			);
+			rowBuffersByResultSet = buffers;
 		}
+		RowBuffers rowBuffers = buffers.get( resultSet );
+		if ( rowBuffers == null ) {
+			rowBuffers = new RowBuffers( getEntityPersisters().length, getLockModes( queryParameters.getLockOptions() ) );
+			buffers.put( resultSet, rowBuffers );
+		}
+		return rowBuffers;
+	}
 
-		initializeEntitiesAndCollections(
-				hydratedObjects,
-				resultSet,
-				session,
-				queryParameters.isReadOnly( session )
-		);
-		session.getPersistenceContextInternal().initializeNonLazyCollections();
-		return result;
+	/**
+	 * The arrays and lists needed to read a row of a result set, reused from one row to the next instead of
+	 * being allocated for each row.  Only the entity instances and their state are allocated for each row.
+	 */
+	private static final class RowBuffers {
+		private final EntityKey[] keys;
+		private final Object[] hydratedKeyState;
+		private final List hydratedObjects;
+		private final LockMode[] lockModes;
+
+		private RowBuffers(int entitySpan, LockMode[] lockModes) {
+			this.keys = new EntityKey[entitySpan];
+			this.hydratedKeyState = new Object[entitySpan];
+			this.hydratedObjects = entitySpan == 0 ? null : new ArrayList( entitySpan );
+			this.lockModes = lockModes;
+		}
 	}
 
 	private Object sequentialLoad(
@@ -430,6 +486,7 @@ public abstract class Loader {
 
 		Object result = null;
 		final EntityKey[] loadedKeys = new EntityKey[entitySpan];
+		final Object[] hydratedKeyState = new Object[entitySpan];
 
 		try {
 			do {
@@ -441,6 +498,7 @@ public abstract class Loader {
 						null,
 						hydratedObjects,
 						loadedKeys,
+						hydratedKeyState,
 						returnProxies
 				);
 				if ( !keyToRead.equals( loadedKeys[0] ) ) {
@@ -701,6 +759,7 @@ public abstract class Loader {
 			final EntityKey optionalObjectKey,
 			final List hydratedObjects,
 			final EntityKey[] keys,
+			final Object[] hydratedKeyState,
 			boolean returnProxies) throws SQLException, HibernateException {
 		return getRowFromResultSet(
 				resultSet,
@@ -710,6 +769,7 @@ public abstract class Loader {
 				optionalObjectKey,
 				hydratedObjects,
 				keys,
+				hydratedKeyState,
 				returnProxies,
 				null
 		);
@@ -723,6 +783,7 @@ public abstract class Loader {
 			final EntityKey optionalObjectKey,
 			final List hydratedObjects,
 			final EntityKey[] keys,
+			final Object[] hydratedKeyState,
 			boolean returnProxies,
 			ResultTransformer forcedResultTransformer) throws SQLException, HibernateException {
 		final Loadable[] persisters = getEntityPersisters();
@@ -733,6 +794,7 @@ public abstract class Loader {
 				resultSet,
 				session,
 				keys,
+				hydratedKeyState,
 				lockModesArray,
 				hydratedObjects
 		);
@@ -786,6 +848,27 @@ public abstract class Loader {
 			EntityKey[] keys,
 			LockMode[] lockModes,
 			List hydratedObjects) throws SQLException {
+		extractKeysFromResultSet(
+				persisters,
+				queryParameters,
+				resultSet,
+				session,
+				keys,
+				new Object[persisters.length],
+				lockModes,
+				hydratedObjects
+		);
+	}
+
+	private void extractKeysFromResultSet(
+			Loadable[] persisters,
+			QueryParameters queryParameters,
+			ResultSet resultSet,
+			SharedSessionContractImplementor session,
+			EntityKey[] keys,
+			Object[] hydratedKeyState,
+			LockMode[] lockModes,
+			List<?> hydratedObjects) throws SQLException {
 		final int entitySpan = persisters.length;
 
 		final int numberOfPersistersToProcess;
@@ -799,8 +882,6 @@ public abstract class Loader {
 			numberOfPersistersToProcess = entitySpan;
 		}
 
-		final Object[] hydratedKeyState = new Object[numberOfPersistersToProcess];
-
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
 			hydratedKeyState[i] = idType.hydrate(
@@ -1031,6 +1112,7 @@ public abstract class Loader {
 
 		handleEmptyCollections( queryParameters.getCollectionKeys(), rs, session );
 		EntityKey[] keys = new EntityKey[entitySpan]; //we can reuse it for each row
+		final Object[] hydratedKeyState = new Object[entitySpan];
 		LOG.trace( "Processing result set" );
 		int count;
 
@@ -1047,6 +1129,7 @@ public abstract class Loader {
 					optionalObjectKey,
 					hydratedObjects,
 					keys,
+					hydratedKeyState,
 					returnProxies,
 					forcedResultTransformer
 			);
@@ -1178,7 +1261,7 @@ public abstract class Loader {
 		//important: reuse the same event instances for performance!
 		final PreLoadEvent pre;
 		final PostLoadEvent post;
-		if ( session.isEventSource() ) {
+		if ( session.isEventSource() && hydratedObjects != null && !hydratedObjects.isEmpty() ) {
 			pre = new PreLoadEvent( (EventSource) session );
 			post = new PostLoadEvent( (EventSource) session );
 		}
@@ -2308,7 +2391,20 @@ public abstract class Loader {
 			final boolean autodiscovertypes,
 			final SharedSessionContractImplementor session) throws SQLException, HibernateException {
 		try {
-			ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+			ResultSet rs;
+			final SlowStatementDetector slowStatementDetector = session.getJdbcCoordinator().getSlowStatementDetector();
+			if ( slowStatementDetector == null ) {
+				rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+			}
+			else {
+				final String previousSource = slowStatementDetector.setSource( getStatementSource() );
+				try {
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				}
+				finally {
+					slowStatementDetector.setSource( previousSource );
+				}
+			}
 
 			return preprocessResultSet( rs, selection, limitHandler, autodiscovertypes, session );
 		}
@@ -2329,7 +2425,20 @@ public abstract class Loader {
 			final boolean autodiscovertypes,
 			final SharedSessionContractImplementor session) throws SQLException, HibernateException {
 		try {
-			ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+			ResultSet rs;
+			final SlowStatementDetector slowStatementDetector = session.getJdbcCoordinator().getSlowStatementDetector();
+			if ( slowStatementDetector == null ) {
+				rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+			}
+			else {
+				final String previousSource = slowStatementDetector.setSource( getStatementSource() );
+				try {
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				}
+				finally {
+					slowStatementDetector.setSource( previousSource );
+				}
+			}
 
 			return preprocessResultSet( rs, selection, limitHandler, autodiscovertypes, session );
 		}
@@ -2347,7 +2456,7 @@ public abstract class Loader {
 			final boolean autodiscovertypes,
 			final SharedSessionContractImplementor session
 	) throws SQLException, HibernateException {
-		rs = wrapResultSetIfEnabled( rs, session );
+		rs = wrapResultSet( rs, session );
 
 		if ( !limitHandler.supportsLimitOffset() || !LimitHelper.useLimit( limitHandler, selection ) ) {
 			advance( rs, selection );
@@ -2364,7 +2473,7 @@ public abstract class Loader {
 
 	}
 
-	private ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SharedSessionContractImplementor session) {
+	private ResultSet wrapResultSet(final ResultSet rs, final SharedSessionContractImplementor session) {
 		if ( session.getFactory().getSessionFactoryOptions().isWrapResultSetsEnabled() ) {
 			try {
 				LOG.debugf( "Wrapping result set [%s]", rs );
@@ -2379,7 +2488,8 @@ public abstract class Loader {
 			}
 		}
 		else {
-			return rs;
+			// the columns are read by position, resolved on the first row
+			return new ColumnIndexResultSet( rs );
 		}
 	}
 
@@ -3006,6 +3116,13 @@ public abstract class Loader {
 		return null;
 	}
 
+	/**
+	 * Identifies what the statements of this loader are executed for, when reporting slow statements
+	 */
+	protected String getStatementSource() {
+		return getQueryIdentifier();
+	}
+
 	public final SessionFactoryImplementor getFactory() {
 		return factory;
 	}
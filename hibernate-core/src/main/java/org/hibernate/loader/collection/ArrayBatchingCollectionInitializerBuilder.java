@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.collection;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.internal.ArrayBatchFetchParameter;
+import org.hibernate.persister.collection.QueryableCollection;
+
+/**
+ * A BatchingCollectionInitializerBuilder that builds CollectionInitializer instances binding the collection keys
+ * to fetch to a single array parameter, so that the same SQL serves any number of keys.  Behaves as
+ * {@link DynamicBatchingCollectionInitializerBuilder} for the collections whose keys cannot be bound to an
+ * array parameter.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+ * @since 5.5
+ */
+public class ArrayBatchingCollectionInitializerBuilder extends DynamicBatchingCollectionInitializerBuilder {
+	public static final ArrayBatchingCollectionInitializerBuilder INSTANCE = new ArrayBatchingCollectionInitializerBuilder();
+
+	@Override
+	protected ArrayBatchFetchParameter resolveArrayParameter(
+			QueryableCollection persister,
+			SessionFactoryImplementor factory) {
+		return ArrayBatchFetchParameter.resolve( persister.getKeyType(), factory );
+	}
+}
@@ -39,6 +39,11 @@ public class CollectionLoader extends OuterJoinLoader implements CollectionIniti
 		return collectionPersister;
 	}
 
+	@Override
+	protected String getStatementSource() {
+		return collectionPersister.getRole();
+	}
+
 	@Override
 	protected boolean isSubselectLoadingEnabled() {
 		return hasSubselectLoadableCollections();
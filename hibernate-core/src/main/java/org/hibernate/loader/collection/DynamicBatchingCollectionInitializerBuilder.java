@@ -7,6 +7,7 @@
 package org.hibernate.loader.collection;
 
 import java.io.Serializable;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -16,6 +17,7 @@ import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
@@ -26,6 +28,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.internal.ArrayBatchFetchParameter;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.pretty.MessageHelper;
@@ -46,7 +49,13 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 			int maxBatchSize,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
-		return new DynamicBatchingCollectionInitializer( persister, maxBatchSize, factory, influencers );
+		return new DynamicBatchingCollectionInitializer(
+				persister,
+				maxBatchSize,
+				factory,
+				influencers,
+				resolveArrayParameter( persister, factory )
+		);
 	}
 
 	@Override
@@ -55,7 +64,24 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 			int maxBatchSize,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
-		return new DynamicBatchingCollectionInitializer( persister, maxBatchSize, factory, influencers );
+		return new DynamicBatchingCollectionInitializer(
+				persister,
+				maxBatchSize,
+				factory,
+				influencers,
+				resolveArrayParameter( persister, factory )
+		);
+	}
+
+	/**
+	 * Resolve the array parameter to bind the keys of the given collection to, if any.
+	 *
+	 * @return The array parameter, or {@code null} to bind each key to its own parameter
+	 */
+	protected ArrayBatchFetchParameter resolveArrayParameter(
+			QueryableCollection persister,
+			SessionFactoryImplementor factory) {
+		return null;
 	}
 
 	public static class DynamicBatchingCollectionInitializer extends BatchingCollectionInitializer {
@@ -68,6 +94,15 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 				int maxBatchSize,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers influencers) {
+			this( collectionPersister, maxBatchSize, factory, influencers, null );
+		}
+
+		public DynamicBatchingCollectionInitializer(
+				QueryableCollection collectionPersister,
+				int maxBatchSize,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers influencers,
+				ArrayBatchFetchParameter arrayParameter) {
 			super( collectionPersister );
 			this.maxBatchSize = maxBatchSize;
 
@@ -78,15 +113,18 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 				this.singleKeyLoader = new BasicCollectionLoader( collectionPersister, 1, factory, influencers );
 			}
 
-			this.batchLoader = new DynamicBatchingCollectionLoader( collectionPersister, factory, influencers );
+			this.batchLoader = new DynamicBatchingCollectionLoader( collectionPersister, factory, influencers, arrayParameter );
 		}
 
 		@Override
 		public void initialize(Serializable id, SharedSessionContractImplementor session) throws HibernateException {
 			// first, figure out how many batchable ids we have...
-			final Serializable[] batch = session.getPersistenceContextInternal()
-					.getBatchFetchQueue()
-					.getCollectionBatch( collectionPersister(), id, maxBatchSize );
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+			final Serializable[] batch = batchFetchQueue.getCollectionBatch(
+					collectionPersister(),
+					id,
+					batchFetchQueue.getCollectionBatchFetchSize( collectionPersister(), maxBatchSize )
+			);
 			final int numberOfIds = ArrayHelper.countNonNull( batch );
 			if ( numberOfIds <= 1 ) {
 				singleKeyLoader.loadCollection( session, id, collectionPersister().getKeyType() );
@@ -115,12 +153,15 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final ArrayBatchFetchParameter arrayParameter;
 
 		public DynamicBatchingCollectionLoader(
 				QueryableCollection collectionPersister,
 				SessionFactoryImplementor factory,
-				LoadQueryInfluencers influencers) {
+				LoadQueryInfluencers influencers,
+				ArrayBatchFetchParameter arrayParameter) {
 			super( collectionPersister, factory, influencers );
+			this.arrayParameter = arrayParameter;
 
 			JoinWalker walker = buildJoinWalker( collectionPersister, factory, influencers );
 			initFromWalker( walker );
@@ -149,6 +190,9 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 						if ( subselect != null ) {
 							return super.whereString( alias, columnNames, subselect, batchSize );
 						}
+						if ( arrayParameter != null ) {
+							return arrayParameter.buildRestrictionFragment( alias, columnNames );
+						}
 
 						return StringHelper.buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
 					}
@@ -161,6 +205,9 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 						if ( subselect != null ) {
 							return super.whereString( alias, columnNames, subselect, batchSize );
 						}
+						if ( arrayParameter != null ) {
+							return arrayParameter.buildRestrictionFragment( alias, columnNames );
+						}
 
 						return StringHelper.buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
 					}
@@ -180,17 +227,26 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 				);
 			}
 
-			final Type[] idTypes = new Type[ids.length];
-			Arrays.fill( idTypes, type );
-			final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
-
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					collectionPersister().getKeyColumnNames(),
-					session.getJdbcServices().getJdbcEnvironment().getDialect()
-			);
+			final QueryParameters queryParameters;
+			final String sql;
+			if ( arrayParameter != null ) {
+				// the same SQL for any number of ids
+				queryParameters = arrayParameter.buildQueryParameters( ids );
+				sql = sqlTemplate;
+			}
+			else {
+				final Type[] idTypes = new Type[ids.length];
+				Arrays.fill( idTypes, type );
+				queryParameters = new QueryParameters( idTypes, ids, ids );
+
+				sql = StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						collectionPersister().getKeyColumnNames(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
+			}
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -233,6 +289,18 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayParameter != null ) {
+				return arrayParameter.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+		}
+
 		private void doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
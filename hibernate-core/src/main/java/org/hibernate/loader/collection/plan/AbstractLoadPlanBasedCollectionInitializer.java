@@ -123,4 +123,9 @@ public abstract class AbstractLoadPlanBasedCollectionInitializer
 	protected void autoDiscoverTypes(ResultSet rs) {
 		throw new AssertionFailure("Auto discover types not supported in this loader");
 	}
+
+	@Override
+	protected String getStatementSource() {
+		return collectionPersister().getRole();
+	}
 }
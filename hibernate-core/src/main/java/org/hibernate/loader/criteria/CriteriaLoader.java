@@ -20,6 +20,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.QueryParameters;
@@ -33,6 +34,7 @@ import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.entity.Lockable;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.transform.AliasToBeanResultTransformer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -77,6 +79,12 @@ public class CriteriaLoader extends OuterJoinLoader {
 
 		querySpaces = translator.getQuerySpaces();
 
+		if ( criteria.getResultTransformer() instanceof AliasToBeanResultTransformer ) {
+			( (AliasToBeanResultTransformer) criteria.getResultTransformer() ).applyBytecodeProvider(
+					factory.getServiceRegistry().getService( BytecodeProvider.class )
+			);
+		}
+
 		CriteriaJoinWalker walker = new CriteriaJoinWalker(
 				persister,
 				translator,
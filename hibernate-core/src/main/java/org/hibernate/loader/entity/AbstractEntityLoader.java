@@ -41,6 +41,11 @@ public abstract class AbstractEntityLoader
 
 	}
 
+	@Override
+	protected String getStatementSource() {
+		return entityName;
+	}
+
 	@Override
 	public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session) {
 		// this form is deprecated!
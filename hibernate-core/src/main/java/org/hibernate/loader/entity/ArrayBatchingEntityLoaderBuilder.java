@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.internal.ArrayBatchFetchParameter;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+/**
+ * A BatchingEntityLoaderBuilder that builds UniqueEntityLoader instances binding the entity ids to fetch to a
+ * single array parameter, so that the same SQL serves any number of ids.  Behaves as
+ * {@link DynamicBatchingEntityLoaderBuilder} for the entities whose ids cannot be bound to an array parameter.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+ * @since 5.5
+ */
+public class ArrayBatchingEntityLoaderBuilder extends DynamicBatchingEntityLoaderBuilder {
+	public static final ArrayBatchingEntityLoaderBuilder INSTANCE = new ArrayBatchingEntityLoaderBuilder();
+
+	@Override
+	protected ArrayBatchFetchParameter resolveArrayParameter(
+			OuterJoinLoadable persister,
+			SessionFactoryImplementor factory) {
+		return ArrayBatchFetchParameter.resolve( persister.getIdentifierType(), factory );
+	}
+
+	@Override
+	protected int determineMaxBatchSize(
+			OuterJoinLoadable persister,
+			int numberOfIds,
+			ArrayBatchFetchParameter arrayParameter,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions) {
+		if ( arrayParameter != null && ( loadOptions.getBatchSize() == null || loadOptions.getBatchSize() <= 0 ) ) {
+			// the size of the SQL does not depend on the number of ids
+			return Math.max( numberOfIds, 1 );
+		}
+		return super.determineMaxBatchSize( persister, numberOfIds, arrayParameter, session, loadOptions );
+	}
+}
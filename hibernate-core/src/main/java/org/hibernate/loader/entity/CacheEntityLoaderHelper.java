@@ -312,7 +312,22 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		values = ( (StandardCacheEntryImpl) entry ).assemble(
 				entity, entityId, subclassPersister, session.getInterceptor(), session
 		);
-		if ( ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
+
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		if ( !subclassPersister.isMutable() ) {
+			isReadOnly = true;
+		}
+		else if ( proxy != null ) {
+			// there is already a proxy for this impl
+			// only set the status to read-only if the proxy is read-only
+			isReadOnly = ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly();
+		}
+		else {
+			isReadOnly = session.isDefaultReadOnly();
+		}
+
+		// no snapshot is retained for read-only entities, so there is no need to take one
+		if ( !isReadOnly && ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
 			TypeHelper.deepCopy(
 					values,
 					types,
@@ -324,16 +339,6 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		version = Versioning.getVersion( values, subclassPersister );
 		LOG.tracef( "Cached Version : %s", version );
 
-		final Object proxy = persistenceContext.getProxy( entityKey );
-		if ( proxy != null ) {
-			// there is already a proxy for this impl
-			// only set the status to read-only if the proxy is read-only
-			isReadOnly = ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly();
-		}
-		else {
-			isReadOnly = session.isDefaultReadOnly();
-		}
-
 		persistenceContext.addEntry(
 				entity,
 				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
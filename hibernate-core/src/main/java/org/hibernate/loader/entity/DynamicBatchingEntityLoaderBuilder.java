@@ -8,6 +8,7 @@ package org.hibernate.loader.entity;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -21,6 +22,7 @@ import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -36,6 +38,8 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.BatchLoadSizingStrategy;
+import org.hibernate.loader.internal.ArrayBatchFetchParameter;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
@@ -82,16 +86,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					ids.length
-			);
-		}
+		final ArrayBatchFetchParameter arrayParameter = resolveArrayParameter( persister, session.getFactory() );
+		final int maxBatchSize = determineMaxBatchSize( persister, ids.length, arrayParameter, session, loadOptions );
 
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
@@ -149,7 +145,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				performOrderedBatchLoad( idsInBatch, lockOptions, persister, arrayParameter, session );
 			}
 
 			// Save the EntityKey instance for use later!
@@ -158,7 +154,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		}
 
 		if ( !idsInBatch.isEmpty() ) {
-			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+			performOrderedBatchLoad( idsInBatch, lockOptions, persister, arrayParameter, session );
 		}
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -185,6 +181,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
 			OuterJoinLoadable persister,
+			ArrayBatchFetchParameter arrayParameter,
 			SharedSessionContractImplementor session) {
 		final int batchSize =  idsInBatch.size();
 		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
@@ -192,7 +189,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				batchSize,
 				lockOptions,
 				session.getFactory(),
-				session.getLoadQueryInfluencers()
+				session.getLoadQueryInfluencers(),
+				arrayParameter
 		);
 
 		final Serializable[] idsInBatchArray = idsInBatch.toArray( new Serializable[ idsInBatch.size() ] );
@@ -292,16 +290,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		}
 
 		int numberOfIdsLeft = ids.length;
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					numberOfIdsLeft
-			);
-		}
+		final ArrayBatchFetchParameter arrayParameter = resolveArrayParameter( persister, session.getFactory() );
+		final int maxBatchSize = determineMaxBatchSize( persister, numberOfIdsLeft, arrayParameter, session, loadOptions );
 
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
@@ -311,7 +301,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					batchSize,
 					lockOptions,
 					session.getFactory(),
-					session.getLoadQueryInfluencers()
+					session.getLoadQueryInfluencers(),
+					arrayParameter
 			);
 
 			Serializable[] idsInBatch = new Serializable[batchSize];
@@ -327,6 +318,39 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	/**
+	 * Resolve the array parameter to bind the identifiers of the given entity to, if any.
+	 *
+	 * @return The array parameter, or {@code null} to bind each identifier to its own parameter
+	 */
+	protected ArrayBatchFetchParameter resolveArrayParameter(
+			OuterJoinLoadable persister,
+			SessionFactoryImplementor factory) {
+		return null;
+	}
+
+	/**
+	 * Determine the maximum number of identifiers to load at once in a multi-load.
+	 */
+	protected int determineMaxBatchSize(
+			OuterJoinLoadable persister,
+			int numberOfIds,
+			ArrayBatchFetchParameter arrayParameter,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+		BatchLoadSizingStrategy strategy = session.getFactory().getSessionFactoryOptions().getBatchLoadSizingStrategy();
+		if ( strategy == null ) {
+			strategy = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy();
+		}
+		return strategy.determineOptimalBatchLoadSize(
+				persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+				numberOfIds
+		);
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -351,7 +375,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			LockMode lockMode,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
-		return new DynamicBatchingEntityLoader( persister, batchSize, lockMode, factory, influencers );
+		return new DynamicBatchingEntityLoader(
+				persister,
+				batchSize,
+				lockMode,
+				factory,
+				influencers,
+				resolveArrayParameter( persister, factory )
+		);
 	}
 
 	@Override
@@ -361,7 +392,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			LockOptions lockOptions,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
-		return new DynamicBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
+		return new DynamicBatchingEntityLoader(
+				persister,
+				batchSize,
+				lockOptions,
+				factory,
+				influencers,
+				resolveArrayParameter( persister, factory )
+		);
 	}
 
 	public static class DynamicBatchingEntityLoader extends BatchingEntityLoader {
@@ -375,10 +413,27 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				ArrayBatchFetchParameter arrayParameter) {
 			super( persister );
 			this.maxBatchSize = maxBatchSize;
 			this.singleKeyLoader = new EntityLoader( persister, 1, lockMode, factory, loadQueryInfluencers );
-			this.dynamicLoader = new DynamicEntityLoader( persister, maxBatchSize, lockMode, factory, loadQueryInfluencers );
+			this.dynamicLoader = new DynamicEntityLoader(
+					persister,
+					maxBatchSize,
+					lockMode,
+					factory,
+					loadQueryInfluencers,
+					arrayParameter
+			);
 		}
 
 		public DynamicBatchingEntityLoader(
@@ -387,10 +442,27 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockOptions lockOptions,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				ArrayBatchFetchParameter arrayParameter) {
 			super( persister );
 			this.maxBatchSize = maxBatchSize;
 			this.singleKeyLoader = new EntityLoader( persister, 1, lockOptions, factory, loadQueryInfluencers );
-			this.dynamicLoader = new DynamicEntityLoader( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers );
+			this.dynamicLoader = new DynamicEntityLoader(
+					persister,
+					maxBatchSize,
+					lockOptions,
+					factory,
+					loadQueryInfluencers,
+					arrayParameter
+			);
 		}
 
 		@Override
@@ -409,9 +481,13 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				SharedSessionContractImplementor session,
 				LockOptions lockOptions,
 				Boolean readOnly) {
-			final Serializable[] batch = session.getPersistenceContextInternal()
-					.getBatchFetchQueue()
-					.getEntityBatch( persister(), id, maxBatchSize, persister().getEntityMode() );
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+			final Serializable[] batch = batchFetchQueue.getEntityBatch(
+					persister(),
+					id,
+					batchFetchQueue.getEntityBatchFetchSize( persister(), maxBatchSize ),
+					persister().getEntityMode()
+			);
 
 			final int numberOfIds = ArrayHelper.countNonNull( batch );
 			if ( numberOfIds <= 1 ) {
@@ -449,6 +525,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final ArrayBatchFetchParameter arrayParameter;
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
@@ -456,7 +533,17 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockOptions lockOptions,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
-			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers );
+			this( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				ArrayBatchFetchParameter arrayParameter) {
+			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers, arrayParameter );
 		}
 
 		public DynamicEntityLoader(
@@ -465,7 +552,18 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				ArrayBatchFetchParameter arrayParameter) {
 			super( persister, -1, lockMode, factory, loadQueryInfluencers );
+			this.arrayParameter = arrayParameter;
 
 			EntityJoinWalker walker = new EntityJoinWalker(
 					persister,
@@ -476,6 +574,9 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					loadQueryInfluencers) {
 				@Override
 				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					if ( arrayParameter != null ) {
+						return arrayParameter.buildRestrictionFragment( alias, columnNames );
+					}
 					return StringHelper.buildBatchFetchRestrictionFragment(
 							alias,
 							columnNames,
@@ -514,13 +615,21 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				QueryParameters queryParameters,
 				Serializable[] ids) {
 			final JdbcServices jdbcServices = session.getJdbcServices();
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					persister.getKeyColumnNames(),
-					jdbcServices.getJdbcEnvironment().getDialect()
-			);
+			final String sql;
+			if ( arrayParameter != null ) {
+				// the same SQL for any number of ids
+				sql = sqlTemplate;
+				arrayParameter.setPositionalParameters( queryParameters, ids );
+			}
+			else {
+				sql = StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						persister.getKeyColumnNames(),
+						jdbcServices.getJdbcEnvironment().getDialect()
+				);
+			}
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -566,6 +675,18 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayParameter != null ) {
+				return arrayParameter.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
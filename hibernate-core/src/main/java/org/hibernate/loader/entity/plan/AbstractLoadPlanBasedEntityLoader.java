@@ -335,4 +335,9 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 	protected void autoDiscoverTypes(ResultSet rs) {
 		throw new AssertionFailure("Auto discover types not supported in this loader");
 	}
+
+	@Override
+	protected String getStatementSource() {
+		return getEntityName();
+	}
 }
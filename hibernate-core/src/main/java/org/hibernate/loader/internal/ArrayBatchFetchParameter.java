@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.JdbcTypeJavaClassMappings;
+
+/**
+ * The single array parameter to which the {@link org.hibernate.loader.BatchFetchStyle#ARRAY} batch-fetch style
+ * binds the identifiers, or collection keys, to load.
+ * <p/>
+ * In the {@link QueryParameters}, the identifiers are the value of a single positional parameter, as an
+ * {@code Object[]}, so that the filter parameters are still positioned correctly around it.
+ *
+ * @since 5.5
+ */
+public final class ArrayBatchFetchParameter {
+	// the index of the array among the positional parameters
+	private static final int POSITION = 0;
+
+	private final Dialect dialect;
+	private final Type type;
+	private final int sqlType;
+	private final JavaTypeDescriptor javaTypeDescriptor;
+	private final Class elementClass;
+
+	private ArrayBatchFetchParameter(Dialect dialect, AbstractStandardBasicType type, int sqlType) {
+		this.dialect = dialect;
+		this.type = type;
+		this.sqlType = sqlType;
+		this.javaTypeDescriptor = type.getJavaTypeDescriptor();
+		this.elementClass = JdbcTypeJavaClassMappings.INSTANCE.determineJavaClassForJdbcTypeCode( sqlType );
+	}
+
+	/**
+	 * Resolve the array parameter for the identifiers of the given type.
+	 *
+	 * @param type The type of the identifiers, or collection keys
+	 * @param factory The SessionFactory
+	 *
+	 * @return The array parameter, or {@code null} if the Dialect does not support array parameters, or the
+	 * identifiers are not single integer or string columns
+	 */
+	public static ArrayBatchFetchParameter resolve(Type type, SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getJdbcEnvironment().getDialect();
+		if ( !dialect.supportsArrayParameters()
+				|| !( type instanceof AbstractStandardBasicType )
+				|| type.getReturnedClass().isArray() ) {
+			return null;
+		}
+		final int[] sqlTypes = type.sqlTypes( factory );
+		if ( sqlTypes.length != 1 ) {
+			return null;
+		}
+		switch ( sqlTypes[0] ) {
+			case Types.SMALLINT:
+			case Types.INTEGER:
+			case Types.BIGINT:
+			case Types.VARCHAR: {
+				return new ArrayBatchFetchParameter( dialect, (AbstractStandardBasicType) type, sqlTypes[0] );
+			}
+			default: {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Build the restriction matching the identifier column against the array parameter.
+	 *
+	 * @param alias The alias of the table
+	 * @param columnNames The identifier column
+	 *
+	 * @return The restriction
+	 */
+	public StringBuilder buildRestrictionFragment(String alias, String[] columnNames) {
+		return new StringBuilder(
+				dialect.getArrayParameterRestriction( StringHelper.qualify( alias, columnNames[0] ), sqlType )
+		);
+	}
+
+	/**
+	 * Build the parameters of a batch-fetch of the given identifiers.
+	 *
+	 * @param ids The identifiers
+	 *
+	 * @return The parameters, with the identifiers as the value of a single positional parameter
+	 */
+	public QueryParameters buildQueryParameters(Serializable[] ids) {
+		return new QueryParameters( new Type[] { type }, new Object[] { ids }, ids );
+	}
+
+	/**
+	 * Replace the positional parameters of a batch-fetch, one per identifier, by the single array parameter.
+	 *
+	 * @param queryParameters The parameters of the batch-fetch
+	 * @param ids The identifiers
+	 */
+	public void setPositionalParameters(QueryParameters queryParameters, Serializable[] ids) {
+		queryParameters.setPositionalParameterTypes( new Type[] { type } );
+		queryParameters.setPositionalParameterValues( new Object[] { ids } );
+	}
+
+	/**
+	 * Bind the positional parameters of a batch-fetch, the identifiers to a single array parameter, and the others,
+	 * such as filter parameters, as usual.
+	 *
+	 * @see org.hibernate.loader.Loader#bindPositionalParameters
+	 */
+	public int bindPositionalParameters(
+			PreparedStatement statement,
+			QueryParameters queryParameters,
+			int startIndex,
+			SharedSessionContractImplementor session) throws SQLException {
+		final Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		final Type[] types = queryParameters.getFilteredPositionalParameterTypes();
+		final int arrayIndex = queryParameters.getFilteredPositionalParameterIndex( POSITION );
+		int span = 0;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( i == arrayIndex ) {
+				bind( statement, (Object[]) values[i], startIndex + span, session );
+				span++;
+			}
+			else {
+				types[i].nullSafeSet( statement, values[i], startIndex + span, session );
+				span += types[i].getColumnSpan( session.getFactory() );
+			}
+		}
+		return span;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void bind(PreparedStatement statement, Object[] ids, int index, SharedSessionContractImplementor session)
+			throws SQLException {
+		final Object[] values = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			values[i] = javaTypeDescriptor.unwrap( ids[i], elementClass, session );
+		}
+		dialect.bindArrayParameter( statement, index, values, sqlType );
+	}
+}
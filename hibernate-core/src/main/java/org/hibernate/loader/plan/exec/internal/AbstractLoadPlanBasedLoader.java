@@ -24,9 +24,11 @@ import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.internal.ColumnIndexResultSet;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
@@ -77,6 +79,13 @@ public abstract class AbstractLoadPlanBasedLoader {
 
 	protected abstract void autoDiscoverTypes(ResultSet rs);
 
+	/**
+	 * Identifies what the statements of this loader are executed for, when reporting slow statements
+	 */
+	protected String getStatementSource() {
+		return null;
+	}
+
 	protected List executeLoad(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters,
@@ -387,8 +396,21 @@ public abstract class AbstractLoadPlanBasedLoader {
 			throws SQLException, HibernateException {
 
 		try {
-			ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
-			rs = wrapResultSetIfEnabled( rs , session );
+			ResultSet rs;
+			final SlowStatementDetector slowStatementDetector = session.getJdbcCoordinator().getSlowStatementDetector();
+			if ( slowStatementDetector == null ) {
+				rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+			}
+			else {
+				final String previousSource = slowStatementDetector.setSource( getStatementSource() );
+				try {
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				}
+				finally {
+					slowStatementDetector.setSource( previousSource );
+				}
+			}
+			rs = wrapResultSet( rs , session );
 
 			if ( !limitHandler.supportsLimitOffset() || !LimitHelper.useLimit( limitHandler, selection ) ) {
 				advance( rs, selection );
@@ -425,7 +447,7 @@ public abstract class AbstractLoadPlanBasedLoader {
 		}
 	}
 
-	private ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SharedSessionContractImplementor session) {
+	private ResultSet wrapResultSet(final ResultSet rs, final SharedSessionContractImplementor session) {
 		if ( session.getFactory().getSessionFactoryOptions().isWrapResultSetsEnabled() ) {
 			try {
 				if ( log.isDebugEnabled() ) {
@@ -448,7 +470,8 @@ public abstract class AbstractLoadPlanBasedLoader {
 			}
 		}
 		else {
-			return rs;
+			// the columns are read by position, resolved on the first row
+			return new ColumnIndexResultSet( rs );
 		}
 	}
 
@@ -57,7 +57,9 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 	private List<HydratedEntityRegistration> hydratedEntityRegistrationList;
 	private int nRowsRead = 0;
 
-	private Map<EntityReference,EntityReferenceProcessingState> identifierResolutionContextMap;
+	private Map<EntityReference,EntityReferenceProcessingStateImpl> identifierResolutionContextMap;
+	// from the second row on, the states of the entity references are reused from one row to the next
+	private List<EntityReferenceProcessingStateImpl> processingStates;
 
 	/**
 	 * Builds a ResultSetProcessingContextImpl
@@ -138,7 +140,7 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 
 	@Override
 	public EntityReferenceProcessingState getProcessingState(final EntityReference entityReference) {
-		EntityReferenceProcessingState context;
+		EntityReferenceProcessingStateImpl context;
 		if ( identifierResolutionContextMap == null ) {
 			//The default expected size of IdentityHashMap is 21, which is likely to allocate larger arrays than what is typically necessary.
 			//Reducing to 5, as a reasonable estimate for typical use: any larger query can better justify the need to resize,
@@ -153,73 +155,11 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		}
 
 		if ( context == null ) {
-			context = new EntityReferenceProcessingState() {
-				private boolean wasMissingIdentifier;
-				private Object identifierHydratedForm;
-				private EntityKey entityKey;
-				private Object[] hydratedState;
-				private Object entityInstance;
-
-				@Override
-				public EntityReference getEntityReference() {
-					return entityReference;
-				}
-
-				@Override
-				public void registerMissingIdentifier() {
-					if ( !EntityFetch.class.isInstance( entityReference ) ) {
-						throw new IllegalStateException( "Missing return row identifier" );
-					}
-					ResultSetProcessingContextImpl.this.registerNonExists( (EntityFetch) entityReference );
-					wasMissingIdentifier = true;
-				}
-
-				@Override
-				public boolean isMissingIdentifier() {
-					return wasMissingIdentifier;
-				}
-
-				@Override
-				public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
-					this.identifierHydratedForm = identifierHydratedForm;
-				}
-
-				@Override
-				public Object getIdentifierHydratedForm() {
-					return identifierHydratedForm;
-				}
-
-				@Override
-				public void registerEntityKey(EntityKey entityKey) {
-					this.entityKey = entityKey;
-				}
-
-				@Override
-				public EntityKey getEntityKey() {
-					return entityKey;
-				}
-
-				@Override
-				public void registerHydratedState(Object[] hydratedState) {
-					this.hydratedState = hydratedState;
-				}
-
-				@Override
-				public Object[] getHydratedState() {
-					return hydratedState;
-				}
-
-				@Override
-				public void registerEntityInstance(Object entityInstance) {
-					this.entityInstance = entityInstance;
-				}
-
-				@Override
-				public Object getEntityInstance() {
-					return entityInstance;
-				}
-			};
+			context = new EntityReferenceProcessingStateImpl( entityReference );
 			identifierResolutionContextMap.put( entityReference, context );
+			if ( processingStates != null ) {
+				processingStates.add( context );
+			}
 		}
 
 		return context;
@@ -273,9 +213,7 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		nRowsRead++;
 
 		if ( currentRowHydratedEntityRegistrationList == null ) {
-			if ( identifierResolutionContextMap != null ) {
-				identifierResolutionContextMap.clear();
-			}
+			clearProcessingStates();
 			return;
 		}
 
@@ -308,7 +246,24 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		// release the currentRowHydratedEntityRegistrationList entries
 		currentRowHydratedEntityRegistrationList.clear();
 
-		identifierResolutionContextMap.clear();
+		clearProcessingStates();
+	}
+
+	private void clearProcessingStates() {
+		if ( identifierResolutionContextMap == null ) {
+			return;
+		}
+		if ( processingStates == null ) {
+			if ( nRowsRead == 1 ) {
+				// most single loads read only one row, keeping the states would be wasted on them
+				identifierResolutionContextMap.clear();
+				return;
+			}
+			processingStates = new ArrayList<>( identifierResolutionContextMap.values() );
+		}
+		for ( int i = 0; i < processingStates.size(); i++ ) {
+			processingStates.get( i ).clear();
+		}
 	}
 
 	public List<HydratedEntityRegistration> getHydratedEntityRegistrationList() {
@@ -364,4 +319,85 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 	public boolean isReadOnly() {
 		return readOnly;
 	}
+
+	private class EntityReferenceProcessingStateImpl implements EntityReferenceProcessingState {
+		private final EntityReference entityReference;
+
+		private boolean wasMissingIdentifier;
+		private Object identifierHydratedForm;
+		private EntityKey entityKey;
+		private Object[] hydratedState;
+		private Object entityInstance;
+
+		private EntityReferenceProcessingStateImpl(EntityReference entityReference) {
+			this.entityReference = entityReference;
+		}
+
+		private void clear() {
+			wasMissingIdentifier = false;
+			identifierHydratedForm = null;
+			entityKey = null;
+			hydratedState = null;
+			entityInstance = null;
+		}
+
+		@Override
+		public EntityReference getEntityReference() {
+			return entityReference;
+		}
+
+		@Override
+		public void registerMissingIdentifier() {
+			if ( !EntityFetch.class.isInstance( entityReference ) ) {
+				throw new IllegalStateException( "Missing return row identifier" );
+			}
+			registerNonExists( (EntityFetch) entityReference );
+			wasMissingIdentifier = true;
+		}
+
+		@Override
+		public boolean isMissingIdentifier() {
+			return wasMissingIdentifier;
+		}
+
+		@Override
+		public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
+			this.identifierHydratedForm = identifierHydratedForm;
+		}
+
+		@Override
+		public Object getIdentifierHydratedForm() {
+			return identifierHydratedForm;
+		}
+
+		@Override
+		public void registerEntityKey(EntityKey entityKey) {
+			this.entityKey = entityKey;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
+
+		@Override
+		public void registerHydratedState(Object[] hydratedState) {
+			this.hydratedState = hydratedState;
+		}
+
+		@Override
+		public Object[] getHydratedState() {
+			return hydratedState;
+		}
+
+		@Override
+		public void registerEntityInstance(Object entityInstance) {
+			this.entityInstance = entityInstance;
+		}
+
+		@Override
+		public Object getEntityInstance() {
+			return entityInstance;
+		}
+	}
 }
@@ -98,7 +98,9 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.loader.custom.sql.SQLQueryParser;
+import org.hibernate.loader.entity.ArrayBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.loader.entity.CascadeEntityLoader;
@@ -177,6 +179,7 @@ public abstract class AbstractEntityPersister
 	private final EntityMetamodel entityMetamodel;
 	private final EntityTuplizer entityTuplizer;
 	private final EntityEntryFactory entityEntryFactory;
+	private final int[][] concurrentDirtyCheckPlan;
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	private final String[] rootTableKeyColumnNames;
@@ -610,6 +613,8 @@ public abstract class AbstractEntityPersister
 		else {
 			this.entityEntryFactory = ImmutableEntityEntryFactory.INSTANCE;
 		}
+
+		this.concurrentDirtyCheckPlan = buildConcurrentDirtyCheckPlan();
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 		final JdbcServices jdbcServices = factory.getServiceRegistry().getService( JdbcServices.class );
@@ -2822,6 +2827,60 @@ public abstract class AbstractEntityPersister
 		return result;
 	}
 
+	/**
+	 * Get the columns of the insert statement of the given table whose values are bound by
+	 * {@link #dehydrate}, in the order of their parameters.
+	 *
+	 * @return The column names, or {@code null} if the statement is custom, or if some of its columns are
+	 * written otherwise than from a parameter, such as the discriminator, a generated value or a column
+	 * with a write expression
+	 */
+	public String[] getInsertParameterColumnNames(int j) {
+		if ( customSQLInsert[j] != null || j == 0 && isDiscriminatorInserted() ) {
+			return null;
+		}
+		final boolean[] includeProperty = getPropertyInsertability();
+		final List<String> columnNames = new ArrayList<>();
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( isPropertyOfTable( i, j ) ) {
+				final InDatabaseValueGenerationStrategy generationStrategy = entityMetamodel.getInDatabaseValueGenerationStrategies()[i];
+				if ( generationStrategy != null && generationStrategy.getGenerationTiming().includesInsert() ) {
+					return null;
+				}
+				if ( includeProperty[i] && !lobProperties.contains( i )
+						&& !addInsertParameterColumnNames( i, columnNames ) ) {
+					return null;
+				}
+			}
+		}
+		Collections.addAll( columnNames, getKeyColumns( j ) );
+		for ( int i : lobProperties ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) && !addInsertParameterColumnNames( i, columnNames ) ) {
+				return null;
+			}
+		}
+		return ArrayHelper.toStringArray( columnNames );
+	}
+
+	private boolean addInsertParameterColumnNames(int i, List<String> columnNames) {
+		for ( int k = 0; k < propertyColumnNames[i].length; k++ ) {
+			if ( propertyColumnInsertable[i][k] ) {
+				if ( !"?".equals( propertyColumnWriters[i][k] ) ) {
+					return false;
+				}
+				columnNames.add( propertyColumnNames[i][k] );
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Is a discriminator value written by the insert statement of the root table?
+	 */
+	protected boolean isDiscriminatorInserted() {
+		return false;
+	}
+
 	/**
 	 * Used to generate an insert statement against the root table in the
 	 * case of identifier generation strategies where the insert statement
@@ -4482,7 +4541,11 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List multiLoad(Serializable[] ids, SharedSessionContractImplementor session, MultiLoadOptions loadOptions) {
-		return DynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad(
+		final DynamicBatchingEntityLoaderBuilder builder =
+				getFactory().getSessionFactoryOptions().getBatchFetchStyle() == BatchFetchStyle.ARRAY
+						? ArrayBatchingEntityLoaderBuilder.INSTANCE
+						: DynamicBatchingEntityLoaderBuilder.INSTANCE;
+		return builder.multiLoad(
 				this,
 				ids,
 				session,
@@ -5698,6 +5761,73 @@ public abstract class AbstractEntityPersister
 		return this.entityEntryFactory;
 	}
 
+	/**
+	 * The properties whose dirtiness can be checked without the Session, concurrently with other
+	 * entities, and the remaining properties.
+	 *
+	 * @return The two arrays of property indices, or {@code null} if the entities of this persister
+	 * are dirty checked by the flush only.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	public int[][] getConcurrentDirtyCheckPlan() {
+		return concurrentDirtyCheckPlan;
+	}
+
+	private int[][] buildConcurrentDirtyCheckPlan() {
+		try {
+			final Class<?> declaringClass = getClass().getMethod(
+					"findDirty",
+					Object[].class,
+					Object[].class,
+					Object.class,
+					SharedSessionContractImplementor.class
+			).getDeclaringClass();
+			if ( declaringClass != AbstractEntityPersister.class ) {
+				// a persister with its own dirty checking is left to it
+				return null;
+			}
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+		final Type[] types = entityMetamodel.getPropertyTypes();
+		final int[] checked = new int[types.length];
+		final int[] unchecked = new int[types.length];
+		int checkedCount = 0;
+		int uncheckedCount = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isComparableConcurrently( types[i] ) ) {
+				checked[checkedCount++] = i;
+			}
+			else {
+				unchecked[uncheckedCount++] = i;
+			}
+		}
+		if ( checkedCount == 0 ) {
+			return null;
+		}
+		return new int[][] {
+				Arrays.copyOf( checked, checkedCount ),
+				Arrays.copyOf( unchecked, uncheckedCount )
+		};
+	}
+
+	private static boolean isComparableConcurrently(Type type) {
+		// associations may need the Session to resolve identifiers
+		if ( type.isAssociationType() ) {
+			return false;
+		}
+		if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isComparableConcurrently( subtype ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Consolidated these onto a single helper because the 2 pieces work in tandem.
 	 */
@@ -814,6 +814,11 @@ public class JoinedSubclassEntityPersister extends AbstractEntityPersister {
 		}
 	}
 
+	@Override
+	protected boolean isDiscriminatorInserted() {
+		return explicitDiscriminatorColumnName != null;
+	}
+
 	public Serializable[] getPropertySpaces() {
 		return spaces; // don't need subclass tables, because they can't appear in conditions
 	}
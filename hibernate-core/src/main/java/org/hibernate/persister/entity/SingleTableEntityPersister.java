@@ -692,6 +692,11 @@ public class SingleTableEntityPersister extends AbstractEntityPersister {
 
 	}
 
+	@Override
+	protected boolean isDiscriminatorInserted() {
+		return discriminatorInsertable;
+	}
+
 	protected int[] getSubclassColumnTableNumberClosure() {
 		return subclassColumnTableNumberClosure;
 	}
@@ -308,6 +308,10 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	@Override
 	public final Object getImplementation() {
 		initialize();
+		if ( session != null ) {
+			// the target is about to be handed out through the proxy
+			session.getPersistenceContextInternal().touchEntity( target );
+		}
 		return target;
 	}
 
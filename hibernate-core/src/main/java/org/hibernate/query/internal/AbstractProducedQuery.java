@@ -47,6 +47,7 @@ import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
@@ -81,6 +82,7 @@ import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterListBinding;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.StreamDecorator;
+import org.hibernate.transform.AliasToBeanResultTransformer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -137,6 +139,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private String optionalEntityName;
 
 	private Boolean passDistinctThrough;
+	private boolean detachScrolledEntities;
 
 	public AbstractProducedQuery(
 			SharedSessionContractImplementor producer,
@@ -875,6 +878,11 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	@Override
 	@SuppressWarnings("unchecked")
 	public QueryImplementor setResultTransformer(ResultTransformer transformer) {
+		if ( transformer instanceof AliasToBeanResultTransformer ) {
+			( (AliasToBeanResultTransformer) transformer ).applyBytecodeProvider(
+					producer.getFactory().getServiceRegistry().getService( BytecodeProvider.class )
+			);
+		}
 		this.resultTransformer = transformer;
 		return this;
 	}
@@ -992,6 +1000,10 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			hints.put( HINT_READONLY, true );
 		}
 
+		if ( detachScrolledEntities ) {
+			hints.put( QueryHints.HINT_DETACH_SCROLLED_ENTITIES, true );
+		}
+
 		if ( entityGraphQueryHint != null ) {
 			hints.put( entityGraphQueryHint.getHintName(), entityGraphQueryHint.getOriginEntityGraph() );
 		}
@@ -1095,6 +1107,9 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			else if ( QueryHints.HINT_PASS_DISTINCT_THROUGH.equals( hintName ) ) {
 				applied = applyPassDistinctThrough( ConfigurationHelper.getBoolean( value ) );
 			}
+			else if ( QueryHints.HINT_DETACH_SCROLLED_ENTITIES.equals( hintName ) ) {
+				applied = applyDetachScrolledEntities( ConfigurationHelper.getBoolean( value ) );
+			}
 			else {
 				MSG_LOGGER.ignoringUnrecognizedQueryHint( hintName );
 			}
@@ -1322,6 +1337,16 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return true;
 	}
 
+	/**
+	 * Apply the detach-scrolled-entities hint.
+	 *
+	 * @param detachScrolledEntities the query detaches the entities of each row it scrolls through
+	 */
+	protected boolean applyDetachScrolledEntities(boolean detachScrolledEntities) {
+		this.detachScrolledEntities = detachScrolledEntities;
+		return true;
+	}
+
 	/**
 	 * Is the query represented here a native (SQL) query?
 	 *
@@ -1394,6 +1419,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
+		queryParameters.setDetachScrolledEntities( detachScrolledEntities );
 		return queryParameters;
 	}
 
@@ -43,6 +43,30 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Remember the SQL of a registered statement, until the statement is released.
+	 *
+	 * @param statement The statement.
+	 * @param sql The SQL of the statement.
+	 *
+	 * @since 5.5
+	 */
+	default void registerSql(Statement statement, String sql) {
+	}
+
+	/**
+	 * The SQL of a registered statement, as remembered by {@link #registerSql}.
+	 *
+	 * @param statement The statement.
+	 *
+	 * @return The SQL of the statement, or {@code null} if it was not remembered.
+	 *
+	 * @since 5.5
+	 */
+	default String getSql(Statement statement) {
+		return null;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p/>
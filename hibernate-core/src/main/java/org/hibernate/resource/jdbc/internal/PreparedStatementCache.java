@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A bounded, least recently used cache of the PreparedStatements of a JDBC connection, so that statements which
+ * are executed repeatedly are prepared once rather than for every execution.
+ * <p/>
+ * A statement obtained from the cache is in use until it is released through the
+ * {@link ResourceRegistryStandardImpl}, which then hands it back to the cache rather than closing it.  The cache
+ * resets the released statement, and keeps it if no other idle statement has the same key, evicting the least
+ * recently released statement when it holds more than its maximum size of idle statements.  The statements are
+ * closed when the registry releases all of its resources, which happens before the connection is released.
+ * <p/>
+ * This class is not thread-safe.
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+
+	private final LinkedHashMap<Key, Entry> idleEntries = new LinkedHashMap<>();
+	private final IdentityHashMap<Statement, Entry> entries = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Take an idle statement out of the cache.
+	 *
+	 * @param key The key of the statement
+	 *
+	 * @return The statement, now in use, or {@code null} if the cache holds no idle statement for the key
+	 */
+	public PreparedStatement checkOut(Key key) {
+		final Entry entry = idleEntries.remove( key );
+		if ( entry == null ) {
+			return null;
+		}
+		entry.idle = false;
+		return entry.statement;
+	}
+
+	/**
+	 * Start tracking a newly prepared statement, which is in use.
+	 *
+	 * @param key The key of the statement
+	 * @param statement The statement
+	 */
+	public void add(Key key, PreparedStatement statement) {
+		int fetchSize;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to read the fetch size of JDBC statement [%s], not caching it", e.getMessage() );
+			return;
+		}
+		entries.put( statement, new Entry( key, statement, fetchSize ) );
+	}
+
+	/**
+	 * Hand back a statement which is no longer in use.
+	 *
+	 * @param statement The statement
+	 *
+	 * @return {@code true} if the cache took care of the statement, or {@code false} if the statement was not
+	 * obtained from the cache and should be closed
+	 */
+	boolean release(Statement statement) {
+		final Entry entry = entries.get( statement );
+		if ( entry == null ) {
+			return false;
+		}
+		if ( entry.idle ) {
+			// released twice
+			return true;
+		}
+		if ( idleEntries.containsKey( entry.key ) || !reset( entry ) ) {
+			entries.remove( statement );
+			ResourceRegistryStandardImpl.close( statement );
+			return true;
+		}
+		entry.idle = true;
+		idleEntries.put( entry.key, entry );
+		if ( idleEntries.size() > maxSize ) {
+			final Iterator<Entry> iterator = idleEntries.values().iterator();
+			final Entry eldest = iterator.next();
+			iterator.remove();
+			entries.remove( eldest.statement );
+			ResourceRegistryStandardImpl.close( eldest.statement );
+		}
+		return true;
+	}
+
+	private static boolean reset(Entry entry) {
+		final PreparedStatement statement = entry.statement;
+		try {
+			statement.clearParameters();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != entry.fetchSize ) {
+				statement.setFetchSize( entry.fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement [%s], closing it", e.getMessage() );
+			return false;
+		}
+	}
+
+	/**
+	 * Close the idle statements, and stop tracking those in use, which are closed by the registry.
+	 */
+	void clear() {
+		for ( Entry entry : idleEntries.values() ) {
+			ResourceRegistryStandardImpl.close( entry.statement );
+		}
+		idleEntries.clear();
+		entries.clear();
+	}
+
+	/**
+	 * Create the key of a statement.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The type of the result sets of the statement
+	 * @param autoGeneratedKeys Whether the statement returns generated keys, as passed to
+	 * {@link java.sql.Connection#prepareStatement(String, int)}, or {@code -1} if this was not specified
+	 * @param columnNames The names of the columns returning generated keys, if any
+	 *
+	 * @return The key
+	 */
+	public static Key key(String sql, int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+		return new Key( sql, resultSetType, autoGeneratedKeys, columnNames );
+	}
+
+	/**
+	 * Identifies statements which are prepared the same way.
+	 */
+	public static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		private Key(String sql, int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+			int result = sql.hashCode();
+			result = 31 * result + resultSetType;
+			result = 31 * result + autoGeneratedKeys;
+			result = 31 * result + Arrays.hashCode( columnNames );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return hashCode == key.hashCode
+					&& resultSetType == key.resultSetType
+					&& autoGeneratedKeys == key.autoGeneratedKeys
+					&& sql.equals( key.sql )
+					&& Arrays.equals( columnNames, key.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class Entry {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+		private boolean idle;
+
+		private Entry(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+	}
+}
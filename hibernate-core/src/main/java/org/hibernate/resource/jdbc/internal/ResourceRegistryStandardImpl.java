@@ -50,6 +50,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<ResultSet,Object>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private final HashMap<ResultSet,Object> unassociatedResultSets = new HashMap<ResultSet,Object>();
@@ -60,12 +61,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private HashMap<Statement,String> statementSql;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param jdbcObserver The observer notified of the release of the resources
+	 * @param statementCache The cache to which released statements are handed back, or {@code null}
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -106,13 +118,32 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementSql != null ) {
+			statementSql.remove( statement );
+		}
+
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	@Override
+	public void registerSql(Statement statement, String sql) {
+		if ( statementSql == null ) {
+			statementSql = new HashMap<>();
+		}
+		statementSql.put( statement, sql );
+	}
+
+	@Override
+	public String getSql(Statement statement) {
+		return statementSql == null ? null : statementSql.get( statement );
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -323,6 +354,14 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( statementSql != null ) {
+			statementSql.clear();
+		}
+
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -21,6 +21,17 @@ public interface JdbcSessionContext {
 	boolean isGetGeneratedKeysEnabled();
 	int getFetchSize();
 
+	/**
+	 * The maximum number of prepared statements cached by the JDBC session, or {@code 0} if they are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 5.5
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	boolean doesConnectionProviderDisableAutoCommit();
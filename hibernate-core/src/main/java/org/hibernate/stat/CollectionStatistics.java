@@ -44,4 +44,15 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The maximum number of keys the last batch fetch of this collection was sized to, by the
+	 * {@link org.hibernate.loader.BatchLoadSizingStrategy}, with {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC}
+	 * batch fetching, or {@code 0} if it was not batch-fetched so yet.
+	 *
+	 * @since 5.5
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
@@ -50,4 +50,15 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The maximum number of keys the last batch fetch of this entity was sized to, by the
+	 * {@link org.hibernate.loader.BatchLoadSizingStrategy}, with {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC}
+	 * batch fetching, or {@code 0} if it was not batch-fetched so yet.
+	 *
+	 * @since 5.5
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
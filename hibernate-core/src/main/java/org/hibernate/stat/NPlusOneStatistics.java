@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * N+1 select statistics of an entity or collection role: the sessions which loaded more instances of the entity,
+ * by identifier, or more collections of the role, one select at a time, than the
+ * {@value org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD} threshold.
+ *
+ * @since 5.5
+ */
+public interface NPlusOneStatistics extends Serializable {
+	/**
+	 * The entity name or collection role
+	 */
+	String getRole();
+
+	/**
+	 * How many sessions crossed the threshold for this role?
+	 */
+	long getOccurrenceCount();
+
+	/**
+	 * How many selects of this role did these sessions perform, in total?
+	 */
+	long getSelectCount();
+
+	/**
+	 * The greatest number of selects of this role performed by one session
+	 */
+	long getMaxSelectCount();
+
+	/**
+	 * The stack trace of the thread whose select of this role crossed the threshold, sampled for the first
+	 * occurrence, then for the 2nd, 4th, 8th and so on; {@code null} if none was captured yet.
+	 */
+	String getStackTrace();
+}
@@ -33,5 +33,53 @@ public interface SessionStatistics {
 	 * @see org.hibernate.engine.spi.CollectionKey
 	 */
 	Set getCollectionKeys();
-	
+
+	/**
+	 * Get the number of entity instances dirty checked by the flushes of the session so far
+	 */
+	default long getFlushExaminedEntityCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the number of entity instances not dirty checked by the flushes of the session so far,
+	 * because they were not handed out since the previous flush
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default long getFlushSkippedEntityCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the approximate number of bytes retained by the entity instances, collections and
+	 * snapshots associated with the session.  This is an estimate based on their number,
+	 * not a measurement.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MEMORY_BUDGET
+	 */
+	default long getEstimatedRetainedSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the approximate number of bytes retained by the snapshots of the loaded state of the
+	 * entity instances associated with the session.  Values of immutable types are shared with
+	 * the entity instances and do not count, and read-only instances have no snapshot.
+	 * <p/>
+	 * This inspects every entity instance associated with the session.
+	 */
+	default long getEstimatedLoadedStateSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the name of the database the connection of the session was last routed to, by a
+	 * {@link org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider}, or {@code null}
+	 * if it was not routed
+	 */
+	default String getConnectionTarget() {
+		return null;
+	}
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * An execution of a SQL statement slower than the
+ * {@value org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY} threshold.
+ *
+ * @since 5.5
+ */
+public interface SlowStatement extends Serializable {
+	/**
+	 * The SQL statement, as sent to the database
+	 */
+	String getSql();
+
+	/**
+	 * The values bound to the parameters of the statement, as {@code [1:value, 2:value]}, or {@code null}
+	 * if the statement has no parameters.  For a JDBC batch, the values of its last row.
+	 */
+	String getParameters();
+
+	/**
+	 * What the statement was executed for: the HQL, criteria or native query, the loaded entity name or
+	 * collection role, or the batch of the flushed entity; {@code null} if unknown
+	 */
+	String getSource();
+
+	/**
+	 * Time of the execution, in milliseconds
+	 */
+	long getExecutionTime();
+
+	/**
+	 * When the execution completed, in milliseconds since the epoch
+	 */
+	long getTimestamp();
+
+	/**
+	 * The stack trace of the thread which executed the statement, if it was sampled; {@code null} otherwise.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_STATEMENTS_STACK_TRACE_SAMPLING
+	 */
+	String getStackTrace();
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Execution latency statistics of a SQL statement, as sent to the database by loaders, collection
+ * initializers, queries and flushes.  A JDBC batch counts as one execution of its statement.
+ * <p/>
+ * The latencies are recorded in microseconds, in a histogram of fixed size whose buckets are a few percent
+ * wide, so that the percentiles are approximations within that precision.
+ *
+ * @since 5.5
+ */
+public interface SqlStatistics extends Serializable {
+	/**
+	 * How many times has this statement been executed?
+	 */
+	long getExecutionCount();
+
+	/**
+	 * Total time of the executions of this statement, in microseconds
+	 */
+	long getExecutionTotalMicroseconds();
+
+	/**
+	 * Median time of the executions of this statement, in microseconds
+	 */
+	long getExecutionMedianMicroseconds();
+
+	/**
+	 * 95th percentile of the time of the executions of this statement, in microseconds
+	 */
+	long getExecution95thPercentileMicroseconds();
+
+	/**
+	 * 99th percentile of the time of the executions of this statement, in microseconds
+	 */
+	long getExecution99thPercentileMicroseconds();
+
+	/**
+	 * Maximum time of the executions of this statement, in microseconds
+	 */
+	long getExecutionMaxMicroseconds();
+}
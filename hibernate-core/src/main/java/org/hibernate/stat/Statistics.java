@@ -20,6 +20,8 @@ public interface Statistics {
 
 	int DEFAULT_QUERY_STATISTICS_MAX_SIZE = 5000;
 
+	int DEFAULT_SLOW_STATEMENTS_MAX_SIZE = 100;
+
 	/**
 	 * Are statistics enabled
 	 */
@@ -386,4 +388,114 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of prepared statements that were reused from the statement cache of a session rather than
+	 * prepared, which are not included in {@link #getPrepareStatementCount()}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 * @since 5.5
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get all executed SQL statements.
+	 *
+	 * The maximum number of statements tracked by the Hibernate statistics is given by the {@code hibernate.statistics.query_max_size} property.
+	 *
+	 * @since 5.5
+	 */
+	default String[] getSqlStatements() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Execution latency statistics of a SQL statement
+	 *
+	 * @param sql The SQL statement, as sent to the database
+	 *
+	 * @return SqlStatistics, or {@code null} if not supported
+	 *
+	 * @since 5.5
+	 */
+	default SqlStatistics getSqlStatistics(String sql) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * Get the most recent executions of SQL statements slower than the
+	 * {@code hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS} threshold, the oldest first.
+	 *
+	 * The maximum number of executions kept by the Hibernate statistics is given by the {@code hibernate.statistics.slow_statements_max_size} property.
+	 *
+	 * @since 5.5
+	 */
+	default SlowStatement[] getSlowStatements() {
+		//For backward compatibility
+		return new SlowStatement[0];
+	}
+
+	/**
+	 * Get the names of the entities and collection roles for which sessions performed N+1 selects, the roles
+	 * with the most selects first.
+	 *
+	 * The threshold is given by the {@code hibernate.statistics.n_plus_one_threshold} property.
+	 *
+	 * @since 5.5
+	 */
+	default String[] getNPlusOneRoles() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Get the N+1 select statistics of an entity or collection role.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @return The statistics, or {@code null} if no session performed N+1 selects of this role
+	 *
+	 * @since 5.5
+	 */
+	default NPlusOneStatistics getNPlusOneStatistics(String role) {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * Get the total time the sessions waited for the connections they asked for, in microseconds.
+	 *
+	 * @see #getConnectCount()
+	 *
+	 * @since 5.5
+	 */
+	default long getConnectionAcquisitionTotalMicroseconds() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the 99th percentile of the time the sessions waited for a connection, in microseconds.
+	 *
+	 * @since 5.5
+	 */
+	default long getConnectionAcquisition99thPercentileMicroseconds() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the maximum time a session waited for a connection, in microseconds.
+	 *
+	 * @since 5.5
+	 */
+	default long getConnectionAcquisitionMaxMicroseconds() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -22,6 +22,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final String collectionRole;
 	private final LongAdder loadCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private volatile int batchFetchSize;
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
@@ -44,6 +45,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return fetchCount.sum();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -64,6 +70,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		fetchCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -82,6 +92,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( "[collectionRole=" ).append( collectionRole )
 				.append( ",loadCount=" ).append( this.loadCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
 				.append( ",updateCount=" ).append( this.updateCount );
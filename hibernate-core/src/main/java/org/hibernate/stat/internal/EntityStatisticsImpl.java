@@ -25,6 +25,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder insertCount = new LongAdder();
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private volatile int batchFetchSize;
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
@@ -56,6 +57,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return fetchCount.sum();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
@@ -68,6 +74,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		fetchCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -93,6 +103,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize )
 				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
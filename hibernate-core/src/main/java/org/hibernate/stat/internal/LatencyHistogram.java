@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of fixed size recording non-negative values, in the manner of HdrHistogram: the values below
+ * {@value #SUB_BUCKET_COUNT} have a bucket each, and each higher power of two range is split into
+ * {@value #SUB_BUCKET_COUNT} buckets, so that the width of a bucket is at most 1/{@value #SUB_BUCKET_COUNT} of
+ * its values.  Values above {@link #MAX_VALUE} are recorded as {@link #MAX_VALUE}.
+ * <p/>
+ * Recording is lock-free; reading the percentiles while values are recorded gives approximate results.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	static final long MAX_VALUE = ( 1L << 32 ) - 1;
+
+	private static final int BUCKET_COUNT = bucketIndex( MAX_VALUE ) + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final AtomicLong maxValue = new AtomicLong();
+
+	void record(long value) {
+		final long recorded = value < 0 ? 0 : Math.min( value, MAX_VALUE );
+		buckets.incrementAndGet( bucketIndex( recorded ) );
+		for ( long old = maxValue.get(); recorded > old && !maxValue.compareAndSet( old, recorded ); old = maxValue.get() ) {}
+	}
+
+	long getMaxValue() {
+		return maxValue.get();
+	}
+
+	/**
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The highest value of the bucket holding the value at the percentile, bounded by the highest
+	 * recorded value, or 0 if no value was recorded
+	 */
+	long getValueAtPercentile(double percentile) {
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( Math.min( percentile, 100d ) / 100d * total ) );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulated += counts[i];
+			if ( cumulated >= rank ) {
+				return Math.min( highestValueInBucket( i ), maxValue.get() );
+			}
+		}
+		return maxValue.get();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		// the sub-bucket is given by the highest bits of the value below its leading one
+		final int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+		return ( shift << SUB_BUCKET_BITS ) + (int) ( value >>> shift );
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < 2 * SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = ( index >>> SUB_BUCKET_BITS ) - 1;
+		final long lowestValue = (long) ( SUB_BUCKET_COUNT + ( index & ( SUB_BUCKET_COUNT - 1 ) ) ) << shift;
+		return lowestValue + ( 1L << shift ) - 1;
+	}
+}
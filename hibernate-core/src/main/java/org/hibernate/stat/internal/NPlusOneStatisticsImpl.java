@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.NPlusOneStatistics;
+
+/**
+ * N+1 select statistics of an entity or collection role
+ */
+public class NPlusOneStatisticsImpl implements NPlusOneStatistics {
+	private final String role;
+
+	private final AtomicLong occurrenceCount = new AtomicLong();
+	private final LongAdder selectCount = new LongAdder();
+	private final LongAccumulator maxSelectCount = new LongAccumulator( Math::max, 0 );
+	private volatile StackTraceElement[] stackTrace;
+
+	NPlusOneStatisticsImpl(String role) {
+		this.role = role;
+	}
+
+	public String getRole() {
+		return role;
+	}
+
+	public long getOccurrenceCount() {
+		return occurrenceCount.get();
+	}
+
+	public long getSelectCount() {
+		return selectCount.sum();
+	}
+
+	public long getMaxSelectCount() {
+		return maxSelectCount.get();
+	}
+
+	public String getStackTrace() {
+		final StackTraceElement[] stackTrace = this.stackTrace;
+		if ( stackTrace == null ) {
+			return null;
+		}
+		final StringBuilder buffer = new StringBuilder();
+		for ( StackTraceElement element : stackTrace ) {
+			buffer.append( "\tat " ).append( element ).append( '\n' );
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * add statistics report of a session crossing the threshold
+	 *
+	 * @param count The number of selects of the session, so far
+	 */
+	void detected(int count) {
+		// capturing the stack trace is expensive: sample it for the occurrences whose number is a power of two
+		final long occurrence = occurrenceCount.incrementAndGet();
+		if ( ( occurrence & ( occurrence - 1 ) ) == 0 ) {
+			stackTrace = Thread.currentThread().getStackTrace();
+		}
+		selectCount.add( count );
+		maxSelectCount.accumulate( count );
+	}
+
+	/**
+	 * add statistics report of a further select of a session which crossed the threshold
+	 *
+	 * @param count The number of selects of the session, so far
+	 */
+	void selected(int count) {
+		selectCount.increment();
+		maxSelectCount.accumulate( count );
+	}
+
+	public String toString() {
+		return "NPlusOneStatistics"
+				+ "[role=" + role
+				+ ",occurrenceCount=" + this.occurrenceCount
+				+ ",selectCount=" + this.selectCount
+				+ ",maxSelectCount=" + this.maxSelectCount
+				+ ']';
+	}
+}
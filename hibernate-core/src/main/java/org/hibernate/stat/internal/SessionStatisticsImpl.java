@@ -39,11 +39,35 @@ public class SessionStatisticsImpl implements SessionStatistics {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 	
+	public long getFlushExaminedEntityCount() {
+		return session.getPersistenceContextInternal().getFlushExaminedEntityCount();
+	}
+
+	public long getFlushSkippedEntityCount() {
+		return session.getPersistenceContextInternal().getFlushSkippedEntityCount();
+	}
+
+	public long getEstimatedRetainedSize() {
+		return session.getPersistenceContextInternal().getEstimatedRetainedSize();
+	}
+
+	public long getEstimatedLoadedStateSize() {
+		return session.getPersistenceContextInternal().getEstimatedLoadedStateSize();
+	}
+
+	public String getConnectionTarget() {
+		return session.getJdbcConnectionAccess().getConnectionTarget();
+	}
+
 	public String toString() {
 		return new StringBuilder()
 			.append("SessionStatistics[")
 			.append("entity count=").append( getEntityCount() )
 			.append(",collection count=").append( getCollectionCount() )
+			.append(",flush examined entity count=").append( getFlushExaminedEntityCount() )
+			.append(",flush skipped entity count=").append( getFlushSkippedEntityCount() )
+			.append(",estimated retained size=").append( getEstimatedRetainedSize() )
+			.append(",connection target=").append( getConnectionTarget() )
 			.append(']')
 			.toString();
 	}
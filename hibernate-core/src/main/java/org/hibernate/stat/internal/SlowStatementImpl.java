@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.stat.SlowStatement;
+
+/**
+ * An execution of a SQL statement slower than the slow query threshold
+ */
+public class SlowStatementImpl implements SlowStatement {
+	private final String sql;
+	private final String parameters;
+	private final String source;
+	private final long executionTime;
+	private final long timestamp;
+	private final StackTraceElement[] stackTrace;
+
+	SlowStatementImpl(
+			String sql,
+			String parameters,
+			String source,
+			long executionTime,
+			long timestamp,
+			StackTraceElement[] stackTrace) {
+		this.sql = sql;
+		this.parameters = parameters;
+		this.source = source;
+		this.executionTime = executionTime;
+		this.timestamp = timestamp;
+		this.stackTrace = stackTrace;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public String getParameters() {
+		return parameters;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public String getStackTrace() {
+		if ( stackTrace == null ) {
+			return null;
+		}
+		final StringBuilder buffer = new StringBuilder();
+		for ( StackTraceElement element : stackTrace ) {
+			buffer.append( "\tat " ).append( element ).append( '\n' );
+		}
+		return buffer.toString();
+	}
+
+	public String toString() {
+		return "SlowStatementImpl["
+				+ "sql=" + sql
+				+ ",parameters=" + parameters
+				+ ",source=" + source
+				+ ",executionTime=" + executionTime
+				+ ",timestamp=" + timestamp
+				+ ']';
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.SqlStatistics;
+
+/**
+ * SQL statement execution latency statistics
+ */
+public class SqlStatisticsImpl implements SqlStatistics {
+	private final String sql;
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder executionTotalMicroseconds = new LongAdder();
+	private final LatencyHistogram executionMicroseconds = new LatencyHistogram();
+
+	SqlStatisticsImpl(String sql) {
+		this.sql = sql;
+	}
+
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	public long getExecutionTotalMicroseconds() {
+		return executionTotalMicroseconds.sum();
+	}
+
+	public long getExecutionMedianMicroseconds() {
+		return executionMicroseconds.getValueAtPercentile( 50 );
+	}
+
+	public long getExecution95thPercentileMicroseconds() {
+		return executionMicroseconds.getValueAtPercentile( 95 );
+	}
+
+	public long getExecution99thPercentileMicroseconds() {
+		return executionMicroseconds.getValueAtPercentile( 99 );
+	}
+
+	public long getExecutionMaxMicroseconds() {
+		return executionMicroseconds.getMaxValue();
+	}
+
+	/**
+	 * add statistics report of an execution of the statement
+	 *
+	 * @param microseconds time taken
+	 */
+	void executed(long microseconds) {
+		executionCount.increment();
+		executionTotalMicroseconds.add( microseconds );
+		executionMicroseconds.record( microseconds );
+	}
+
+	public String toString() {
+		return "SqlStatistics"
+				+ "[sql=" + sql
+				+ ",executionCount=" + this.executionCount
+				+ ",executionMedianMicroseconds=" + this.getExecutionMedianMicroseconds()
+				+ ",execution95thPercentileMicroseconds=" + this.getExecution95thPercentileMicroseconds()
+				+ ",execution99thPercentileMicroseconds=" + this.getExecution99thPercentileMicroseconds()
+				+ ",executionMaxMicroseconds=" + this.getExecutionMaxMicroseconds()
+				+ ']';
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -22,6 +25,7 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.SlowStatement;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -51,8 +55,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
 	private final LongAdder connectCount = new LongAdder();
+	private final LongAdder connectionAcquisitionTotalMicroseconds = new LongAdder();
+	private volatile LatencyHistogram connectionAcquisitionMicroseconds;
 
 	private final LongAdder prepareStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
@@ -106,6 +113,25 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	 */
 	private final StatsNamedContainer<QueryStatisticsImpl> queryStatsMap;
 
+	/**
+	 * Keyed by SQL statement
+	 */
+	private final StatsNamedContainer<SqlStatisticsImpl> sqlStatsMap;
+
+	/**
+	 * The most recent slow statements, the oldest first; guarded by itself
+	 */
+	private final ArrayDeque<SlowStatementImpl> slowStatements = new ArrayDeque<>();
+
+	private final int slowStatementsMaxSize;
+	private final int slowStatementsStackTraceSampling;
+	private final AtomicLong slowStatementCount = new AtomicLong();
+
+	/**
+	 * Keyed by entity name or collection role
+	 */
+	private final StatsNamedContainer<NPlusOneStatisticsImpl> nPlusOneStatsMap = new StatsNamedContainer<>();
+
 	/**
 	 * Keyed by region name
 	 */
@@ -122,6 +148,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
 				20
 		);
+		this.sqlStatsMap = new StatsNamedContainer<>(
+				sessionFactoryOptions.getQueryStatisticsMaxSize(),
+				20
+		);
+		this.slowStatementsMaxSize = sessionFactoryOptions.getSlowStatementsMaxSize();
+		this.slowStatementsStackTraceSampling = sessionFactoryOptions.getSlowStatementsStackTraceSampling();
 		clear();
 		metamodel = sessionFactory.getMetamodel();
 		cache = sessionFactory.getCache();
@@ -150,8 +182,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		sessionOpenCount.reset();
 		flushCount.reset();
 		connectCount.reset();
+		connectionAcquisitionTotalMicroseconds.reset();
+		connectionAcquisitionMicroseconds = new LatencyHistogram();
 
 		prepareStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
 		closeStatementCount.reset();
 
 		entityDeleteCount.reset();
@@ -187,6 +222,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		sqlStatsMap.clear();
+		synchronized ( slowStatements ) {
+			slowStatements.clear();
+		}
+		slowStatementCount.set( 0L );
+		nPlusOneStatsMap.clear();
 		deprecatedNaturalIdStatsMap.clear();
 
 		queryPlanCacheHitCount.reset();
@@ -270,6 +311,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityBatchFetchSized(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -369,6 +415,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionBatchFetchSized(String role, int batchSize) {
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -820,6 +871,106 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		);
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// SQL statement statistics
+
+	@Override
+	public String[] getSqlStatements() {
+		return sqlStatsMap.keysAsArray();
+	}
+
+	@Override
+	public SqlStatisticsImpl getSqlStatistics(String sql) {
+		return sqlStatsMap.getOrCompute(
+				sql,
+				SqlStatisticsImpl::new
+		);
+	}
+
+	@Override
+	public void sqlStatementExecuted(String sql, long microseconds) {
+		if ( sql != null ) {
+			getSqlStatistics( sql ).executed( microseconds );
+		}
+	}
+
+	@Override
+	public SlowStatement[] getSlowStatements() {
+		synchronized ( slowStatements ) {
+			return slowStatements.toArray( new SlowStatement[0] );
+		}
+	}
+
+	@Override
+	public boolean isSlowStatementStackTraceSampled() {
+		// the first slow statement is sampled, then one in slowStatementsStackTraceSampling
+		return slowStatementsMaxSize > 0
+				&& slowStatementsStackTraceSampling > 0
+				&& slowStatementCount.getAndIncrement() % slowStatementsStackTraceSampling == 0;
+	}
+
+	@Override
+	public void slowStatementExecuted(
+			String sql,
+			String parameters,
+			String source,
+			long milliseconds,
+			StackTraceElement[] stackTrace) {
+		if ( slowStatementsMaxSize <= 0 ) {
+			return;
+		}
+		final SlowStatementImpl slowStatement = new SlowStatementImpl(
+				sql,
+				parameters,
+				source,
+				milliseconds,
+				System.currentTimeMillis(),
+				stackTrace
+		);
+		synchronized ( slowStatements ) {
+			if ( slowStatements.size() == slowStatementsMaxSize ) {
+				slowStatements.removeFirst();
+			}
+			slowStatements.addLast( slowStatement );
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// N+1 select statistics
+
+	@Override
+	public String[] getNPlusOneRoles() {
+		final String[] roles = nPlusOneStatsMap.keysAsArray();
+		final long[] selectCounts = new long[roles.length];
+		final Integer[] order = new Integer[roles.length];
+		for ( int i = 0; i < roles.length; i++ ) {
+			final NPlusOneStatisticsImpl statistics = nPlusOneStatsMap.get( roles[i] );
+			selectCounts[i] = statistics == null ? 0 : statistics.getSelectCount();
+			order[i] = i;
+		}
+		Arrays.sort( order, Comparator.comparingLong( i -> -selectCounts[i] ) );
+		final String[] sorted = new String[roles.length];
+		for ( int i = 0; i < roles.length; i++ ) {
+			sorted[i] = roles[order[i]];
+		}
+		return sorted;
+	}
+
+	@Override
+	public NPlusOneStatisticsImpl getNPlusOneStatistics(String role) {
+		return nPlusOneStatsMap.get( role );
+	}
+
+	@Override
+	public void nPlusOneSelectsDetected(String role, int selectCount) {
+		nPlusOneStatsMap.getOrCompute( role, NPlusOneStatisticsImpl::new ).detected( selectCount );
+	}
+
+	@Override
+	public void nPlusOneSelect(String role, int selectCount) {
+		nPlusOneStatsMap.getOrCompute( role, NPlusOneStatisticsImpl::new ).selected( selectCount );
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Session/misc stats
 
@@ -843,6 +994,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return connectCount.sum();
 	}
 
+	@Override
+	public long getConnectionAcquisitionTotalMicroseconds() {
+		return connectionAcquisitionTotalMicroseconds.sum();
+	}
+
+	@Override
+	public long getConnectionAcquisition99thPercentileMicroseconds() {
+		return connectionAcquisitionMicroseconds.getValueAtPercentile( 99 );
+	}
+
+	@Override
+	public long getConnectionAcquisitionMaxMicroseconds() {
+		return connectionAcquisitionMicroseconds.getMaxValue();
+	}
+
 	@Override
 	public long getSuccessfulTransactionCount() {
 		return committedTransactionCount.sum();
@@ -863,6 +1029,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -883,11 +1054,23 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		connectCount.increment();
 	}
 
+	@Override
+	public void connect(long microseconds) {
+		connectCount.increment();
+		connectionAcquisitionTotalMicroseconds.add( microseconds );
+		connectionAcquisitionMicroseconds.record( microseconds );
+	}
+
 	@Override
 	public void prepareStatement() {
 		prepareStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
 	@Override
 	public void closeStatement() {
 		closeStatementCount.increment();
@@ -914,6 +1097,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		LOG.connectionsObtained( connectCount.sum() );
 		LOG.statementsPrepared( prepareStatementCount.sum() );
 		LOG.statementsClosed( closeStatementCount.sum() );
+		LOG.preparedStatementCacheHits( preparedStatementCacheHitCount.sum() );
 		LOG.secondLevelCachePuts( secondLevelCachePutCount.sum() );
 		LOG.secondLevelCacheHits( secondLevelCacheHitCount.sum() );
 		LOG.secondLevelCacheMisses( secondLevelCacheMissCount.sum() );
@@ -958,6 +1142,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",connections obtained=" ).append( connectCount )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
+				.append( ",prepared statement cache hits=" ).append( preparedStatementCacheHitCount )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
 				.append( ",second level cache hits=" ).append( secondLevelCacheHitCount )
 				.append( ",second level cache misses=" ).append( secondLevelCacheMissCount )
@@ -37,6 +37,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void connect();
 
+	/**
+	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 *
+	 * @param microseconds The time it took to obtain the connection
+	 */
+	default void connect(long microseconds) {
+		connect();
+	}
+
 	/**
 	 * Callback about a statement being prepared.
 	 */
@@ -266,4 +275,93 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback about a statement being reused from the statement cache of a session, rather than prepared.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the execution of a SQL statement, or of a JDBC batch of a statement.
+	 *
+	 * @param sql The SQL statement
+	 * @param microseconds execution time
+	 */
+	default void sqlStatementExecuted(String sql, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Whether the stack trace of the next execution of a SQL statement slower than the slow query threshold should
+	 * be captured, to be passed to {@link #slowStatementExecuted}.
+	 *
+	 * @return {@code true} if the stack trace should be captured
+	 */
+	default boolean isSlowStatementStackTraceSampled() {
+		return false;
+	}
+
+	/**
+	 * Callback about an execution of a SQL statement slower than the slow query threshold.
+	 *
+	 * @param sql The SQL statement
+	 * @param parameters The values bound to the parameters of the statement, or {@code null}
+	 * @param source What the statement was executed for, or {@code null}
+	 * @param milliseconds execution time
+	 * @param stackTrace The stack trace of the thread which executed the statement, or {@code null} if it was
+	 * not captured
+	 */
+	default void slowStatementExecuted(
+			String sql,
+			String parameters,
+			String source,
+			long milliseconds,
+			StackTraceElement[] stackTrace) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a session crossing the N+1 select threshold for an entity or collection role.
+	 *
+	 * @param role The entity name or collection role
+	 * @param selectCount The number of selects of the role performed by the session, so far
+	 */
+	default void nPlusOneSelectsDetected(String role, int selectCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a further select of an entity or collection role, by a session which already crossed the
+	 * N+1 select threshold for it.
+	 *
+	 * @param role The entity name or collection role
+	 * @param selectCount The number of selects of the role performed by the session, so far
+	 */
+	default void nPlusOneSelect(String role, int selectCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the size a batch fetch of an entity was given by the
+	 * {@link org.hibernate.loader.BatchLoadSizingStrategy}.
+	 *
+	 * @param entityName The entity name
+	 * @param batchSize The number of keys to batch-fetch
+	 */
+	default void entityBatchFetchSized(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the size a batch fetch of a collection was given by the
+	 * {@link org.hibernate.loader.BatchLoadSizingStrategy}.
+	 *
+	 * @param role The collection role
+	 * @param batchSize The number of keys to batch-fetch
+	 */
+	default void collectionBatchFetchSized(String role, int batchSize) {
+		//For backward compatibility
+	}
 }
@@ -9,6 +9,7 @@ import java.lang.reflect.Constructor;
 import java.util.List;
 
 import org.hibernate.QueryException;
+import org.hibernate.bytecode.spi.ProjectionInstantiator;
 
 /**
  * Wraps the tuples in a constructor call.
@@ -18,6 +19,7 @@ import org.hibernate.QueryException;
 public class AliasToBeanConstructorResultTransformer implements ResultTransformer {
 
 	private final Constructor constructor;
+	private final transient ProjectionInstantiator instantiator;
 
 	/**
 	 * Instantiates a AliasToBeanConstructorResultTransformer.
@@ -25,7 +27,21 @@ public class AliasToBeanConstructorResultTransformer implements ResultTransforme
 	 * @param constructor The constructor in which to wrap the tuples.
 	 */
 	public AliasToBeanConstructorResultTransformer(Constructor constructor) {
+		this( constructor, null );
+	}
+
+	/**
+	 * Instantiates a AliasToBeanConstructorResultTransformer calling the constructor through an instantiator
+	 * generated by the {@link org.hibernate.bytecode.spi.BytecodeProvider}.
+	 *
+	 * @param constructor The constructor in which to wrap the tuples.
+	 * @param instantiator The instantiator calling the constructor, or {@code null} to call it reflectively.
+	 *
+	 * @since 5.5
+	 */
+	public AliasToBeanConstructorResultTransformer(Constructor constructor, ProjectionInstantiator instantiator) {
 		this.constructor = constructor;
+		this.instantiator = instantiator;
 	}
 
 	/**
@@ -34,7 +50,7 @@ public class AliasToBeanConstructorResultTransformer implements ResultTransforme
 	@Override
 	public Object transformTuple(Object[] tuple, String[] aliases) {
 		try {
-			return constructor.newInstance( tuple );
+			return instantiator == null ? constructor.newInstance( tuple ) : instantiator.instantiate( tuple );
 		}
 		catch ( Exception e ) {
 			throw new QueryException(
@@ -6,20 +6,29 @@
  */
 package org.hibernate.transform;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 
 import org.hibernate.HibernateException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ProjectionInstantiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyChainedImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMapImpl;
 import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 
 /**
  * Result transformer that allows to transform a result to
  * a user specified class which will be populated via setter
  * methods or fields matching the alias names.
  * <p/>
+ * When a {@link BytecodeProvider} is given and the class is populated only through
+ * setter methods, it is instantiated and populated by an instantiator generated by
+ * that provider, if it provides one, rather than reflectively.  Queries give the
+ * transformer the provider of their session factory.
+ * <p/>
  * <pre>
  * List resultWithAliasedBean = s.createCriteria(Enrolment.class)
  * 			.createAlias("student", "st")
@@ -42,16 +51,50 @@ public class AliasToBeanResultTransformer extends AliasedTupleSubsetResultTransf
 	// 		this transformer
 
 	private final Class resultClass;
+	private transient BytecodeProvider bytecodeProvider;
 	private boolean isInitialized;
 	private String[] aliases;
 	private Setter[] setters;
+	private transient ProjectionInstantiator instantiator;
 
 	public AliasToBeanResultTransformer(Class resultClass) {
+		this( resultClass, null );
+	}
+
+	/**
+	 * Instantiates a AliasToBeanResultTransformer populating the result class through an instantiator
+	 * generated by the given provider, usually the one of the
+	 * {@link org.hibernate.SessionFactory}'s service registry.
+	 *
+	 * @param resultClass The class to instantiate for each tuple.
+	 * @param bytecodeProvider The provider of the instantiator, or {@code null} to populate the class reflectively.
+	 *
+	 * @since 5.5
+	 */
+	public AliasToBeanResultTransformer(Class resultClass, BytecodeProvider bytecodeProvider) {
 		if ( resultClass == null ) {
 			throw new IllegalArgumentException( "resultClass cannot be null" );
 		}
 		isInitialized = false;
 		this.resultClass = resultClass;
+		this.bytecodeProvider = bytecodeProvider;
+	}
+
+	/**
+	 * Populate the result class through an instantiator generated by the given provider, unless this
+	 * transformer was already given one.  Called by the queries this transformer is applied to.
+	 *
+	 * @param bytecodeProvider The provider of the {@link org.hibernate.SessionFactory}'s service registry
+	 *
+	 * @since 5.5
+	 */
+	public void applyBytecodeProvider(BytecodeProvider bytecodeProvider) {
+		if ( this.bytecodeProvider == null ) {
+			this.bytecodeProvider = bytecodeProvider;
+			if ( isInitialized ) {
+				instantiator = buildInstantiator();
+			}
+		}
 	}
 
 	@Override
@@ -70,7 +113,20 @@ public class AliasToBeanResultTransformer extends AliasedTupleSubsetResultTransf
 			else {
 				check( aliases );
 			}
-			
+
+			if ( instantiator != null ) {
+				try {
+					return instantiator.instantiate( tuple );
+				}
+				catch ( ClassCastException | NullPointerException e ) {
+					if ( !isRaisedByInstantiator( e ) ) {
+						throw e;
+					}
+					// a value does not match the type of its setter: populate the class reflectively
+					// instead, reporting which property could not be set
+				}
+			}
+
 			result = resultClass.newInstance();
 
 			for ( int i = 0; i < aliases.length; i++ ) {
@@ -104,9 +160,33 @@ public class AliasToBeanResultTransformer extends AliasedTupleSubsetResultTransf
 				setters[ i ] = propertyAccessStrategy.buildPropertyAccess( resultClass, alias ).getSetter();
 			}
 		}
+		instantiator = buildInstantiator();
 		isInitialized = true;
 	}
 
+	private ProjectionInstantiator buildInstantiator() {
+		if ( bytecodeProvider == null ) {
+			return null;
+		}
+		final Method[] setterMethods = new Method[ setters.length ];
+		for ( int i = 0; i < setters.length; i++ ) {
+			if ( setters[ i ] != null ) {
+				if ( !( setters[ i ] instanceof SetterMethodImpl ) ) {
+					// fields and map entries are still set reflectively
+					return null;
+				}
+				setterMethods[ i ] = setters[ i ].getMethod();
+			}
+		}
+		return bytecodeProvider.getProjectionInstantiator( resultClass, setterMethods );
+	}
+
+	private boolean isRaisedByInstantiator(RuntimeException e) {
+		final StackTraceElement[] stackTrace = e.getStackTrace();
+		// the JVM may omit the stack trace of the exceptions it raises itself
+		return stackTrace.length == 0 || stackTrace[0].getClassName().equals( instantiator.getClass().getName() );
+	}
+
 	private void check(String[] aliases) {
 		if ( ! Arrays.equals( aliases, this.aliases ) ) {
 			throw new IllegalStateException(
@@ -11,6 +11,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
@@ -53,4 +54,15 @@ public interface WrapperOptions {
 	 * @return JDBC {@link TimeZone}
 	 */
 	public TimeZone getJdbcTimeZone();
+
+	/**
+	 * The detector of slow statements, to which the bound values are reported.
+	 *
+	 * @return The detector, or {@code null} if slow statements are not detected
+	 *
+	 * @since 5.5
+	 */
+	default SlowStatementDetector getSlowStatementDetector() {
+		return null;
+	}
 }
@@ -10,6 +10,7 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
+import org.hibernate.engine.jdbc.spi.SlowStatementDetector;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.type.descriptor.JdbcTypeNameMapper;
 import org.hibernate.type.descriptor.ValueBinder;
@@ -72,6 +73,12 @@ public abstract class BasicBinder<J> implements ValueBinder<J> {
 			}
 			doBind( st, value, index, options );
 		}
+		if ( options != null ) {
+			final SlowStatementDetector slowStatementDetector = options.getSlowStatementDetector();
+			if ( slowStatementDetector != null ) {
+				slowStatementDetector.parameterBound( st, index, value, getJavaDescriptor() );
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.connection;
+
+import java.sql.Connection;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the pool of {@link DriverManagerConnectionProviderImpl}.
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl provider;
+
+	@After
+	public void stop() {
+		if ( provider != null ) {
+			provider.stop();
+		}
+	}
+
+	private void configure(int poolSize, String setting, String value) {
+		final Properties properties = Environment.getProperties();
+		properties.put( AvailableSettings.POOL_SIZE, poolSize );
+		properties.put( DriverManagerConnectionProviderImpl.INITIAL_SIZE, poolSize );
+		properties.put( setting, value );
+		provider = new DriverManagerConnectionProviderImpl();
+		provider.configure( properties );
+	}
+
+	@Test
+	public void testWaitingThreadObtainsReturnedConnection() throws Exception {
+		configure( 1, DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "10000" );
+
+		final Connection connection = provider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return provider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		Thread.sleep( 200 );
+		assertFalse( waiting.isDone() );
+
+		provider.closeConnection( connection );
+		assertSame( connection, waiting.get( 5, TimeUnit.SECONDS ) );
+		provider.closeConnection( connection );
+	}
+
+	@Test
+	public void testAcquisitionTimesOut() throws Exception {
+		configure( 1, DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "100" );
+
+		final Connection connection = provider.getConnection();
+		final long start = System.nanoTime();
+		try {
+			provider.getConnection();
+			fail( "The pool is exhausted" );
+		}
+		catch (HibernateException expected) {
+			assertTrue( expected.getMessage().contains( "maximum size" ) );
+			assertTrue( System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		}
+		provider.closeConnection( connection );
+	}
+
+	@Test
+	public void testStoppingDoesNotWaitForWaitingThreads() throws Exception {
+		configure( 1, DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "3000" );
+
+		provider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return provider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		Thread.sleep( 200 );
+		assertFalse( waiting.isDone() );
+
+		final long start = System.nanoTime();
+		provider.stop();
+		assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( 1 ) );
+	}
+
+	@Test
+	public void testThreadObtainsTheConnectionItReturnedLast() throws Exception {
+		configure( 2, DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "10000" );
+
+		final Connection first = provider.getConnection();
+		final Connection second = provider.getConnection();
+		provider.closeConnection( first );
+		provider.closeConnection( second );
+
+		final Connection connection = provider.getConnection();
+		assertSame( second, connection );
+		provider.closeConnection( connection );
+	}
+
+	@Test
+	public void testExpiredConnectionIsRetired() throws Exception {
+		configure( 1, DriverManagerConnectionProviderImpl.MAX_LIFETIME, "1" );
+
+		final Connection connection = provider.getConnection();
+		Thread.sleep( 1100 );
+		provider.closeConnection( connection );
+		assertTrue( connection.isClosed() );
+
+		final Connection replacement = provider.getConnection();
+		assertNotSame( connection, replacement );
+		assertFalse( replacement.isClosed() );
+		provider.closeConnection( replacement );
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.ReadReplicaRoutingConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReadReplicaRoutingConnectionProviderImpl}.
+ */
+public class ReadReplicaRoutingConnectionProviderTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Employee.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		// the replicas are the primary database itself, under other names
+		final String url = Environment.getProperties().getProperty( AvailableSettings.URL );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, ReadReplicaRoutingConnectionProviderImpl.class.getName() );
+		settings.put( ReadReplicaRoutingConnectionProviderImpl.REPLICA_URLS, url + ", " + url );
+	}
+
+	@Test
+	public void testReadOnlySessionsAreRoutedToReplicas() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Employee( 1L, "John" ) );
+			session.flush();
+			assertEquals( ReadReplicaRoutingConnectionProviderImpl.PRIMARY, session.getStatistics().getConnectionTarget() );
+		} );
+
+		// the routing happens as the transaction obtains the connection
+		final String target = readInReadOnlySession( session -> session.setDefaultReadOnly( true ) );
+		assertTrue( target.startsWith( ReadReplicaRoutingConnectionProviderImpl.REPLICA_PREFIX ) );
+
+		// the next session goes to the other replica, as none has outstanding connections
+		final String otherTarget = readInReadOnlySession( session -> session.setProperty( AvailableSettings.CONNECTION_READ_ONLY, true ) );
+		assertTrue( otherTarget.startsWith( ReadReplicaRoutingConnectionProviderImpl.REPLICA_PREFIX ) );
+		assertNotEquals( target, otherTarget );
+	}
+
+	private String readInReadOnlySession(Consumer<Session> readOnly) {
+		try ( Session session = sessionFactory().openSession() ) {
+			readOnly.accept( session );
+			session.beginTransaction();
+			try {
+				assertNotNull( session.get( Employee.class, 1L ) );
+				return session.getStatistics().getConnectionTarget();
+			}
+			finally {
+				session.getTransaction().commit();
+			}
+		}
+	}
+
+	@Test
+	public void testLeastOutstandingReplicaIsSelected() throws Exception {
+		final ReadReplicaRoutingConnectionProviderImpl connectionProvider = serviceRegistry()
+				.getService( ConnectionProvider.class )
+				.unwrap( ReadReplicaRoutingConnectionProviderImpl.class );
+
+		final Connection first = connectionProvider.getConnection( true );
+		final Connection second = connectionProvider.getConnection( true );
+		final String firstTarget = connectionProvider.getTarget( first );
+		assertTrue( firstTarget.startsWith( ReadReplicaRoutingConnectionProviderImpl.REPLICA_PREFIX ) );
+		assertNotEquals( firstTarget, connectionProvider.getTarget( second ) );
+
+		connectionProvider.closeConnection( first );
+		// the replica of the first connection has no outstanding connection anymore
+		for ( int i = 0; i < 3; i++ ) {
+			final Connection connection = connectionProvider.getConnection( true );
+			assertEquals( firstTarget, connectionProvider.getTarget( connection ) );
+			connectionProvider.closeConnection( connection );
+		}
+		connectionProvider.closeConnection( second );
+
+		final Connection connection = connectionProvider.getConnection();
+		assertEquals( ReadReplicaRoutingConnectionProviderImpl.PRIMARY, connectionProvider.getTarget( connection ) );
+		connectionProvider.closeConnection( connection );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.hibernate.action.internal.DelayedPostInsertIdentifier;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the open-addressing tables backing the {@link StatefulPersistenceContext} maps.
+ */
+public class IdentifierTableTest {
+
+	@Test
+	public void testLongIdentifiersAgainstHashMap() {
+		final IdentifierTable table = IdentifierTable.create( LongType.INSTANCE, null );
+		assertTrue( table instanceof IdentifierTable.LongIdentifierTable );
+		verifyAgainstHashMap( table, id -> (long) id );
+	}
+
+	@Test
+	public void testIntegerIdentifiersAreReboxedWithTheirOwnType() {
+		final IdentifierTable table = IdentifierTable.create( IntegerType.INSTANCE, null );
+		table.put( 42, null, "value" );
+		for ( int i = 0; i < table.capacity(); i++ ) {
+			if ( table.isOccupied( i ) ) {
+				assertEquals( Integer.valueOf( 42 ), table.getIdentifier( i ) );
+			}
+		}
+	}
+
+	@Test
+	public void testObjectIdentifiersAgainstHashMap() {
+		final IdentifierTable table = IdentifierTable.create( StringType.INSTANCE, null );
+		assertTrue( table instanceof IdentifierTable.ObjectIdentifierTable );
+		verifyAgainstHashMap( table, id -> "id-" + id );
+	}
+
+	@Test
+	public void testEntityKeyMapRetainsSubclassPersister() {
+		final EntityPersister root = persister( "Animal", "Animal" );
+		final EntityPersister subclass = persister( "Dog", "Animal" );
+
+		final EntityKeyMap<Object> map = new EntityKeyMap<>();
+		final Object animal = new Object();
+		final Object dog = new Object();
+		map.put( new EntityKey( 1L, root ), animal );
+		map.put( new EntityKey( 2L, subclass ), dog );
+
+		assertEquals( 2, map.size() );
+		// keys of the same hierarchy are equal regardless of the concrete persister
+		assertSame( dog, map.get( new EntityKey( 2L, root ) ) );
+		assertTrue( map.containsKey( new EntityKey( 1L, subclass ) ) );
+
+		final Set<String> entityNames = new HashSet<>();
+		for ( EntityKey key : map.keySet() ) {
+			entityNames.add( key.getEntityName() + "#" + key.getIdentifier() );
+		}
+		assertTrue( entityNames.contains( "Animal#1" ) );
+		assertTrue( entityNames.contains( "Dog#2" ) );
+
+		assertSame( animal, map.remove( new EntityKey( 1L, subclass ) ) );
+		assertFalse( map.containsKey( new EntityKey( 1L, root ) ) );
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	public void testEntityKeyMapAcceptsDelayedIdentifiers() {
+		final EntityPersister persister = persister( "Animal", "Animal" );
+
+		final EntityKeyMap<Object> map = new EntityKeyMap<>();
+		final Object loaded = new Object();
+		final Object persisted = new Object();
+		final DelayedPostInsertIdentifier delayedIdentifier = new DelayedPostInsertIdentifier();
+		map.put( new EntityKey( 1L, persister ), loaded );
+		assertNull( map.get( new EntityKey( delayedIdentifier, persister ) ) );
+
+		// an entity persisted outside of a transaction awaits its generated identifier
+		map.put( new EntityKey( delayedIdentifier, persister ), persisted );
+		assertEquals( 2, map.size() );
+		assertSame( loaded, map.get( new EntityKey( 1L, persister ) ) );
+		assertSame( persisted, map.get( new EntityKey( delayedIdentifier, persister ) ) );
+
+		final Set<Serializable> identifiers = new HashSet<>();
+		for ( EntityKey key : map.keySet() ) {
+			identifiers.add( key.getIdentifier() );
+		}
+		assertTrue( identifiers.contains( 1L ) );
+		assertTrue( identifiers.contains( delayedIdentifier ) );
+
+		assertSame( persisted, map.remove( new EntityKey( delayedIdentifier, persister ) ) );
+		map.put( new EntityKey( 2L, persister ), persisted );
+		assertEquals( 2, map.size() );
+		assertSame( persisted, map.get( new EntityKey( 2L, persister ) ) );
+	}
+
+	private EntityPersister persister(String entityName, String rootEntityName) {
+		final EntityPersister persister = mock( EntityPersister.class );
+		final Type identifierType = LongType.INSTANCE;
+		when( persister.getEntityName() ).thenReturn( entityName );
+		when( persister.getRootEntityName() ).thenReturn( rootEntityName );
+		when( persister.getIdentifierType() ).thenReturn( identifierType );
+		return persister;
+	}
+
+	private void verifyAgainstHashMap(IdentifierTable table, IdentifierFactory identifiers) {
+		final Map<Serializable, Object> expected = new HashMap<>();
+		final Random random = new Random( 7 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			final Serializable id = identifiers.create( random.nextInt( 2_000 ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( id ), table.remove( id ) );
+			}
+			else {
+				final Object value = i;
+				assertEquals( expected.put( id, value ), table.put( id, null, value ) );
+			}
+			assertEquals( expected.size(), table.size() );
+		}
+		for ( int i = 0; i < 2_000; i++ ) {
+			final Serializable id = identifiers.create( i );
+			assertEquals( expected.get( id ), table.get( id ) );
+			assertEquals( expected.containsKey( id ), table.containsKey( id ) );
+		}
+
+		int occupied = 0;
+		for ( int i = 0; i < table.capacity(); i++ ) {
+			if ( table.isOccupied( i ) ) {
+				occupied++;
+				assertEquals( expected.get( table.getIdentifier( i ) ), table.getValue( i ) );
+			}
+		}
+		assertEquals( expected.size(), occupied );
+
+		for ( Serializable id : new HashSet<>( expected.keySet() ) ) {
+			table.remove( id );
+		}
+		assertEquals( 0, table.size() );
+		assertNull( table.get( identifiers.create( 0 ) ) );
+	}
+
+	private interface IdentifierFactory {
+		Serializable create(int seed);
+	}
+}
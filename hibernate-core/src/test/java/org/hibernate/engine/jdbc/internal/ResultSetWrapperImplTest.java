@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ResultSetWrapperImplTest {
+
+	private ColumnNameCache columnNameCache;
+
+	private ResultSet resultSet;
+
+	private ResultSet wrapper;
+
+	@Before
+	public void initialize() throws SQLException {
+		columnNameCache = new ColumnNameCache( 2 );
+
+		resultSet = Mockito.mock( ResultSet.class );
+		when( resultSet.findColumn( eq( "myColumn" ) ) ).thenReturn( 1 );
+		when( resultSet.findColumn( eq( "otherColumn" ) ) ).thenReturn( 2 );
+
+		wrapper = new ResultSetWrapperImpl().wrap( resultSet, columnNameCache );
+	}
+
+	@Test
+	public void testGetMethodsReadByPosition() throws SQLException {
+		when( resultSet.getString( 2 ) ).thenReturn( "value" );
+
+		for ( int row = 0; row < 3; row++ ) {
+			assertEquals( "value", wrapper.getString( "otherColumn" ) );
+			wrapper.getLong( "myColumn" );
+		}
+
+		verify( resultSet, times( 3 ) ).getString( 2 );
+		verify( resultSet, times( 3 ) ).getLong( 1 );
+		verify( resultSet, never() ).getString( anyString() );
+		verify( resultSet, never() ).getLong( anyString() );
+		verify( resultSet, times( 1 ) ).findColumn( "myColumn" );
+		verify( resultSet, times( 1 ) ).findColumn( "otherColumn" );
+	}
+
+	@Test
+	public void testPositionsArePredictedForTheNextRows() throws SQLException {
+		final ResultSet columnIndexResultSet = new ColumnIndexResultSet( resultSet );
+
+		for ( int row = 0; row < 3; row++ ) {
+			columnIndexResultSet.next();
+			columnIndexResultSet.getString( "otherColumn" );
+			columnIndexResultSet.getLong( "myColumn" );
+		}
+		// a row skipping a column
+		columnIndexResultSet.next();
+		columnIndexResultSet.getLong( "myColumn" );
+
+		verify( resultSet, times( 3 ) ).getString( 2 );
+		verify( resultSet, times( 4 ) ).getLong( 1 );
+		verify( resultSet, times( 1 ) ).findColumn( "myColumn" );
+		verify( resultSet, times( 1 ) ).findColumn( "otherColumn" );
+	}
+
+	@Test
+	public void testWrapperEqualsWrappedResultSet() {
+		assertTrue( wrapper.equals( resultSet ) );
+		assertEquals( resultSet.hashCode(), wrapper.hashCode() );
+	}
+
+	@Test
+	public void testPositionsAreSharedThroughTheCache() throws SQLException {
+		wrapper.getInt( "myColumn" );
+
+		final ResultSet nextResultSet = Mockito.mock( ResultSet.class );
+		final ResultSet nextWrapper = new ResultSetWrapperImpl().wrap( nextResultSet, columnNameCache );
+		assertEquals( 1, nextWrapper.findColumn( "myColumn" ) );
+		nextWrapper.getInt( "myColumn" );
+
+		verify( nextResultSet, times( 1 ) ).getInt( 1 );
+		verify( nextResultSet, never() ).findColumn( anyString() );
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testMethodsWithAdditionalParameters() throws SQLException {
+		wrapper.getBigDecimal( "myColumn", 8 );
+		verify( resultSet, times( 1 ) ).getBigDecimal( 1, 8 );
+
+		wrapper.updateInt( "otherColumn", 19 );
+		verify( resultSet, times( 1 ) ).updateInt( 2, 19 );
+
+		wrapper.getObject( "otherColumn", Long.class );
+		verify( resultSet, times( 1 ) ).getObject( 2, Long.class );
+	}
+
+	@Test
+	public void testStandardMethods() throws SQLException {
+		wrapper.next();
+		verify( resultSet, times( 1 ) ).next();
+
+		wrapper.getFetchSize();
+		verify( resultSet, times( 1 ) ).getFetchSize();
+
+		wrapper.close();
+		verify( resultSet, times( 1 ) ).close();
+	}
+
+	@Test
+	public void testUnwrap() throws SQLException {
+		assertSame( wrapper, wrapper.unwrap( ResultSet.class ) );
+
+		wrapper.unwrap( Runnable.class );
+		verify( resultSet, times( 1 ) ).unwrap( Runnable.class );
+	}
+}
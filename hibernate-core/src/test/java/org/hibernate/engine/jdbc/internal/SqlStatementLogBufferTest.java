@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.junit.Test;
+
+public class SqlStatementLogBufferTest {
+
+	@Test
+	public void testStatementsAreLoggedInOrder() {
+		final List<String> logged = Collections.synchronizedList( new ArrayList<>() );
+		final SqlStatementLogBuffer buffer = new SqlStatementLogBuffer( 8, (statement, formatter) -> logged.add( statement ) );
+		final List<String> expected = new ArrayList<>();
+		try {
+			for ( int i = 0; i < 100; i++ ) {
+				final String statement = "select " + i;
+				// the buffer is smaller than the statements, wait for the consumer rather than dropping any
+				while ( !buffer.offer( statement, null ) ) {
+					Thread.yield();
+				}
+				expected.add( statement );
+			}
+		}
+		finally {
+			buffer.stop();
+		}
+		assertEquals( expected, logged );
+	}
+
+	@Test
+	public void testStatementsAreDroppedWhenFull() throws InterruptedException {
+		final CountDownLatch consumerBlocked = new CountDownLatch( 1 );
+		final CountDownLatch release = new CountDownLatch( 1 );
+		final List<String> logged = Collections.synchronizedList( new ArrayList<>() );
+		// the capacity is rounded up to 4
+		final SqlStatementLogBuffer buffer = new SqlStatementLogBuffer( 3, (statement, formatter) -> {
+			consumerBlocked.countDown();
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			logged.add( statement );
+		} );
+		try {
+			assertTrue( buffer.offer( "blocking", null ) );
+			assertTrue( consumerBlocked.await( 10, TimeUnit.SECONDS ) );
+			for ( int i = 0; i < 4; i++ ) {
+				assertTrue( buffer.offer( "select " + i, null ) );
+			}
+			assertFalse( buffer.offer( "dropped", null ) );
+			assertFalse( buffer.offer( "dropped", null ) );
+			assertEquals( 2, buffer.getDroppedCount() );
+		}
+		finally {
+			release.countDown();
+			buffer.stop();
+		}
+		assertEquals( 5, logged.size() );
+		assertFalse( logged.contains( "dropped" ) );
+	}
+
+	@Test
+	public void testStatementsAreFormattedInTheBackground() throws InterruptedException {
+		final AtomicReference<Thread> formattingThread = new AtomicReference<>();
+		final CountDownLatch formatted = new CountDownLatch( 1 );
+		final SqlStatementLogger logger = new SqlStatementLogger( true, true, 0, 16 );
+		try {
+			assertTrue( logger.isAsync() );
+			logger.logStatement( "select 1", source -> {
+				formattingThread.set( Thread.currentThread() );
+				formatted.countDown();
+				return source;
+			} );
+			assertTrue( formatted.await( 10, TimeUnit.SECONDS ) );
+			assertNotSame( Thread.currentThread(), formattingThread.get() );
+			assertEquals( 0, logger.getDroppedStatementCount() );
+		}
+		finally {
+			logger.stop();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the connection acquisition time in {@link Statistics}.
+ */
+public class ConnectionAcquisitionStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testConnectionAcquisitionIsTimed() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Employee( 1L, "employee" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Employee.class, 1L );
+		} );
+
+		assertEquals( 2, statistics.getConnectCount() );
+		assertTrue( statistics.getConnectionAcquisitionMaxMicroseconds() <= statistics.getConnectionAcquisitionTotalMicroseconds() );
+		assertTrue( statistics.getConnectionAcquisition99thPercentileMicroseconds() <= statistics.getConnectionAcquisitionMaxMicroseconds() );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getConnectionAcquisitionTotalMicroseconds() );
+		assertEquals( 0, statistics.getConnectionAcquisitionMaxMicroseconds() );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
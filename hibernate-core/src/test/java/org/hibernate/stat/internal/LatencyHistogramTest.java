@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBucketsCoverEachValueOnce() {
+		long expectedLowest = 0;
+		for ( int index = 0; index <= LatencyHistogram.bucketIndex( LatencyHistogram.MAX_VALUE ); index++ ) {
+			final long highest = LatencyHistogram.highestValueInBucket( index );
+			assertEquals( index, LatencyHistogram.bucketIndex( expectedLowest ) );
+			assertEquals( index, LatencyHistogram.bucketIndex( highest ) );
+			// a bucket is at most 1/16 of its values wide
+			assertTrue( highest - expectedLowest <= Math.max( 0, expectedLowest / 16 ) );
+			expectedLowest = highest + 1;
+		}
+		assertEquals( LatencyHistogram.MAX_VALUE + 1, expectedLowest );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getValueAtPercentile( 50 ) );
+
+		for ( long value = 1; value <= 1000; value++ ) {
+			histogram.record( value );
+		}
+		assertEquals( 1000, histogram.getMaxValue() );
+		assertWithinBucket( 500, histogram.getValueAtPercentile( 50 ) );
+		assertWithinBucket( 950, histogram.getValueAtPercentile( 95 ) );
+		assertWithinBucket( 990, histogram.getValueAtPercentile( 99 ) );
+		assertEquals( 1000, histogram.getValueAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testOutOfRangeValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( -5 );
+		histogram.record( Long.MAX_VALUE );
+		assertEquals( 0, histogram.getValueAtPercentile( 50 ) );
+		assertEquals( LatencyHistogram.MAX_VALUE, histogram.getValueAtPercentile( 100 ) );
+		assertEquals( LatencyHistogram.MAX_VALUE, histogram.getMaxValue() );
+	}
+
+	private static void assertWithinBucket(long expected, long actual) {
+		assertEquals( LatencyHistogram.highestValueInBucket( LatencyHistogram.bucketIndex( expected ) ), actual );
+	}
+}
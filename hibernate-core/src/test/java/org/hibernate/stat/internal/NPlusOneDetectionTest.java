@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.NPlusOneStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Statistics#getNPlusOneStatistics(String)}.
+ */
+public class NPlusOneDetectionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String DEPARTMENT = Department.class.getName();
+	private static final String EMPLOYEES = Department.class.getName() + ".employees";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Department.class, Employee.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.N_PLUS_ONE_THRESHOLD, "5" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		// every employee has a department of its own, so that each proxy initialization selects one department
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				final Department department = new Department( id );
+				department.addEmployee( new Employee( id ) );
+				session.persist( department );
+			}
+		} );
+	}
+
+	@Before
+	public void clearStatistics() {
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testProxyInitializationsAreDetected() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		initializeDepartmentsOfEmployees( 10 );
+
+		final NPlusOneStatistics departmentStatistics = statistics.getNPlusOneStatistics( DEPARTMENT );
+		assertEquals( 1, departmentStatistics.getOccurrenceCount() );
+		assertEquals( 10, departmentStatistics.getSelectCount() );
+		assertEquals( 10, departmentStatistics.getMaxSelectCount() );
+		assertTrue( departmentStatistics.getStackTrace().contains( "initializeDepartmentsOfEmployees" ) );
+		assertArrayEquals( new String[] { DEPARTMENT }, statistics.getNPlusOneRoles() );
+
+		initializeDepartmentsOfEmployees( 6 );
+		assertEquals( 2, departmentStatistics.getOccurrenceCount() );
+		assertEquals( 16, departmentStatistics.getSelectCount() );
+		assertEquals( 10, departmentStatistics.getMaxSelectCount() );
+	}
+
+	@Test
+	public void testSelectsBelowThresholdAreNotDetected() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		initializeDepartmentsOfEmployees( 4 );
+		assertNull( statistics.getNPlusOneStatistics( DEPARTMENT ) );
+		assertEquals( 0, statistics.getNPlusOneRoles().length );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// found in the persistence context, so not selected again
+			for ( long i = 0; i < 10; i++ ) {
+				session.get( Department.class, 1L );
+			}
+		} );
+		assertNull( statistics.getNPlusOneStatistics( DEPARTMENT ) );
+	}
+
+	@Test
+	public void testCollectionInitializationsAreDetected() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Department> departments = session.createQuery( "from Department d order by d.id", Department.class )
+					.getResultList();
+			for ( Department department : departments ) {
+				assertEquals( 1, department.employees.size() );
+			}
+		} );
+		initializeDepartmentsOfEmployees( 7 );
+
+		final NPlusOneStatistics employeesStatistics = statistics.getNPlusOneStatistics( EMPLOYEES );
+		assertEquals( 1, employeesStatistics.getOccurrenceCount() );
+		assertEquals( 10, employeesStatistics.getSelectCount() );
+		assertArrayEquals( new String[] { EMPLOYEES, DEPARTMENT }, statistics.getNPlusOneRoles() );
+	}
+
+	private void initializeDepartmentsOfEmployees(int numberOfEmployees) {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Employee> employees = session.createQuery( "from Employee e order by e.id", Employee.class )
+					.setMaxResults( numberOfEmployees )
+					.getResultList();
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.department );
+			}
+		} );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "department", cascade = CascadeType.PERSIST)
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Long id) {
+			this.id = id;
+		}
+
+		public void addEmployee(Employee employee) {
+			employee.department = this;
+			employees.add( employee );
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id) {
+			this.id = id;
+		}
+	}
+}
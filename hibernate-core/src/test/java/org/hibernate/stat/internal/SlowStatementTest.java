@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.sql.Statement;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Formula;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.SlowStatement;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Statistics#getSlowStatements()}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class SlowStatementTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.LOG_SLOW_QUERY, "10" );
+		settings.put( AvailableSettings.SLOW_STATEMENTS_MAX_SIZE, "2" );
+		settings.put( AvailableSettings.SLOW_STATEMENTS_STACK_TRACE_SAMPLING, "2" );
+	}
+
+	@Test
+	public void testSlowStatementsAreRecorded() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.doWork( connection -> {
+				try ( Statement statement = connection.createStatement() ) {
+					statement.execute( "create alias if not exists pause for \"" + getClass().getName() + ".pause\"" );
+				}
+			} );
+			session.persist( new Employee( 1L, "John" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Employee.class, 1L );
+		} );
+
+		SlowStatement[] slowStatements = statistics.getSlowStatements();
+		assertEquals( 1, slowStatements.length );
+		assertTrue( slowStatements[0].getSql().startsWith( "select" ) );
+		assertEquals( "[1:1]", slowStatements[0].getParameters() );
+		assertEquals( Employee.class.getName(), slowStatements[0].getSource() );
+		assertTrue( slowStatements[0].getExecutionTime() >= 10 );
+		// the first slow statement is sampled
+		assertNotNull( slowStatements[0].getStackTrace() );
+		assertTrue( slowStatements[0].getStackTrace().contains( getClass().getName() ) );
+
+		final String hql = "select e from Employee e where e.name = :name";
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( hql ).setParameter( "name", "John" ).list();
+		} );
+
+		slowStatements = statistics.getSlowStatements();
+		assertEquals( 2, slowStatements.length );
+		assertEquals( "[1:John]", slowStatements[1].getParameters() );
+		assertEquals( hql, slowStatements[1].getSource() );
+		assertNull( slowStatements[1].getStackTrace() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Employee.class, 1L );
+		} );
+
+		// only the most recent ones are kept
+		slowStatements = statistics.getSlowStatements();
+		assertEquals( 2, slowStatements.length );
+		assertEquals( hql, slowStatements[0].getSource() );
+		assertEquals( Employee.class.getName(), slowStatements[1].getSource() );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getSlowStatements().length );
+	}
+
+	public static int pause(int milliseconds) throws InterruptedException {
+		Thread.sleep( milliseconds );
+		return 0;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Formula("pause(20)")
+		private int pause;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
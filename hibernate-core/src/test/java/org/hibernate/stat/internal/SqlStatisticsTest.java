@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.SqlStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Statistics#getSqlStatistics(String)}.
+ */
+public class SqlStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Test
+	public void testStatementsAreTimed() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 10; id++ ) {
+				session.persist( new Employee( id, "employee " + id ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 10; id++ ) {
+				session.get( Employee.class, id );
+			}
+			assertEquals( 10, session.createQuery( "from Employee" ).list().size() );
+		} );
+
+		// two JDBC batches
+		assertExecutions( statistics, sql -> sql.startsWith( "insert" ), 2 );
+		assertExecutions( statistics, sql -> sql.startsWith( "select" ) && sql.contains( " where " ), 10 );
+		assertExecutions( statistics, sql -> sql.startsWith( "select" ) && !sql.contains( " where " ), 1 );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getSqlStatements().length );
+	}
+
+	private static void assertExecutions(Statistics statistics, Predicate<String> sqlFilter, long executionCount) {
+		final List<String> statements = Arrays.stream( statistics.getSqlStatements() )
+				.filter( sqlFilter )
+				.collect( Collectors.toList() );
+		assertEquals( statements.toString(), 1, statements.size() );
+
+		final SqlStatistics sqlStatistics = statistics.getSqlStatistics( statements.get( 0 ) );
+		assertEquals( executionCount, sqlStatistics.getExecutionCount() );
+		assertTrue( sqlStatistics.getExecutionMedianMicroseconds() <= sqlStatistics.getExecution95thPercentileMicroseconds() );
+		assertTrue( sqlStatistics.getExecution95thPercentileMicroseconds() <= sqlStatistics.getExecution99thPercentileMicroseconds() );
+		assertTrue( sqlStatistics.getExecution99thPercentileMicroseconds() <= sqlStatistics.getExecutionMaxMicroseconds() );
+		assertTrue( sqlStatistics.getExecutionMaxMicroseconds() <= sqlStatistics.getExecutionTotalMicroseconds() );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_MULTI_ROW_INSERTS}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int PARAMETER_LIMIT = 12;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( false, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DIALECT, BindParameterLimitedH2Dialect.class.getName() );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.STATEMENT_MULTI_ROW_INSERTS, "true" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Measurement measurement : session.createQuery( "from Measurement", Measurement.class ).list() ) {
+				session.delete( measurement );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertsAreExecutedAsMultiRowStatements() {
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 7; id++ ) {
+				final Measurement measurement = new Measurement( id, id % 2 == 0 ? "sensor " + id : null, id * 1.5 );
+				measurement.samples.add( (byte) id );
+				measurement.samples.add( (byte) ( id + 1 ) );
+				session.persist( measurement );
+			}
+		} );
+
+		// the 3 parameters of each row limit the statements to 4 rows
+		final List<String> inserts = connectionProvider.getPreparedSQLStatements();
+		assertTrue( inserts.contains( "insert into Measurement (sensor, value, id) values " + rows( 4 ) ) );
+		assertTrue( inserts.contains( "insert into Measurement (sensor, value, id) values " + rows( 3 ) ) );
+		assertTrue( inserts.contains( "insert into Measurement_samples (Measurement_id, samples_ORDER, samples) values " + rows( 4 ) ) );
+		assertTrue( inserts.contains( "insert into Measurement_samples (Measurement_id, samples_ORDER, samples) values " + rows( 2 ) ) );
+		assertEquals( 1, inserts.stream().filter( sql -> sql.endsWith( rows( 4 ) ) && sql.contains( "samples" ) ).count() );
+		// the single-row statements are never prepared
+		assertFalse( inserts.contains( "insert into Measurement (sensor, value, id) values " + rows( 1 ) ) );
+		assertFalse( inserts.contains( "insert into Measurement_samples (Measurement_id, samples_ORDER, samples) values " + rows( 1 ) ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 7; id++ ) {
+				final Measurement measurement = session.get( Measurement.class, id );
+				if ( id % 2 == 0 ) {
+					assertEquals( "sensor " + id, measurement.sensor );
+				}
+				else {
+					assertNull( measurement.sensor );
+				}
+				assertEquals( id * 1.5, measurement.value, 0 );
+				assertArrayEquals(
+						new Object[] { (byte) id, (byte) ( id + 1 ) },
+						measurement.samples.toArray()
+				);
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdatesAreNotAffected() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 5; id++ ) {
+				session.persist( new Measurement( id, "sensor " + id, id ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Measurement measurement : session.createQuery( "from Measurement", Measurement.class ).list() ) {
+				measurement.value = -1;
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					5L,
+					session.createQuery( "select count(m) from Measurement m where m.value = -1" ).uniqueResult()
+			);
+		} );
+	}
+
+	private static String rows(int count) {
+		return String.join( ", ", Collections.nCopies( count, "(?, ?, ?)" ) );
+	}
+
+	public static class BindParameterLimitedH2Dialect extends H2Dialect {
+		@Override
+		public int getBindParameterCountLimit() {
+			return PARAMETER_LIMIT;
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		private String sensor;
+
+		private double value;
+
+		@ElementCollection
+		@OrderColumn
+		private List<Byte> samples = new ArrayList<>();
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, String sensor, double value) {
+			this.id = id;
+			this.sensor = sensor;
+			this.value = value;
+		}
+	}
+}
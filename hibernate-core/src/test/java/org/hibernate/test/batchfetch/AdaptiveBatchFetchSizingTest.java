@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.AdaptiveBatchLoadSizingStrategy;
+import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AdaptiveBatchLoadSizingStrategy}.
+ */
+public class AdaptiveBatchFetchSizingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String PUBLISHER = Publisher.class.getName();
+	private static final String BOOKS = Publisher.class.getName() + ".books";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Publisher.class, Book.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.DYNAMIC );
+		settings.put( AvailableSettings.BATCH_LOAD_SIZING_STRATEGY, AdaptiveBatchLoadSizingStrategy.SHORT_NAME );
+		settings.put( AvailableSettings.MAX_BATCH_FETCH_SIZE, "100" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void deleteData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Publisher publisher : session.createQuery( "from Publisher", Publisher.class ).getResultList() ) {
+				session.delete( publisher );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityBatchSizeAdaptsToPendingKeys() {
+		createPublishers( 50, 1 );
+		final Statistics statistics = sessionFactory().getStatistics();
+		final AdaptiveBatchLoadSizingStrategy strategy = (AdaptiveBatchLoadSizingStrategy) sessionFactory()
+				.getSessionFactoryOptions()
+				.getBatchLoadSizingStrategy();
+
+		// a page of 50 books has 50 publishers pending, fetched at once rather than in 5 batches of 10
+		assertEquals( 1, initializePublishersOfBooks( 50 ) );
+		assertEquals( 50, strategy.getLearnedBatchFetchSize( PUBLISHER ) );
+		assertEquals( 50, statistics.getEntityStatistics( PUBLISHER ).getBatchFetchSize() );
+
+		// smaller pages lower the learned size slowly, the batches never getting smaller than the batch size
+		for ( int i = 0; i < 30; i++ ) {
+			assertEquals( 1, initializePublishersOfBooks( 2 ) );
+		}
+		assertEquals( 3, strategy.getLearnedBatchFetchSize( PUBLISHER ) );
+		assertEquals( 10, statistics.getEntityStatistics( PUBLISHER ).getBatchFetchSize() );
+
+		// a larger page raises the learned size halfway to 50 at once, then sizes the second batch of the same page
+		assertEquals( 2, initializePublishersOfBooks( 50 ) );
+		assertEquals( 26, strategy.getLearnedBatchFetchSize( PUBLISHER ) );
+	}
+
+	private long initializePublishersOfBooks(int numberOfBooks) {
+		final Statistics statistics = sessionFactory().getStatistics();
+		return doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createQuery( "from Book b order by b.id", Book.class )
+					.setMaxResults( numberOfBooks )
+					.getResultList();
+			statistics.clear();
+			for ( Book book : books ) {
+				Hibernate.initialize( book.publisher );
+			}
+			return statistics.getPrepareStatementCount();
+		} );
+	}
+
+	private void createPublishers(int numberOfPublishers, int booksPerPublisher) {
+		doInHibernate( this::sessionFactory, session -> {
+			long bookId = 1;
+			for ( long id = 1; id <= numberOfPublishers; id++ ) {
+				final Publisher publisher = new Publisher( id );
+				for ( int i = 0; i < booksPerPublisher; i++ ) {
+					publisher.addBook( new Book( bookId++ ) );
+				}
+				session.persist( publisher );
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeAdaptsToPendingKeys() {
+		createPublishers( 6, 3 );
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Publisher> publishers = session.createQuery( "from Publisher p order by p.id", Publisher.class )
+					.getResultList();
+			statistics.clear();
+			for ( Publisher publisher : publishers ) {
+				assertEquals( 3, publisher.books.size() );
+			}
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+		} );
+		assertEquals( 10, statistics.getCollectionStatistics( BOOKS ).getBatchFetchSize() );
+	}
+
+	@Entity(name = "Publisher")
+	@BatchSize(size = 10)
+	public static class Publisher {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "publisher", cascade = { CascadeType.PERSIST, CascadeType.REMOVE })
+		@BatchSize(size = 10)
+		private List<Book> books = new ArrayList<>();
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id) {
+			this.id = id;
+		}
+
+		public void addBook(Book book) {
+			book.publisher = this;
+			books.add( book );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id) {
+			this.id = id;
+		}
+	}
+}
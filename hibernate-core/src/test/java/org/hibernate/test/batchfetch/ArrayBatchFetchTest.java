@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link BatchFetchStyle#ARRAY} batch-fetch style.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsArrayParameters.class)
+public class ArrayBatchFetchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Team.class, Player.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.ARRAY );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void deleteData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Player" ).executeUpdate();
+			session.createQuery( "delete from Team" ).executeUpdate();
+		} );
+	}
+
+	/**
+	 * Creates teams with the given number of players each, every other player being active.
+	 */
+	private void createTeams(int numberOfTeams, int playersPerTeam) {
+		doInHibernate( this::sessionFactory, session -> {
+			long playerId = 1;
+			for ( long id = 1; id <= numberOfTeams; id++ ) {
+				final Team team = new Team( id );
+				session.persist( team );
+				for ( int i = 0; i < playersPerTeam; i++ ) {
+					session.persist( new Player( playerId++, team, i % 2 == 0 ) );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchFetchEntitiesAndCollections() {
+		createTeams( 30, 2 );
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Player> players = session.createQuery( "from Player p order by p.id", Player.class )
+					.getResultList();
+			assertEquals( 60, players.size() );
+
+			statistics.clear();
+			for ( Player player : players ) {
+				Hibernate.initialize( player.team );
+			}
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+
+			statistics.clear();
+			assertEquals( 2, players.get( 0 ).team.getPlayers().size() );
+			for ( Player player : players ) {
+				assertTrue( Hibernate.isInitialized( player.team.getPlayers() ) );
+				assertEquals( 2, player.team.getPlayers().size() );
+			}
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	@Test
+	public void testBatchFetchCollectionsWithFilter() {
+		createTeams( 10, 3 );
+		doInHibernate( this::sessionFactory, session -> {
+			session.enableFilter( "active" ).setParameter( "active", true );
+			final List<Team> teams = session.createQuery( "from Team t order by t.id", Team.class ).getResultList();
+			assertEquals( 10, teams.size() );
+
+			for ( Team team : teams ) {
+				assertEquals( 2, team.players.size() );
+				for ( Player player : team.players ) {
+					assertTrue( player.active );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoadInOneStatement() {
+		// more players than some databases accept in an IN list
+		createTeams( 20, 200 );
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			final Long[] ids = new Long[4000];
+			for ( int i = 0; i < ids.length; i++ ) {
+				ids[i] = (long) i + 1;
+			}
+
+			statistics.clear();
+			final List<Player> players = session.byMultipleIds( Player.class ).multiLoad( ids );
+			assertEquals( ids.length, players.size() );
+			for ( int i = 0; i < ids.length; i++ ) {
+				assertNotNull( players.get( i ) );
+				assertEquals( ids[i], players.get( i ).id );
+			}
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			assertFalse( Hibernate.isInitialized( players.get( 0 ).team ) );
+		} );
+	}
+
+	@Entity(name = "Team")
+	@BatchSize(size = 1000)
+	@FilterDef(name = "active", parameters = @ParamDef(name = "active", type = "boolean"))
+	public static class Team {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "team")
+		@BatchSize(size = 1000)
+		@Filter(name = "active", condition = "active = :active")
+		private List<Player> players = new ArrayList<>();
+
+		public Team() {
+		}
+
+		public Team(Long id) {
+			this.id = id;
+		}
+
+		public List<Player> getPlayers() {
+			return players;
+		}
+	}
+
+	@Entity(name = "Player")
+	public static class Player {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Team team;
+
+		private boolean active;
+
+		public Player() {
+		}
+
+		public Player(Long id, Team team, boolean active) {
+			this.id = id;
+			this.team = team;
+			this.active = active;
+		}
+	}
+}
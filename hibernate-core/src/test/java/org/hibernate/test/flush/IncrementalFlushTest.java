@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SessionStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#INCREMENTAL_FLUSH}.
+ */
+public class IncrementalFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.INCREMENTAL_FLUSH, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class, Publisher.class };
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Author author = new Author( "author " + i );
+				author.getBooks().add( new Book( "first book of " + i, author ) );
+				author.getBooks().add( new Book( "second book of " + i, author ) );
+				session.save( author );
+			}
+		} );
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+			session.createQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUntouchedEntitiesAreSkipped() {
+		doInHibernate( this::sessionFactory, session -> {
+			final SessionStatistics statistics = session.getStatistics();
+			final List<Author> authors = session.createQuery( "from Author order by id", Author.class ).list();
+			assertEquals( 3, authors.size() );
+
+			autoFlush( session );
+			assertEquals( 3, statistics.getFlushExaminedEntityCount() );
+			assertEquals( 0, statistics.getFlushSkippedEntityCount() );
+
+			autoFlush( session );
+			assertEquals( 3, statistics.getFlushExaminedEntityCount() );
+			assertEquals( 3, statistics.getFlushSkippedEntityCount() );
+
+			final Author author = session.get( Author.class, authors.get( 0 ).getId() );
+			author.setName( "renamed" );
+			autoFlush( session );
+			assertEquals( 4, statistics.getFlushExaminedEntityCount() );
+			assertEquals( 5, statistics.getFlushSkippedEntityCount() );
+
+			// an explicit flush checks every entity
+			session.flush();
+			assertEquals( 7, statistics.getFlushExaminedEntityCount() );
+			assertEquals( 5, statistics.getFlushSkippedEntityCount() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					1L,
+					session.createQuery( "select count(a) from Author a where a.name = 'renamed'" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testCommitWritesHeldEntityModifiedAfterAutoFlush() {
+		final Long id = doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Author order by id", Author.class )
+					.setMaxResults( 1 )
+					.uniqueResult()
+					.getId();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = session.find( Author.class, id );
+			autoFlush( session );
+			autoFlush( session );
+			assertEquals( 1, session.getStatistics().getFlushSkippedEntityCount() );
+			// the instance is held by the application, not obtained from the Session again
+			author.setName( "renamed" );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "renamed", session.find( Author.class, id ).getName() );
+		} );
+	}
+
+	@Test
+	public void testExplicitFlushCascadesFromEntityUntouchedSincePreviousFlush() {
+		final Long id = doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Author order by id", Author.class )
+					.setMaxResults( 1 )
+					.uniqueResult()
+					.getId();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = session.find( Author.class, id );
+			session.flush();
+			// the instance is held by the application, and the publisher only reachable through the cascade
+			author.setPublisher( new Publisher( "publisher" ) );
+			session.flush();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "publisher", session.find( Author.class, id ).getPublisher().getName() );
+		} );
+	}
+
+	@Test
+	public void testCollectionAccessTouchesElements() {
+		doInHibernate( this::sessionFactory, session -> {
+			final SessionStatistics statistics = session.getStatistics();
+			final Author author = session.createQuery( "from Author order by id", Author.class )
+					.setMaxResults( 1 )
+					.uniqueResult();
+			// initializes the collection, managing the books
+			assertEquals( 2, author.getBooks().size() );
+
+			autoFlush( session );
+			final long examined = statistics.getFlushExaminedEntityCount();
+			autoFlush( session );
+			assertEquals( examined, statistics.getFlushExaminedEntityCount() );
+
+			for ( Book book : author.getBooks() ) {
+				book.setTitle( "retitled" );
+			}
+			autoFlush( session );
+			// the owner and both of its books
+			assertEquals( examined + 3, statistics.getFlushExaminedEntityCount() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					2L,
+					session.createQuery( "select count(b) from Book b where b.title = 'retitled'" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testQueryAutoFlushSeesModificationsOfReloadedEntities() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Author", Author.class ).list();
+			session.flush();
+
+			for ( Author author : session.createQuery( "from Author", Author.class ).list() ) {
+				author.setName( "renamed" );
+			}
+			assertEquals(
+					3L,
+					session.createQuery( "select count(a) from Author a where a.name = 'renamed'" ).uniqueResult()
+			);
+		} );
+	}
+
+	/**
+	 * Execute a query returning no entity, which flushes the session automatically.
+	 */
+	private static void autoFlush(Session session) {
+		session.createQuery( "select count(b) from Book b" ).uniqueResult();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.List;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD}.
+ */
+public class ParallelDirtyCheckingTest extends BaseCoreFunctionalTestCase {
+	private static final int ACCOUNTS = 1_000;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, "10" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class };
+	}
+
+	@Test
+	public void testDirtyPropertiesOfAllKindsAreFound() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < ACCOUNTS; id++ ) {
+				session.persist( new Account( id, "owner " + id, 1_000 + id, new Address( "street " + id, "city" ) ) );
+			}
+		} );
+
+		sessionFactory().getStatistics().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.createQuery( "from Account order by id", Account.class ).list();
+			final Account parent = accounts.get( 0 );
+			for ( Account account : accounts ) {
+				switch ( (int) ( account.id % 5 ) ) {
+					case 1:
+						account.owner = "renamed";
+						break;
+					case 2:
+						account.balance = -1;
+						break;
+					case 3:
+						account.address.city = "moved";
+						break;
+					case 4:
+						account.parent = parent;
+						break;
+					default:
+						// re-assigning equal values does not make the entity dirty
+						account.owner = new String( account.owner );
+						account.address = new Address( account.address.street, account.address.city );
+				}
+			}
+		} );
+		assertEquals( ACCOUNTS / 5 * 4, sessionFactory().getStatistics().getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( ACCOUNTS / 5, count( session, "a.owner = 'renamed'" ) );
+			assertEquals( ACCOUNTS / 5, count( session, "a.balance = -1" ) );
+			assertEquals( ACCOUNTS / 5, count( session, "a.address.city = 'moved'" ) );
+			assertEquals( ACCOUNTS / 5, count( session, "a.parent.id = 0" ) );
+			session.createQuery( "update Account set parent = null" ).executeUpdate();
+			session.createQuery( "delete from Account" ).executeUpdate();
+		} );
+	}
+
+	private static long count(org.hibernate.Session session, String restriction) {
+		return session.createQuery( "select count(a) from Account a where " + restriction, Long.class )
+				.uniqueResult();
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String owner;
+
+		private long balance;
+
+		@Embedded
+		private Address address;
+
+		@ManyToOne
+		private Account parent;
+
+		public Account() {
+		}
+
+		public Account(Long id, String owner, long balance, Address address) {
+			this.id = id;
+			this.owner = owner;
+			this.balance = balance;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hqlfetchscroll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.QueryHints;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link QueryHints#DETACH_SCROLLED_ENTITIES} hint.
+ */
+public class DetachScrolledEntitiesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int NUMBER_OF_OWNERS = 20;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void prepareTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			long itemId = 0;
+			for ( long id = 0; id < NUMBER_OF_OWNERS; id++ ) {
+				final Owner owner = new Owner( id );
+				owner.addItem( new Item( itemId++ ) );
+				owner.addItem( new Item( itemId++ ) );
+				owner.addItem( new Item( itemId++ ) );
+				session.persist( owner );
+			}
+		} );
+	}
+
+	@Override
+	protected void cleanupTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Owner owner : session.createQuery( "from Owner", Owner.class ).list() ) {
+				session.delete( owner );
+			}
+		} );
+	}
+
+	@Test
+	public void testStreamDetachesPreviousRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> previousItems = new ArrayList<>();
+			try ( Stream<Item> items = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.DETACH_SCROLLED_ENTITIES, true )
+					.stream() ) {
+				items.forEach( item -> {
+					assertTrue( session.contains( item ) );
+					for ( Item previousItem : previousItems ) {
+						assertFalse( session.contains( previousItem ) );
+					}
+					// the owners batch-fetched for the previous row are detached as well
+					assertEquals( 1, session.getStatistics().getEntityCount() );
+
+					assertEquals( item.id / 3, (long) item.owner.getId() );
+					Hibernate.initialize( item.owner );
+					assertTrue( session.contains( item.owner ) );
+					previousItems.add( item );
+				} );
+			}
+			assertEquals( NUMBER_OF_OWNERS * 3, previousItems.size() );
+		} );
+	}
+
+	@Test
+	public void testDetachingDoesNotCascade() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 0L );
+			try ( Stream<Item> items = session.createQuery( "from Item i where i.owner.id = 0 order by i.id", Item.class )
+					.setHint( QueryHints.DETACH_SCROLLED_ENTITIES, true )
+					.stream() ) {
+				assertEquals( 3, items.peek( item -> assertTrue( item.owner == owner ) ).count() );
+			}
+			assertTrue( session.contains( owner ) );
+		} );
+	}
+
+	@Test
+	public void testProxiesOfTheSessionAreKept() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.load( Owner.class, 0L );
+			try ( Stream<Item> items = session.createQuery( "from Item i where i.owner.id = 0 order by i.id", Item.class )
+					.setHint( QueryHints.DETACH_SCROLLED_ENTITIES, true )
+					.stream() ) {
+				assertEquals( 3, items.peek( item -> assertTrue( item.owner == owner ) ).count() );
+			}
+			assertTrue( session.load( Owner.class, 0L ) == owner );
+			assertFalse( Hibernate.isInitialized( owner ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.load( Owner.class, 0L );
+			try ( Stream<Item> items = session.createQuery( "from Item i where i.owner.id = 0 order by i.id", Item.class )
+					.setHint( QueryHints.DETACH_SCROLLED_ENTITIES, true )
+					.stream() ) {
+				// initializing the proxy while reading a row does not detach the entity behind it
+				assertEquals( 3, items.peek( item -> {
+					assertTrue( item.owner == owner );
+					assertEquals( 3, owner.getItems().size() );
+				} ).count() );
+			}
+			assertTrue( session.contains( owner ) );
+			assertTrue( session.load( Owner.class, 0L ) == owner );
+		} );
+	}
+
+	@Test
+	public void testScrollWithoutHintKeepsRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			final ScrollableResults results = session.createQuery( "from Item i order by i.id" )
+					.scroll( ScrollMode.FORWARD_ONLY );
+			int count = 0;
+			while ( results.next() ) {
+				count++;
+				assertEquals( count, session.getStatistics().getEntityCount() );
+			}
+			results.close();
+		} );
+	}
+
+	@Test
+	public void testCollectionFetchScrollDetachesPreviousRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			final ScrollableResults results = session.createQuery(
+					"select o from Owner o join fetch o.items order by o.id" )
+					.setHint( QueryHints.DETACH_SCROLLED_ENTITIES, true )
+					.scroll( ScrollMode.SCROLL_INSENSITIVE );
+			Owner previousOwner = null;
+			long id = 0;
+			while ( results.next() ) {
+				final Owner owner = (Owner) results.get( 0 );
+				assertEquals( id++, (long) owner.id );
+				assertTrue( Hibernate.isInitialized( owner.items ) );
+				assertEquals( 3, owner.items.size() );
+				for ( Item item : owner.items ) {
+					assertTrue( session.contains( item ) );
+				}
+				if ( previousOwner != null ) {
+					assertFalse( session.contains( previousOwner ) );
+					assertFalse( session.contains( previousOwner.items.get( 0 ) ) );
+				}
+				assertEquals( 4, session.getStatistics().getEntityCount() );
+				assertEquals( 1, session.getStatistics().getCollectionCount() );
+				previousOwner = owner;
+			}
+			assertEquals( NUMBER_OF_OWNERS, id );
+
+			// scrolling back from after the last row reads the last owner again
+			assertTrue( results.previous() );
+			final Owner owner = (Owner) results.get( 0 );
+			assertEquals( NUMBER_OF_OWNERS - 1, (long) owner.id );
+			assertFalse( owner == previousOwner );
+			assertEquals( 3, owner.items.size() );
+			assertEquals( 4, session.getStatistics().getEntityCount() );
+			results.close();
+		} );
+	}
+
+	@Entity(name = "Owner")
+	@BatchSize(size = 10)
+	public static class Owner {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "owner", cascade = { CascadeType.PERSIST, CascadeType.REMOVE })
+		private List<Item> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+
+		public void addItem(Item item) {
+			item.owner = this;
+			items.add( item );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.DETACH)
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hqlfetchscroll;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the buffers which {@link org.hibernate.loader.Loader} reuses from one row to the next do not leak the
+ * keys and entities of a row into the next, or into another result set.
+ */
+public class RowBufferReuseTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void prepareTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1L );
+			session.persist( owner );
+			for ( long i = 0; i < 6; i++ ) {
+				final Item item = new Item( i, i % 2 == 0 ? owner : null );
+				session.persist( item );
+				owner.items.add( item );
+			}
+		} );
+	}
+
+	@Override
+	protected void cleanupTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Item" ).executeUpdate();
+			session.createQuery( "delete from Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testScrollWithAlternatingNullAssociations() {
+		doInHibernate( this::sessionFactory, session -> {
+			final ScrollableResults results = session.createQuery(
+					"select i, o from Item i left join i.owner o order by i.id"
+			).scroll( ScrollMode.FORWARD_ONLY );
+			long id = 0;
+			while ( results.next() ) {
+				final Item item = (Item) results.get( 0 );
+				assertEquals( id, (long) item.id );
+				if ( id % 2 == 0 ) {
+					assertSame( item.owner, results.get( 1 ) );
+					assertEquals( 1L, (long) ( (Owner) results.get( 1 ) ).id );
+				}
+				else {
+					assertNull( item.owner );
+					assertNull( results.get( 1 ) );
+				}
+				id++;
+			}
+			assertEquals( 6, id );
+			results.close();
+		} );
+	}
+
+	@Test
+	public void testInterleavedScrollsOfTheSameQuery() {
+		doInHibernate( this::sessionFactory, session -> {
+			final String query = "select i, o from Item i left join i.owner o where i.id >= :id order by i.id";
+			final ScrollableResults fromFirst = session.createQuery( query )
+					.setParameter( "id", 0L )
+					.scroll( ScrollMode.FORWARD_ONLY );
+			final ScrollableResults fromSecond = session.createQuery( query )
+					.setParameter( "id", 1L )
+					.scroll( ScrollMode.FORWARD_ONLY );
+			for ( long id = 0; id < 5; id++ ) {
+				assertTrue( fromFirst.next() );
+				assertTrue( fromSecond.next() );
+				assertEquals( id, (long) ( (Item) fromFirst.get( 0 ) ).id );
+				assertEquals( id + 1, (long) ( (Item) fromSecond.get( 0 ) ).id );
+				assertEquals( id % 2 == 0, fromFirst.get( 1 ) != null );
+				assertEquals( id % 2 != 0, fromSecond.get( 1 ) != null );
+			}
+			fromFirst.close();
+			fromSecond.close();
+		} );
+	}
+
+	@Test
+	public void testListWithAlternatingNullAssociations() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Object[]> rows = session.createQuery(
+					"select i, o from Item i left join i.owner o order by i.id",
+					Object[].class
+			).list();
+			assertEquals( 6, rows.size() );
+			for ( int id = 0; id < rows.size(); id++ ) {
+				final Item item = (Item) rows.get( id )[0];
+				assertEquals( id, (long) item.id );
+				if ( id % 2 == 0 ) {
+					assertSame( item.owner, rows.get( id )[1] );
+				}
+				else {
+					assertNull( item.owner );
+					assertNull( rows.get( id )[1] );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testLoadReadingSeveralRows() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1L );
+			assertEquals( 3, owner.items.size() );
+			for ( Item item : owner.items ) {
+				assertSame( owner, item.owner );
+				assertEquals( 0, item.id % 2 );
+			}
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "owner", fetch = FetchType.EAGER)
+		private List<Item> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+}
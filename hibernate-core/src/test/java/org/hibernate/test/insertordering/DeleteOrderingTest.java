@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#ORDER_DELETES}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class DeleteOrderingTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int AUTHORS = 10;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( false, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Review.class, Ping.class, Pong.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.ORDER_DELETES, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testDeletesAreGroupedByEntityType() {
+		doInHibernate( this::sessionFactory, session -> {
+			long id = 0;
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				final Author author = new Author( id++ );
+				for ( int j = 0; j < 2; j++ ) {
+					final Book book = new Book( id++, author );
+					author.books.add( book );
+					for ( int k = 0; k < 2; k++ ) {
+						book.reviews.add( new Review( id++, book ) );
+					}
+				}
+				session.persist( author );
+			}
+		} );
+
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Author author : session.createQuery( "from Author", Author.class ).list() ) {
+				session.remove( author );
+			}
+		} );
+
+		// a single batch per entity type, children first, rather than one per cascaded delete
+		final List<String> deletes = connectionProvider.getPreparedSQLStatements().stream()
+				.filter( sql -> sql.startsWith( "delete" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 3, deletes.size() );
+		assertTrue( deletes.get( 0 ).startsWith( "delete from Review " ) );
+		assertTrue( deletes.get( 1 ).startsWith( "delete from Book " ) );
+		assertTrue( deletes.get( 2 ).startsWith( "delete from Author " ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0L, session.createQuery( "select count(a) from Author a" ).uniqueResult() );
+			assertEquals( 0L, session.createQuery( "select count(b) from Book b" ).uniqueResult() );
+			assertEquals( 0L, session.createQuery( "select count(r) from Review r" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testCircularDependencyKeepsCascadeOrder() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Ping ping = new Ping( i );
+				ping.pong = new Pong( i );
+				session.persist( ping );
+				final Pong pong = new Pong( 100 + i );
+				pong.ping = new Ping( 100 + i );
+				session.persist( pong );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.remove( session.get( Ping.class, i ) );
+				session.remove( session.get( Pong.class, 100 + i ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0L, session.createQuery( "select count(p) from Ping p" ).uniqueResult() );
+			assertEquals( 0L, session.createQuery( "select count(p) from Pong p" ).uniqueResult() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Author author;
+
+		@OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
+		private List<Review> reviews = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Long id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Book book;
+
+		public Review() {
+		}
+
+		public Review(Long id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+
+	@Entity(name = "Ping")
+	public static class Ping {
+		@Id
+		private Integer id;
+
+		@ManyToOne(cascade = { CascadeType.PERSIST, CascadeType.REMOVE })
+		private Pong pong;
+
+		public Ping() {
+		}
+
+		public Ping(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Pong")
+	public static class Pong {
+		@Id
+		private Integer id;
+
+		@ManyToOne(cascade = { CascadeType.PERSIST, CascadeType.REMOVE })
+		private Ping ping;
+
+		public Pong() {
+		}
+
+		public Pong(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.MappedSuperclass;
+
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Inserts of entities forming chains of increasing depth, persisted from their deepest end so that the
+ * cascade order interleaves all the entity types, and of entities depending on each other.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class InsertOrderingWithDeepDependencyGraph
+		extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int CHAINS = 50;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( false, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {
+				Level1.class,
+				Level2.class,
+				Level3.class,
+				Level4.class,
+				Level5.class,
+				Ping.class,
+				Pong.class
+		};
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( Environment.ORDER_INSERTS, "true" );
+		settings.put( Environment.STATEMENT_BATCH_SIZE, "1000" );
+		settings.put(
+				org.hibernate.cfg.AvailableSettings.CONNECTION_PROVIDER,
+				connectionProvider
+		);
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testBatchingOfIncreasinglyDeepChains() {
+		final List<Class<? extends Level>> levels = Arrays.asList(
+				Level1.class,
+				Level2.class,
+				Level3.class,
+				Level4.class,
+				Level5.class
+		);
+		for ( int depth = 1; depth <= levels.size(); depth++ ) {
+			final List<Class<? extends Level>> chain = levels.subList( 0, depth );
+			connectionProvider.clear();
+			doInHibernate( this::sessionFactory, session -> {
+				for ( int i = 0; i < CHAINS; i++ ) {
+					Level parent = null;
+					for ( Class<? extends Level> level : chain ) {
+						parent = newLevel( level, parent );
+					}
+					session.persist( parent );
+				}
+			} );
+
+			// a single batch per entity type, parents first
+			final List<String> inserts = connectionProvider.getPreparedSQLStatements().stream()
+					.filter( sql -> sql.startsWith( "insert" ) )
+					.collect( Collectors.toList() );
+			assertEquals( depth, inserts.size() );
+			for ( int i = 0; i < depth; i++ ) {
+				assertTrue( inserts.get( i ).startsWith( "insert into " + chain.get( i ).getSimpleName() + " " ) );
+			}
+
+			doInHibernate( this::sessionFactory, session -> {
+				for ( int i = levels.size(); i > 0; i-- ) {
+					session.createQuery( "delete Level" + i ).executeUpdate();
+				}
+			} );
+		}
+	}
+
+	@Test
+	public void testCircularDependencyKeepsCascadeOrder() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Ping ping = new Ping( i );
+				ping.pong = new Pong( i );
+				session.persist( ping );
+				final Pong pong = new Pong( 100 + i );
+				pong.ping = new Ping( 100 + i );
+				session.persist( pong );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 20L, session.createQuery( "select count(p) from Ping p" ).uniqueResult() );
+			assertEquals( 20L, session.createQuery( "select count(p) from Pong p" ).uniqueResult() );
+			session.createQuery( "update Ping set pong = null" ).executeUpdate();
+			session.createQuery( "delete Pong" ).executeUpdate();
+			session.createQuery( "delete Ping" ).executeUpdate();
+		} );
+	}
+
+	private static int nextId;
+
+	private static Level newLevel(Class<? extends Level> level, Level parent) {
+		try {
+			final Level instance = level.newInstance();
+			instance.id = ++nextId;
+			instance.setParent( parent );
+			return instance;
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	@MappedSuperclass
+	public abstract static class Level {
+		@Id
+		private Integer id;
+
+		abstract void setParent(Level parent);
+	}
+
+	@Entity(name = "Level1")
+	public static class Level1 extends Level {
+		@Override
+		void setParent(Level parent) {
+		}
+	}
+
+	@Entity(name = "Level2")
+	public static class Level2 extends Level {
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Level1 parent;
+
+		@Override
+		void setParent(Level parent) {
+			this.parent = (Level1) parent;
+		}
+	}
+
+	@Entity(name = "Level3")
+	public static class Level3 extends Level {
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Level2 parent;
+
+		@Override
+		void setParent(Level parent) {
+			this.parent = (Level2) parent;
+		}
+	}
+
+	@Entity(name = "Level4")
+	public static class Level4 extends Level {
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Level3 parent;
+
+		@Override
+		void setParent(Level parent) {
+			this.parent = (Level3) parent;
+		}
+	}
+
+	@Entity(name = "Level5")
+	public static class Level5 extends Level {
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Level4 parent;
+
+		@Override
+		void setParent(Level parent) {
+			this.parent = (Level4) parent;
+		}
+	}
+
+	@Entity(name = "Ping")
+	public static class Ping {
+		@Id
+		private Integer id;
+
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Pong pong;
+
+		public Ping() {
+		}
+
+		public Ping(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Pong")
+	public static class Pong {
+		@Id
+		private Integer id;
+
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		private Ping ping;
+
+		public Pong() {
+		}
+
+		public Pong(Integer id) {
+			this.id = id;
+		}
+	}
+}
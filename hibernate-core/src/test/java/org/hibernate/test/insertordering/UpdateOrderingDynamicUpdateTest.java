@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#ORDER_DYNAMIC_UPDATES}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class UpdateOrderingDynamicUpdateTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int PRODUCTS = 20;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( false, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Category.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.ORDER_DYNAMIC_UPDATES, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < PRODUCTS; id++ ) {
+				session.persist( new Product( id, "product " + id, 10 ) );
+				session.persist( new Category( id, "category " + id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdatesAreGroupedByUpdatedProperties() {
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < PRODUCTS; id++ ) {
+				final Product product = session.get( Product.class, id );
+				if ( id % 2 == 0 ) {
+					product.name = "renamed " + id;
+				}
+				else {
+					product.price = 20;
+				}
+				session.get( Category.class, id ).name = "renamed " + id;
+			}
+		} );
+
+		// one batch per distinct update statement, rather than one per update
+		final List<String> updates = connectionProvider.getPreparedSQLStatements().stream()
+				.filter( sql -> sql.startsWith( "update" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 3, updates.size() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < PRODUCTS; id++ ) {
+				final Product product = session.get( Product.class, id );
+				assertEquals( id % 2 == 0 ? "renamed " + id : "product " + id, product.name );
+				assertEquals( id % 2 == 0 ? 10 : 20, product.price );
+				assertEquals( "renamed " + id, session.get( Category.class, id ).name );
+			}
+		} );
+	}
+
+	@Entity(name = "Product")
+	@DynamicUpdate
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int price;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_CACHE_SIZE}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class PreparedStatementCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int CACHE_SIZE = 2;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Sensor.class, Gauge.class, Valve.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_CACHE_SIZE, String.valueOf( CACHE_SIZE ) );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Sensor" ).executeUpdate();
+			session.createQuery( "delete from Gauge" ).executeUpdate();
+			session.createQuery( "delete from Valve" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRepeatedStatementIsPreparedOnce() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 10; id++ ) {
+				session.persist( new Sensor( id, "sensor " + id ) );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 10; id++ ) {
+				assertEquals( "sensor " + id, session.get( Sensor.class, id ).name );
+				// the next load must not find the entity in the persistence context
+				session.clear();
+			}
+		} );
+
+		final List<String> selects = selectStatements();
+		assertEquals( 1, selects.size() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 9, statistics.getPreparedStatementCacheHitCount() );
+
+		// the cached statement is reset between the executions, and closed with the transaction
+		final PreparedStatement statement = connectionProvider.getPreparedStatement( selects.get( 0 ) );
+		verify( statement, times( 10 ) ).clearParameters();
+		verify( statement ).close();
+	}
+
+	@Test
+	public void testStatementsInUseAreNotShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < 3; id++ ) {
+				session.persist( new Sensor( id, "sensor " + id ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				try (ScrollableResults outer = session.createQuery( "from Sensor order by id" ).scroll( ScrollMode.FORWARD_ONLY );
+						ScrollableResults inner = session.createQuery( "from Sensor order by id" ).scroll( ScrollMode.FORWARD_ONLY )) {
+					int count = 0;
+					while ( outer.next() ) {
+						assertTrue( inner.next() );
+						assertEquals( ( (Sensor) outer.get( 0 ) ).id, ( (Sensor) inner.get( 0 ) ).id );
+						count++;
+					}
+					assertEquals( 3, count );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Sensor( 1L, "sensor" ) );
+			session.persist( new Gauge( 1L, "gauge" ) );
+			session.persist( new Valve( 1L, "valve" ) );
+		} );
+
+		connectionProvider.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.get( Sensor.class, 1L );
+				session.get( Gauge.class, 1L );
+				session.get( Valve.class, 1L );
+				session.clear();
+			}
+		} );
+
+		// with room for two statements, each of the three is evicted before it is used again
+		final List<String> selects = selectStatements();
+		assertEquals( 6, selects.size() );
+		final PreparedStatement firstSensorSelect = connectionProvider.getPreparedStatements( selects.get( 0 ) ).get( 0 );
+		verify( firstSensorSelect ).close();
+	}
+
+	private List<String> selectStatements() {
+		return connectionProvider.getPreparedSQLStatements().stream()
+				.filter( sql -> sql.startsWith( "select" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Sensor() {
+		}
+
+		public Sensor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Gauge")
+	public static class Gauge {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Gauge() {
+		}
+
+		public Gauge(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Valve")
+	public static class Valve {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Valve() {
+		}
+
+		public Valve(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.readonly;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#SESSION_MEMORY_BUDGET}.
+ */
+public class SessionMemoryBudgetTest extends BaseCoreFunctionalTestCase {
+	private static final int ITEMS = 1_000;
+	private static final long BUDGET = 20_000;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.SESSION_MEMORY_BUDGET, Long.toString( BUDGET ) );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 0; id < ITEMS; id++ ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update Item set related = null" ).executeUpdate();
+			session.createQuery( "delete from Item" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			for ( long id = 0; id < ITEMS; id++ ) {
+				session.get( Item.class, id );
+				assertTrue( session.getStatistics().getEstimatedRetainedSize() <= BUDGET );
+			}
+			assertTrue( session.getStatistics().getEntityCount() < ITEMS );
+		} );
+	}
+
+	@Test
+	public void testEntitiesOfTheLastOperationAreNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			final List<Item> items = session.createQuery( "from Item", Item.class ).list();
+			for ( Item item : items ) {
+				assertTrue( session.contains( item ) );
+			}
+			session.flush();
+			assertTrue( session.getStatistics().getEstimatedRetainedSize() <= BUDGET );
+			assertFalse( session.contains( items.get( 0 ) ) );
+			assertTrue( session.contains( items.get( ITEMS - 1 ) ) );
+		} );
+	}
+
+	@Test
+	public void testModifiableEntitiesAreNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item", Item.class ).list();
+			assertEquals( ITEMS, session.getStatistics().getEntityCount() );
+			assertTrue( session.getStatistics().getEstimatedRetainedSize() > BUDGET );
+			for ( Item item : items ) {
+				item.name = "renamed";
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					Long.valueOf( ITEMS ),
+					session.createQuery( "select count(i) from Item i where i.name = 'renamed'", Long.class )
+							.uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testReferencedEntitiesAreNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Item first = session.get( Item.class, 0L );
+			final List<Item> related = new ArrayList<>();
+			session.setDefaultReadOnly( true );
+			for ( long id = 1; id < ITEMS; id++ ) {
+				final Item item = session.get( Item.class, id );
+				if ( id == 1 ) {
+					first.related = item;
+				}
+				related.add( item );
+			}
+			assertTrue( session.contains( first ) );
+			assertTrue( session.contains( related.get( 0 ) ) );
+			assertFalse( session.contains( related.get( 1 ) ) );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Item related;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
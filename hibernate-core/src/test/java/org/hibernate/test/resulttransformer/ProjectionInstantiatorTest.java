@@ -0,0 +1,344 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.resulttransformer;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.transform.AliasToBeanResultTransformer;
+import org.hibernate.transform.Transformers;
+import org.hibernate.type.LongType;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that the DTOs of HQL {@code select new} expressions and of the
+ * {@link org.hibernate.transform.AliasToBeanResultTransformer} are instantiated by generated instantiators,
+ * unless their constructor or setters are not accessible to them.
+ */
+public class ProjectionInstantiatorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String PROJECTION_INSTANTIATOR = "HibernateProjectionInstantiator";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void prepareTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 3; i++ ) {
+				session.persist( new Item( i, "name" + i, "description" + i, (int) i * 10 ) );
+			}
+		} );
+	}
+
+	@Override
+	protected void cleanupTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Item" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSelectNew() {
+		final BytecodeProvider bytecodeProvider = serviceRegistry().getService( BytecodeProvider.class );
+		final boolean generated = bytecodeProvider instanceof BytecodeProviderImpl;
+		doInHibernate( this::sessionFactory, session -> {
+			final List<ItemSummary> summaries = session.createQuery(
+					"select new " + ItemSummary.class.getName() + "(i.id, i.description, i.name, i.quantity) "
+							+ "from Item i order by i.id",
+					ItemSummary.class
+			).getResultList();
+			assertEquals( 3, summaries.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				final ItemSummary summary = summaries.get( i );
+				assertEquals( i, summary.id );
+				assertEquals( "name" + i, summary.name );
+				assertEquals( "description" + i, summary.description );
+				assertEquals( i * 10, (int) summary.quantity );
+				assertEquals( generated, summary.instantiatedBy.contains( PROJECTION_INSTANTIATOR ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAliasToBean() {
+		final BytecodeProvider bytecodeProvider = serviceRegistry().getService( BytecodeProvider.class );
+		final boolean generated = bytecodeProvider instanceof BytecodeProviderImpl;
+		doInHibernate( this::sessionFactory, session -> {
+			@SuppressWarnings("unchecked")
+			final List<ItemBean> beans = session.createQuery(
+					"select i.id as id, i.name as name, i.quantity as quantity, i.description as description "
+							+ "from Item i order by i.id"
+			).setResultTransformer( Transformers.aliasToBean( ItemBean.class ) ).list();
+			assertEquals( 3, beans.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				final ItemBean bean = beans.get( i );
+				assertEquals( i, (long) bean.id );
+				assertEquals( "name" + i, bean.name );
+				assertEquals( "description" + i, bean.description );
+				assertEquals( i * 10, bean.quantity );
+				assertEquals( generated, bean.populatedBy.contains( PROJECTION_INSTANTIATOR ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAliasToBeanCriteria() {
+		final BytecodeProvider bytecodeProvider = serviceRegistry().getService( BytecodeProvider.class );
+		final boolean generated = bytecodeProvider instanceof BytecodeProviderImpl;
+		doInHibernate( this::sessionFactory, session -> {
+			@SuppressWarnings("unchecked")
+			final List<ItemBean> beans = session.createCriteria( Item.class )
+					.setProjection( Projections.projectionList()
+							.add( Projections.property( "id" ), "id" )
+							.add( Projections.property( "name" ), "name" ) )
+					.addOrder( Order.asc( "id" ) )
+					.setResultTransformer( Transformers.aliasToBean( ItemBean.class ) )
+					.list();
+			assertEquals( 3, beans.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				final ItemBean bean = beans.get( i );
+				assertEquals( i, (long) bean.id );
+				assertEquals( "name" + i, bean.name );
+				assertEquals( generated, bean.populatedBy.contains( PROJECTION_INSTANTIATOR ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAliasToBeanWithExplicitBytecodeProvider() {
+		final BytecodeProvider bytecodeProvider = serviceRegistry().getService( BytecodeProvider.class );
+		final boolean generated = bytecodeProvider instanceof BytecodeProviderImpl;
+		doInHibernate( this::sessionFactory, session -> {
+			@SuppressWarnings("unchecked")
+			final List<ItemBean> beans = session.createNativeQuery(
+					"select i.id as \"id\", i.name as \"name\" from Item i order by i.id"
+			)
+					.addScalar( "id", LongType.INSTANCE )
+					.addScalar( "name" )
+					.setResultTransformer( new AliasToBeanResultTransformer( ItemBean.class, bytecodeProvider ) )
+					.list();
+			assertEquals( 3, beans.size() );
+			assertEquals( generated, beans.get( 0 ).populatedBy.contains( PROJECTION_INSTANTIATOR ) );
+		} );
+	}
+
+	@Test
+	public void testAliasToBeanReportsTheMismatchingProperty() {
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.createQuery( "select i.id as id, i.name as quantity from Item i" )
+						.setResultTransformer( Transformers.aliasToBean( ItemBean.class ) )
+						.list();
+				fail( "Should have thrown a PropertyAccessException" );
+			}
+			catch (Exception e) {
+				final Throwable cause = e instanceof PropertyAccessException ? e : e.getCause();
+				assertTrue( cause instanceof PropertyAccessException );
+				assertTrue( cause.getMessage().contains( ItemBean.class.getName() + ".quantity" ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAliasToBeanDoesNotCallSettersAgainWhenTheyFail() {
+		FailingItemBean.calls = 0;
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.createQuery( "select i.id as id, i.name as name from Item i" )
+						.setResultTransformer( Transformers.aliasToBean( FailingItemBean.class ) )
+						.list();
+				fail( "Should have thrown an exception" );
+			}
+			catch (Exception e) {
+				assertEquals( 1, FailingItemBean.calls );
+			}
+		} );
+	}
+
+	@Test
+	public void testAliasToBeanWithPrivateSetter() {
+		doInHibernate( this::sessionFactory, session -> {
+			@SuppressWarnings("unchecked")
+			final List<PrivateItemBean> beans = session.createQuery(
+					"select i.id as id, i.name as name from Item i order by i.id"
+			).setResultTransformer( Transformers.aliasToBean( PrivateItemBean.class ) ).list();
+			assertEquals( 3, beans.size() );
+			for ( int i = 0; i < 3; i++ ) {
+				final PrivateItemBean bean = beans.get( i );
+				assertEquals( i, (long) bean.id );
+				assertEquals( "name" + i, bean.name );
+				assertFalse( bean.populatedBy.contains( PROJECTION_INSTANTIATOR ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testInstantiatorsAreCached() {
+		final BytecodeProvider bytecodeProvider = new BytecodeProviderImpl();
+		try {
+			assertEquals(
+					bytecodeProvider.getProjectionInstantiator( ItemSummary.class.getConstructors()[0] ).getClass(),
+					bytecodeProvider.getProjectionInstantiator( ItemSummary.class.getConstructors()[0] ).getClass()
+			);
+			assertTrue(
+					bytecodeProvider.getProjectionInstantiator( ItemSummary.class.getConstructors()[0] )
+							.getClass()
+							.getName()
+							.startsWith( ItemSummary.class.getName() + "$" + PROJECTION_INSTANTIATOR )
+			);
+			// the generated class is defined in the package of the instantiated class
+			assertNull( bytecodeProvider.getProjectionInstantiator( String.class.getConstructors()[0] ) );
+		}
+		finally {
+			bytecodeProvider.resetCaches();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private String description;
+
+		private int quantity;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, String description, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+			this.quantity = quantity;
+		}
+	}
+
+	public static class ItemSummary {
+		private final long id;
+		private final String description;
+		private final String name;
+		private final Integer quantity;
+		private final String instantiatedBy;
+
+		public ItemSummary(long id, String description, String name, Integer quantity) {
+			this.id = id;
+			this.description = description;
+			this.name = name;
+			this.quantity = quantity;
+			this.instantiatedBy = new Throwable().getStackTrace()[1].getClassName();
+		}
+	}
+
+	public static class ItemBean {
+		private Long id;
+		private String name;
+		private String description;
+		private int quantity;
+		private String populatedBy;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			this.populatedBy = new Throwable().getStackTrace()[1].getClassName();
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public ItemBean setDescription(String description) {
+			this.description = description;
+			return this;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+	public static class FailingItemBean {
+		private static int calls;
+
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return null;
+		}
+
+		public void setName(String name) {
+			calls++;
+			throw new IllegalStateException( "name can't be set" );
+		}
+	}
+
+	public static class PrivateItemBean {
+		private Long id;
+		private String name;
+		private String populatedBy;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+			this.populatedBy = new Throwable().getStackTrace()[1].getClassName();
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for the JDBC batching of the inserts of a {@link StatelessSession}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class StatelessSessionBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int BATCH_SIZE = 10;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Purchase.class, AuditRecord.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf( BATCH_SIZE ) );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from AuditRecord" ).executeUpdate();
+			session.createQuery( "delete from Purchase" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedInsertsAreBatchedPerEntityType() {
+		connectionProvider.clear();
+		inStatelessTransaction( session -> {
+			long id = 0;
+			for ( int i = 0; i < BATCH_SIZE; i++ ) {
+				final Customer customer = new Customer( id++ );
+				session.insert( customer );
+				session.insert( new Purchase( id++, customer ) );
+				session.insert( new Purchase( id++, customer ) );
+			}
+		} );
+
+		// a batch of customers and one of purchases every time the purchases fill a batch
+		final List<String> inserts = insertStatements();
+		assertEquals( 4, inserts.size() );
+		assertEquals( 2L, inserts.stream().filter( sql -> sql.startsWith( "insert into Customer " ) ).count() );
+
+		inStatelessTransaction( session -> {
+			assertEquals( (long) BATCH_SIZE, session.createQuery( "select count(c) from Customer c" ).uniqueResult() );
+			assertEquals( 2L * BATCH_SIZE, session.createQuery( "select count(p) from Purchase p" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testQueuedInsertsAreVisibleToQueries() {
+		inStatelessTransaction( session -> {
+			final Customer customer = new Customer( 1L );
+			session.insert( customer );
+			session.insert( new Purchase( 2L, customer ) );
+			assertEquals( 1L, session.createQuery( "select count(p) from Purchase p" ).uniqueResult() );
+			assertEquals( customer.id, ( (Purchase) session.get( Purchase.class, 2L ) ).customer.id );
+		} );
+	}
+
+	@Test
+	public void testFlushBatch() throws SQLException {
+		inStatelessTransaction( session -> {
+			session.insert( new Customer( 1L ) );
+			connectionProvider.clear();
+			session.flushBatch();
+			assertEquals( 1, insertStatements().size() );
+		} );
+		verify( connectionProvider.getPreparedStatement( insertStatements().get( 0 ) ) ).executeBatch();
+	}
+
+	@Test
+	public void testIdentityInsertExecutesQueuedInserts() {
+		inStatelessTransaction( session -> {
+			final Customer customer = new Customer( 1L );
+			session.insert( customer );
+			// references the queued customer
+			final AuditRecord record = new AuditRecord( customer );
+			session.insert( record );
+			assertEquals( customer.id, ( (AuditRecord) session.get( AuditRecord.class, record.id ) ).customer.id );
+		} );
+	}
+
+	@Test
+	public void testQueuedInsertsAreDiscardedOnRollback() {
+		final StatelessSession session = sessionFactory().openStatelessSession();
+		try {
+			session.beginTransaction();
+			session.insert( new Customer( 1L ) );
+			session.getTransaction().rollback();
+		}
+		finally {
+			session.close();
+		}
+
+		inStatelessTransaction( s -> {
+			assertEquals( 0L, s.createQuery( "select count(c) from Customer c" ).uniqueResult() );
+		} );
+	}
+
+	private List<String> insertStatements() {
+		return connectionProvider.getPreparedSQLStatements().stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		public Customer() {
+		}
+
+		public Customer(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Customer customer;
+
+		public Purchase() {
+		}
+
+		public Purchase(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "AuditRecord")
+	public static class AuditRecord {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@ManyToOne
+		private Customer customer;
+
+		public AuditRecord() {
+		}
+
+		public AuditRecord(Customer customer) {
+			this.customer = customer;
+		}
+	}
+}
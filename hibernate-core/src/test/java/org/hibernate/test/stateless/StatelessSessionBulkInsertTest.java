@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLBulkInsertSupport;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#bulkInsert}, using the {@code COPY} encoding of PostgreSQL
+ * against a stand-in which records the commands instead of executing them.
+ */
+@RequiresDialect(H2Dialect.class)
+public class StatelessSessionBulkInsertTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final List<String> copyCommands = new ArrayList<>();
+	private static final List<String> copyData = new ArrayList<>();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class, Note.class, Sample.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DIALECT, CopyRecordingDialect.class.getName() );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Before
+	public void clearCopies() {
+		copyCommands.clear();
+		copyData.clear();
+	}
+
+	@Test
+	public void testRowsAreLoadedThroughCopy() {
+		inStatelessTransaction( session -> {
+			final List<Measurement> measurements = new ArrayList<>();
+			measurements.add( new Measurement( "plain", new BigDecimal( "1E+2" ), true, new byte[] { 1, (byte) 0xAB } ) );
+			measurements.add( new Measurement( "tab\there\\back\nline", null, false, null ) );
+
+			assertEquals( 2L, session.bulkInsert( measurements.stream() ) );
+			assertNotNull( measurements.get( 0 ).id );
+			assertNotNull( measurements.get( 1 ).id );
+
+			assertEquals( 1, copyCommands.size() );
+			assertEquals( "copy Measurement (flag, label, payload, reading, id) from stdin", copyCommands.get( 0 ) );
+			assertEquals(
+					"t\tplain\t\\\\x01ab\t100\t" + measurements.get( 0 ).id + "\n"
+							+ "f\ttab\\there\\\\back\\nline\t\\N\t\\N\t" + measurements.get( 1 ).id + "\n",
+					copyData.get( 0 )
+			);
+		} );
+	}
+
+	@Test
+	public void testRowsAreLoadedInChunks() {
+		inStatelessTransaction( session -> {
+			final long count = session.bulkInsert(
+					IntStream.range( 0, 2500 ).mapToObj( i -> new Measurement( "m" + i, null, false, null ) )
+			);
+			assertEquals( 2500L, count );
+			assertEquals( 3, copyCommands.size() );
+		} );
+	}
+
+	@Test
+	public void testFallbackToInserts() {
+		inStatelessTransaction( session -> {
+			final long count = session.bulkInsert(
+					Note.class.getName(),
+					Stream.of( new Note( "a" ), new Note( "b" ), new Note( "c" ) )
+			);
+			assertEquals( 3L, count );
+			assertEquals( 0, copyCommands.size() );
+			assertEquals( 3L, session.createQuery( "select count(n) from Note n" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testFallbackToInsertsForValuesWithoutCopyEncoding() {
+		inStatelessTransaction( session -> {
+			final Calendar takenAt = Calendar.getInstance();
+			final long count = session.bulkInsert(
+					Stream.of(
+							new Sample( "a", null ),
+							new Sample( "b", null ),
+							new Sample( "c", takenAt ),
+							new Sample( "d", null )
+					)
+			);
+			assertEquals( 4L, count );
+			// the rows preceding the one bound with a Calendar are loaded through COPY, the next ones inserted
+			assertEquals( 1, copyCommands.size() );
+			assertEquals( 2L, copyData.get( 0 ).chars().filter( c -> c == '\n' ).count() );
+			assertEquals(
+					Arrays.asList( "c", "d" ),
+					session.createQuery( "select s.label from Sample s order by s.label" ).list()
+			);
+		} );
+	}
+
+	public static class CopyRecordingDialect extends H2Dialect {
+		@Override
+		public BulkInsertSupport getBulkInsertSupport() {
+			return new PostgreSQLBulkInsertSupport() {
+				@Override
+				public boolean supportsBulkInsert(Connection connection) {
+					return true;
+				}
+
+				@Override
+				protected long copyIn(Connection connection, String sql, Reader reader) {
+					final StringWriter data = new StringWriter();
+					try {
+						final char[] chars = new char[7];
+						int read;
+						while ( ( read = reader.read( chars ) ) != -1 ) {
+							data.write( chars, 0, read );
+						}
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException( e );
+					}
+					copyCommands.add( sql );
+					copyData.add( data.toString() );
+					return data.toString().chars().filter( c -> c == '\n' ).count();
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "measurement_seq")
+		@SequenceGenerator(name = "measurement_seq", allocationSize = 50)
+		private Long id;
+
+		private String label;
+
+		private BigDecimal reading;
+
+		private boolean flag;
+
+		private byte[] payload;
+
+		public Measurement() {
+		}
+
+		public Measurement(String label, BigDecimal reading, boolean flag, byte[] payload) {
+			this.label = label;
+			this.reading = reading;
+			this.flag = flag;
+			this.payload = payload;
+		}
+	}
+
+	@Entity(name = "Sample")
+	public static class Sample {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sample_seq")
+		@SequenceGenerator(name = "sample_seq", allocationSize = 50)
+		private Long id;
+
+		private String label;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Calendar takenAt;
+
+		public Sample() {
+		}
+
+		public Sample(String label, Calendar takenAt) {
+			this.label = label;
+			this.takenAt = takenAt;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.Date;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.stat.SessionStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link SessionStatistics#getEstimatedLoadedStateSize()}.
+ */
+public class LoadedStateSizeTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Document.class };
+	}
+
+	@Before
+	public void createData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Document( 1L, "title", 1_000L, new Date(), new byte[8] ) );
+		} );
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Document" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testImmutableValuesAreShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Document.class, 1L );
+			// the array itself, the boxed primitive, the copied timestamp and the copied bytes,
+			// but not the string which is shared with the entity
+			assertEquals( 32 + 24 + 24 + 24, session.getStatistics().getEstimatedLoadedStateSize() );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesHaveNoSnapshot() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			session.get( Document.class, 1L );
+			assertEquals( 1, session.getStatistics().getEntityCount() );
+			assertEquals( 0, session.getStatistics().getEstimatedLoadedStateSize() );
+		} );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private long wordCount;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date created;
+
+		private byte[] digest;
+
+		public Document() {
+		}
+
+		public Document(Long id, String title, long wordCount, Date created, byte[] digest) {
+			this.id = id;
+			this.title = title;
+			this.wordCount = wordCount;
+			this.created = created;
+			this.digest = digest;
+		}
+	}
+}
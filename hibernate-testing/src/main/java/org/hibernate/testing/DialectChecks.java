@@ -289,4 +289,10 @@ abstract public class DialectChecks {
 			);
 		}
 	}
+
+	public static class SupportsArrayParameters implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsArrayParameters();
+		}
+	}
 }